@@ -48,7 +48,7 @@ public class ContentResponseDTO {
     @Schema(description = "태그 (쉼표로 구분)")
     private String tags;
 
-    @Schema(description = "분석 상태 (Q: 대기중, P: 분석중, C: 완료, F: 실패)")
+    @Schema(description = "분석 상태 (Q: 대기중, P: 분석중, S: 부분 완료, C: 완료, F: 실패)")
     private String processStatus;
 
     @Schema(description = "분석 결과 데이터 (JSON 형식)")
@@ -67,7 +67,7 @@ public class ContentResponseDTO {
     private String deleteYn;
 
     /**
-     * 처리 상태 코드(Q, P, C, F)를 읽기 쉬운 텍스트로 변환
+     * 처리 상태 코드(Q, P, S, C, F)를 읽기 쉬운 텍스트로 변환
      *
      * @return String - 처리 상태 텍스트
      */
@@ -82,6 +82,8 @@ public class ContentResponseDTO {
                 return "대기중";
             case "P":
                 return "분석중";
+            case "S":
+                return "부분 완료";
             case "C":
                 return "완료";
             case "F":
@@ -46,7 +46,7 @@ public class ContentResponseWithTaskDTO {
     @Schema(description = "태그 (쉼표로 구분)")
     private String tags;
 
-    @Schema(description = "분석 상태 (Q: 대기중, P: 분석중, C: 완료, F: 실패)")
+    @Schema(description = "분석 상태 (Q: 대기중, P: 분석중, S: 부분 완료, C: 완료, F: 실패)")
     private String processStatus;
 
     @Schema(description = "분석 결과 데이터 (JSON 형식)")
@@ -80,6 +80,8 @@ public class ContentResponseWithTaskDTO {
                 return "대기중";
             case "P":
                 return "분석중";
+            case "S":
+                return "부분 완료";
             case "C":
                 return "완료";
             case "F":
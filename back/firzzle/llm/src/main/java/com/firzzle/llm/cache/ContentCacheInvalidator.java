@@ -0,0 +1,57 @@
+package com.firzzle.llm.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.kafka.producer.SseEventProducer;
+import com.firzzle.llm.sse.SseEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 콘텐츠 단위 인메모리 캐시(러닝챗 답변, 키워드 색인, 벡터 색인) 무효화
+ * - 이 인스턴스의 캐시를 바로 비우고, 클러스터 모드(app.sse.cluster.enabled)면 SSE 브로드캐스트 토픽으로 다른 인스턴스에도 무효화를 전파합니다.
+ * - 전파된 이벤트는 SseEventConsumer가 받아 evictLocal로 처리합니다. (발행한 인스턴스도 한 번 더 비우지만 무해)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentCacheInvalidator {
+
+    private final SemanticAnswerCache semanticAnswerCache;
+    private final LexicalIndexCache lexicalIndexCache;
+    private final HotVectorCache hotVectorCache;
+    private final SseEventProducer sseEventProducer;
+
+    @Value("${app.sse.cluster.enabled:true}")
+    private boolean clusterEnabled;
+
+    /**
+     * 모든 인스턴스에서 콘텐츠의 캐시를 무효화합니다. (재등록 등으로 스크립트/요약이 바뀐 경우)
+     */
+    public void evict(Long contentSeq) {
+        evictLocal(contentSeq);
+        if (!clusterEnabled) {
+            return; // 단일 인스턴스: 전파할 대상이 없음
+        }
+        try {
+            sseEventProducer.send(SseEvent.builder()
+                    .type(SseEvent.TYPE_CACHE_EVICT)
+                    .data(contentSeq)
+                    .build());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스의 캐시는 TTL 만료나 LRU 제거 전까지 이전 값을 사용할 수 있음
+            log.warn("⚠️ 캐시 무효화 전파 실패: contentSeq={}, error={}", contentSeq, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 인스턴스의 캐시만 무효화합니다.
+     */
+    public void evictLocal(Long contentSeq) {
+        semanticAnswerCache.evict(contentSeq);
+        lexicalIndexCache.evict(contentSeq);
+        hotVectorCache.evict(contentSeq);
+    }
+}
@@ -0,0 +1,208 @@
+package com.firzzle.llm.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.client.LocalVectorDbClient;
+import com.firzzle.llm.client.VectorDbClient;
+import com.firzzle.llm.domain.VectorPoint;
+import com.firzzle.llm.dto.QdrantPointDTO;
+import com.firzzle.llm.dto.QdrantSearchRequestDTO;
+import com.firzzle.llm.util.QdrantCollections;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 러닝챗 스크립트 벡터 hot cache
+ * - 짧은 시간에 여러 번 질문된 콘텐츠(contentSeq)의 스크립트 벡터를 메모리 HNSW 색인({@link LocalVectorDbClient})에 적재
+ * - 적재된 콘텐츠의 벡터 검색은 Qdrant HTTP 호출 없이 메모리에서 처리
+ * - LRU 방식의 크기 제한 (contentSeq 수), 재등록 시 무효화
+ * - 벡터 DB 자체가 로컬 색인(app.vector-db.type=local)이면 사용하지 않음
+ */
+@Slf4j
+@Component
+public class HotVectorCache {
+
+    private final VectorDbClient vectorDbClient;
+
+    @Value("${app.vector-db.hot-tier.enabled:true}")
+    private boolean enabled;
+
+    // 이 횟수 이상 검색된 콘텐츠를 메모리 색인에 적재
+    @Value("${app.vector-db.hot-tier.min-hits:3}")
+    private int minHits;
+
+    @Value("${app.vector-db.hot-tier.max-contents:200}")
+    private int maxContents;
+
+    @Value("${app.rag.lexical.max-chunks:1000}")
+    private int maxChunks;
+
+    @Value("${app.vector-db.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${app.vector-db.hnsw.ef-construction:100}")
+    private int hnswEfConstruction;
+
+    @Value("${app.vector-db.hnsw.ef-search:64}")
+    private int hnswEfSearch;
+
+    @Value("${app.vector-db.hnsw.brute-force-threshold:256}")
+    private int bruteForceThreshold;
+
+    private LocalVectorDbClient local;
+
+    // contentSeq -> 적재 상태 (access-order LRU)
+    private final LinkedHashMap<Long, State> contents = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private static class State {
+        private int hits;
+        private boolean loading;
+        private volatile boolean loaded;
+    }
+
+    public HotVectorCache(VectorDbClient vectorDbClient, MeterRegistry meterRegistry) {
+        this.vectorDbClient = vectorDbClient;
+        this.hitCounter = Counter.builder("llm.vector.hot-tier.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("llm.vector.hot-tier.requests").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("llm.vector.hot-tier.contents", this, HotVectorCache::loadedCount);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (vectorDbClient instanceof LocalVectorDbClient) {
+            enabled = false;
+        }
+        if (enabled) {
+            local = new LocalVectorDbClient(hnswM, hnswEfConstruction, hnswEfSearch, bruteForceThreshold);
+        }
+    }
+
+    /**
+     * 스크립트 벡터 검색을 메모리 색인에서 처리할 수 있으면 검색 결과를, 아니면 empty를 반환합니다.
+     * 적재되지 않은 콘텐츠는 검색 횟수를 기록하고, 기준 이상이면 백그라운드로 적재를 시작합니다.
+     *
+     * @param contentSeq 콘텐츠 번호
+     * @param request contentSeq 필터를 포함한 검색 요청
+     */
+    public Mono<List<QdrantPointDTO>> search(Long contentSeq, QdrantSearchRequestDTO request) {
+        if (!enabled) return Mono.empty();
+
+        boolean startLoading = false;
+        synchronized (this) {
+            State state = contents.computeIfAbsent(contentSeq, k -> new State());
+            if (state.loaded) {
+                hitCounter.increment();
+                return local.searchPoints(QdrantCollections.SCRIPT, request);
+            }
+            state.hits++;
+            if (state.hits >= minHits && !state.loading) {
+                state.loading = true;
+                startLoading = true;
+            }
+            evictOverflow();
+        }
+
+        missCounter.increment();
+        if (startLoading) {
+            load(contentSeq);
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * 콘텐츠를 메모리 색인에서 제거합니다. (재등록 등으로 스크립트 벡터가 바뀐 경우)
+     */
+    public void evict(Long contentSeq) {
+        if (!enabled) return;
+        synchronized (this) {
+            contents.remove(contentSeq);
+        }
+        unload(contentSeq);
+    }
+
+    public synchronized int loadedCount() {
+        return (int) contents.values().stream().filter(state -> state.loaded).count();
+    }
+
+    private void load(Long contentSeq) {
+        Map<String, Object> body = Map.of(
+            "limit", maxChunks,
+            "with_vector", true,
+            "with_payload", true,
+            "filter", QdrantSearchRequestDTO.contentSeqFilter("must", contentSeq)
+        );
+
+        vectorDbClient.scrollPoints(QdrantCollections.SCRIPT, body)
+            .flatMap(points -> {
+                List<VectorPoint> vectorPoints = points.stream()
+                    .filter(point -> point.getVector() != null)
+                    .map(point -> VectorPoint.builder()
+                        .collection(QdrantCollections.SCRIPT)
+                        .id(((Number) point.getId()).longValue())
+                        .vector(point.getVector())
+                        .payload(point.getPayload())
+                        .build())
+                    .collect(Collectors.toList());
+                return local.upsertPoints(QdrantCollections.SCRIPT, vectorPoints).thenReturn(vectorPoints.size());
+            })
+            .subscribe(
+                count -> {
+                    boolean stale;
+                    synchronized (this) {
+                        State state = contents.get(contentSeq);
+                        stale = state == null || !state.loading;
+                        if (!stale) {
+                            state.loading = false;
+                            state.loaded = true;
+                        }
+                    }
+                    if (stale) {
+                        // 적재 중에 무효화/밀려난 콘텐츠는 다시 제거
+                        unload(contentSeq);
+                    } else {
+                        log.info("🔥 스크립트 벡터 hot cache 적재: contentSeq={}, points={}", contentSeq, count);
+                    }
+                },
+                e -> {
+                    synchronized (this) {
+                        State state = contents.get(contentSeq);
+                        if (state != null) {
+                            state.loading = false;
+                            state.hits = 0;
+                        }
+                    }
+                    log.warn("⚠️ 스크립트 벡터 hot cache 적재 실패: contentSeq={}, error={}", contentSeq, e.getMessage());
+                }
+            );
+    }
+
+    private void unload(Long contentSeq) {
+        local.deletePoints(QdrantCollections.SCRIPT, QdrantSearchRequestDTO.contentSeqFilter("must", contentSeq))
+            .subscribe();
+    }
+
+    private void evictOverflow() {
+        while (contents.size() > maxContents) {
+            Iterator<Map.Entry<Long, State>> it = contents.entrySet().iterator();
+            Map.Entry<Long, State> eldest = it.next();
+            it.remove();
+            if (eldest.getValue().loaded) {
+                unload(eldest.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.firzzle.llm.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.client.VectorDbClient;
+import com.firzzle.llm.dto.QdrantPointDTO;
+import com.firzzle.llm.util.Bm25Index;
+import com.firzzle.llm.util.QdrantCollections;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 러닝챗 키워드 검색용 BM25 색인 캐시
+ * - contentSeq별로 등록 시 저장된 스크립트 구간(SCRIPT 컬렉션 payload.content)을 한 번 scroll하여 색인 생성
+ * - 같은 contentSeq에 대한 동시 요청은 하나의 로딩을 공유
+ * - LRU 방식의 크기 제한 (contentSeq 수), 재등록 시 무효화
+ */
+@Slf4j
+@Component
+public class LexicalIndexCache {
+
+    private final VectorDbClient vectorDbClient;
+
+    @Value("${app.rag.lexical.max-contents:500}")
+    private int maxContents;
+
+    @Value("${app.rag.lexical.max-chunks:1000}")
+    private int maxChunks;
+
+    // contentSeq -> 색인 로딩 결과 (access-order LRU)
+    private final LinkedHashMap<Long, Mono<Bm25Index>> indexes = new LinkedHashMap<>(16, 0.75f, true);
+
+    public LexicalIndexCache(VectorDbClient vectorDbClient, MeterRegistry meterRegistry) {
+        this.vectorDbClient = vectorDbClient;
+        meterRegistry.gauge("llm.rag.lexical.cache.size", this, LexicalIndexCache::size);
+    }
+
+    /**
+     * contentSeq의 BM25 색인을 반환합니다. 없으면 Qdrant에서 스크립트 구간을 읽어 생성합니다.
+     */
+    public synchronized Mono<Bm25Index> get(Long contentSeq) {
+        Mono<Bm25Index> cached = indexes.get(contentSeq);
+        if (cached != null) return cached;
+
+        Mono<Bm25Index> loading = load(contentSeq)
+            .doOnError(e -> remove(contentSeq))
+            .cache();
+        indexes.put(contentSeq, loading);
+
+        if (indexes.size() > maxContents) {
+            Iterator<Long> it = indexes.keySet().iterator();
+            it.next();
+            it.remove();
+        }
+        return loading;
+    }
+
+    /**
+     * 콘텐츠의 색인을 무효화합니다. (재등록 등으로 스크립트 구간이 바뀐 경우)
+     */
+    public synchronized void evict(Long contentSeq) {
+        if (indexes.remove(contentSeq) != null) {
+            log.info("🧹 키워드 색인 무효화: contentSeq={}", contentSeq);
+        }
+    }
+
+    public synchronized int size() {
+        return indexes.size();
+    }
+
+    private synchronized void remove(Long contentSeq) {
+        indexes.remove(contentSeq);
+    }
+
+    private Mono<Bm25Index> load(Long contentSeq) {
+        Map<String, Object> body = Map.of(
+            "limit", maxChunks,
+            "with_vector", false,
+            "with_payload", List.of("content"),
+            "filter", Map.of(
+                "must", List.of(
+                    Map.of("key", "contentSeq", "match", Map.of("value", contentSeq))
+                )
+            )
+        );
+
+        return vectorDbClient.scrollPoints(QdrantCollections.SCRIPT, body)
+            .map(points -> {
+                Map<String, String> documents = new LinkedHashMap<>();
+                for (QdrantPointDTO point : points) {
+                    Object content = point.getPayload() != null ? point.getPayload().get("content") : null;
+                    if (content != null && !content.toString().isBlank()) {
+                        documents.put(String.valueOf(point.getId()), content.toString());
+                    }
+                }
+                Bm25Index index = Bm25Index.build(documents);
+                log.info("📚 키워드 색인 생성: contentSeq={}, chunks={}", contentSeq, index.size());
+                return index;
+            });
+    }
+}
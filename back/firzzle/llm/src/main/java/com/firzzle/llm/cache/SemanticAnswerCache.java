@@ -0,0 +1,201 @@
+package com.firzzle.llm.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.util.HashUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 러닝챗 시맨틱 답변 캐시
+ * - contentSeq별로 (질문 벡터, 답변, 컨텍스트 해시)를 저장
+ * - 같은 콘텐츠에서 질문 벡터의 코사인 유사도가 임계값 이상이면 캐시된 답변을 반환 (벡터 검색과 LLM 호출 모두 생략)
+ * - 컨텍스트 해시는 답변 생성 당시의 검색 결과 기록용 (조회 키에는 포함하지 않음, 스크립트가 바뀌면 contentSeq 단위로 무효화)
+ * - 이전 대화가 프롬프트에 포함되는 질문은 호출 측에서 캐시를 사용하지 않음 (사용자/대화별로 답변이 달라짐)
+ * - contentSeq 단위로 락을 잡아 서로 다른 콘텐츠 조회는 동시에 처리
+ * - TTL 만료 및 LRU 방식의 크기 제한 (contentSeq 수, contentSeq당 항목 수)
+ */
+@Slf4j
+@Component
+public class SemanticAnswerCache {
+
+    @Value("${app.chat-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.chat-cache.similarity-threshold:0.95}")
+    private double similarityThreshold;
+
+    @Value("${app.chat-cache.ttl:21600000}")
+    private long ttlMillis;
+
+    @Value("${app.chat-cache.max-entries-per-content:200}")
+    private int maxEntriesPerContent;
+
+    @Value("${app.chat-cache.max-contents:1000}")
+    private int maxContents;
+
+    // contentSeq -> 콘텐츠별 캐시
+    private final Map<Long, ContentCache> caches = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SemanticAnswerCache(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder("llm.chat.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("llm.chat.cache.requests").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("llm.chat.cache.size", this, SemanticAnswerCache::size);
+    }
+
+    /**
+     * 같은 콘텐츠의 유사한 질문에 대해 캐시된 답변을 조회합니다. (벡터 검색 전에 호출)
+     *
+     * @param contentSeq 콘텐츠 번호
+     * @param questionVector 질문 임베딩 벡터
+     * @return 캐시된 답변 (없으면 empty)
+     */
+    public Optional<String> get(Long contentSeq, Vector questionVector) {
+        if (!enabled) return Optional.empty();
+
+        ContentCache cache = caches.get(contentSeq);
+        Optional<Entry> entry = cache != null
+                ? cache.find(questionVector, System.currentTimeMillis())
+                : Optional.empty();
+
+        if (entry.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        log.info("💡 러닝챗 캐시 적중: contentSeq={}, contextHash={}", contentSeq, entry.get().contextHash.substring(0, 12));
+        return Optional.of(entry.get().answer);
+    }
+
+    /**
+     * 질문 벡터와 답변을 캐시에 저장합니다.
+     *
+     * @param contentSeq 콘텐츠 번호
+     * @param context 답변 생성에 사용된 컨텍스트 (해시만 함께 저장)
+     * @param questionVector 질문 임베딩 벡터
+     * @param answer LLM 답변
+     */
+    public void put(Long contentSeq, String context, Vector questionVector, String answer) {
+        if (!enabled || answer == null || answer.isBlank()) return;
+
+        ContentCache cache = caches.computeIfAbsent(contentSeq, k -> new ContentCache());
+        cache.add(HashUtil.sha256Hex(context), questionVector, answer, System.currentTimeMillis());
+
+        if (caches.size() > maxContents) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * 콘텐츠의 캐시를 무효화합니다. (재등록 등으로 컨텍스트가 바뀐 경우)
+     */
+    public void evict(Long contentSeq) {
+        if (caches.remove(contentSeq) != null) {
+            log.info("🧹 러닝챗 캐시 무효화: contentSeq={}", contentSeq);
+        }
+    }
+
+    /**
+     * 전체 캐시 항목 수
+     */
+    public int size() {
+        return caches.values().stream().mapToInt(ContentCache::size).sum();
+    }
+
+    // 가장 오래 사용되지 않은 콘텐츠 캐시 제거 (새 콘텐츠가 추가될 때만 호출)
+    private void evictLeastRecentlyUsed() {
+        Long eldest = null;
+        long eldestAccess = Long.MAX_VALUE;
+        for (Map.Entry<Long, ContentCache> entry : caches.entrySet()) {
+            if (entry.getValue().lastAccessedAt < eldestAccess) {
+                eldest = entry.getKey();
+                eldestAccess = entry.getValue().lastAccessedAt;
+            }
+        }
+        if (eldest != null) {
+            caches.remove(eldest);
+        }
+    }
+
+    /**
+     * 콘텐츠 하나의 캐시 항목 (콘텐츠 단위 락, 항목 수가 작아 전수 비교)
+     */
+    private class ContentCache {
+        // 항목 ID -> 항목 (access-order LRU)
+        private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long entrySeq = 0;
+        private volatile long lastAccessedAt = System.currentTimeMillis();
+
+        synchronized Optional<Entry> find(Vector questionVector, long now) {
+            lastAccessedAt = now;
+
+            Entry best = null;
+            double bestScore = similarityThreshold;
+            for (Entry entry : new ArrayList<>(entries.values())) {
+                if (now - entry.createdAt > ttlMillis) {
+                    entries.remove(entry.id);
+                    continue;
+                }
+                double score = entry.questionVector.cosine(questionVector);
+                if (score >= bestScore) {
+                    best = entry;
+                    bestScore = score;
+                }
+            }
+            if (best == null) return Optional.empty();
+
+            entries.get(best.id); // LRU 순서 갱신
+            return Optional.of(best);
+        }
+
+        synchronized void add(String contextHash, Vector questionVector, String answer, long now) {
+            lastAccessedAt = now;
+
+            // 거의 동일한 질문은 새 답변으로 교체
+            entries.values().removeIf(entry -> entry.questionVector.cosine(questionVector) >= similarityThreshold);
+
+            Entry entry = new Entry(++entrySeq, contextHash, questionVector, answer, now);
+            entries.put(entry.id, entry);
+
+            if (entries.size() > maxEntriesPerContent) {
+                Iterator<Entry> it = entries.values().iterator();
+                it.next();
+                it.remove();
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static class Entry {
+        private final long id;
+        private final String contextHash;
+        private final Vector questionVector;
+        private final String answer;
+        private final long createdAt;
+
+        Entry(long id, String contextHash, Vector questionVector, String answer, long createdAt) {
+            this.id = id;
+            this.contextHash = contextHash;
+            this.questionVector = questionVector;
+            this.answer = answer;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -1,9 +1,105 @@
 package com.firzzle.llm.client;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+import org.springframework.util.backoff.FixedBackOff;
+
+import com.firzzle.llm.kafka.consumer.SttConvertedConsumer.PipelineStartException;
+import com.firzzle.llm.kafka.consumer.SttConvertedConsumer.SlotUnavailableException;
 
 @Configuration
 @EnableKafka
 public class KafkaConfig {
+
+    /**
+     * stt-converted 전용 리스너 컨테이너
+     * - 파티션 단위 동시 소비(concurrency)
+     * - 요약 파이프라인 완료 후 수동 ack (비동기 ack 허용, 처리 중 장애 시 재전달)
+     * - 처리 한도 초과 시 pause 즉시 적용
+     * - 실패 메시지를 DLQ 토픽/테이블 어디에도 보관하지 못해 예외가 나면 같은 메시지를 간격을 늘려가며 재전달
+     * - 처리 슬롯이 없어 거절한 메시지는 포기하지 않고 1초 간격으로 재전달
+     * - 파이프라인을 시작하지 못한 메시지(실행기 포화 등)도 포기하지 않고 최대 30초 간격으로 재전달
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> sttConvertedListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            @Value("${app.kafka.stt-converted.concurrency:3}") int concurrency) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(concurrency);
+
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setAsyncAcks(true);
+        containerProperties.setPauseImmediate(true);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(redeliveryBackOff());
+        errorHandler.setBackOffFunction((record, e) -> {
+            if (hasCause(e, SlotUnavailableException.class)) return slotWaitBackOff();
+            if (hasCause(e, PipelineStartException.class)) return pipelineStartBackOff();
+            return null;
+        });
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+
+    /**
+     * 재시도 토픽/DLQ 리스너 컨테이너
+     * - 지연 시간 전의 메시지나 전송/저장에 실패한 메시지는 nack(sleep)으로 파티션을 잠시 멈추므로 동기 수동 ack 사용
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> retryListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * SSE 이벤트 브로드캐스트 소비 그룹 id에 쓰는 인스턴스 식별자
+     * - 재시작해도 같은 그룹을 쓰도록 설정값(app.sse.cluster.instance-id), 없으면 호스트 이름 사용
+     *   (실행마다 새 그룹을 만들면 브로커에 빈 소비 그룹이 계속 남음)
+     */
+    @Bean
+    public String sseClusterInstanceId(@Value("${app.sse.cluster.instance-id:}") String instanceId) throws UnknownHostException {
+        return instanceId.isBlank() ? InetAddress.getLocalHost().getHostName() : instanceId;
+    }
+
+    // 처리 슬롯 대기: 1초 간격, 횟수 제한 없음
+    private FixedBackOff slotWaitBackOff() {
+        return new FixedBackOff(1000L, FixedBackOff.UNLIMITED_ATTEMPTS);
+    }
+
+    // 1초부터 최대 30초 간격, 횟수 제한 없이 재전달
+    private ExponentialBackOff pipelineStartBackOff() {
+        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
+        backOff.setMaxInterval(30000L);
+        return backOff;
+    }
+
+    // 리스너 예외는 ListenerExecutionFailedException 등으로 감싸져 전달되므로 원인까지 확인
+    private boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (type.isInstance(t)) return true;
+        }
+        return false;
+    }
+
+    // 1초부터 최대 30초 간격, 10분 동안 재전달 후 포기
+    private ExponentialBackOff redeliveryBackOff() {
+        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
+        backOff.setMaxInterval(30000L);
+        backOff.setMaxElapsedTime(600000L);
+        return backOff;
+    }
 }
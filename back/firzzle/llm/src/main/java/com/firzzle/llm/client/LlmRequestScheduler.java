@@ -0,0 +1,311 @@
+package com.firzzle.llm.client;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.domain.LlmSchedulerProperties;
+import com.firzzle.llm.domain.ModelType;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * OpenAI 요청 스케줄러
+ * - 모델별 동시 요청 수, 분당 요청 수(RPM), 분당 토큰 수(TPM) 한도 적용
+ * - 대화형 요청(LEARNINGCHAT)을 배치 요청(SUMMARY/TIMELINE)보다 우선 처리
+ * - 429 응답 시 응답 헤더(retry-after, x-ratelimit-reset-*) 기준으로 모델 전체를 일시 정지
+ * - 대기열 길이, 대기 시간, 처리 중 요청 수를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class LlmRequestScheduler {
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|s|m|h)");
+
+    private final LlmSchedulerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ModelLane> lanes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "llm-scheduler");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LlmRequestScheduler(LlmSchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 모델의 예산이 허용될 때 실행 권한(Permit)을 발급합니다.
+     * 발급받은 Permit은 요청이 끝나면 반드시 release 해야 합니다.
+     *
+     * @param modelType 요청 유형 (우선순위 결정)
+     * @param model 모델명
+     * @param estimatedTokens 요청의 예상 토큰 수 (프롬프트 + 최대 응답)
+     */
+    public Mono<Permit> acquire(ModelType modelType, String model, int estimatedTokens) {
+        ModelLane lane = lanes.computeIfAbsent(model, this::createLane);
+        int priority = modelType == ModelType.LEARNINGCHAT ? 0 : 1;
+
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(priority, sequence.incrementAndGet(), estimatedTokens, modelType, sink);
+            synchronized (lane) {
+                lane.queue.add(waiter);
+            }
+            sink.onCancel(() -> {
+                synchronized (lane) {
+                    lane.queue.remove(waiter);
+                }
+            });
+            dispatch(lane);
+        });
+    }
+
+    /**
+     * 429 응답을 받은 모델을 응답 헤더가 지정한 시간(없으면 지수 백오프)만큼 일시 정지합니다.
+     *
+     * @param model 모델명
+     * @param headers 429 응답 헤더
+     * @param attempt 재시도 횟수 (1부터)
+     */
+    public void pauseOnRateLimit(String model, HttpHeaders headers, long attempt) {
+        long delayMillis = resolveRetryDelay(headers, attempt);
+        ModelLane lane = lanes.computeIfAbsent(model, this::createLane);
+        synchronized (lane) {
+            lane.pausedUntil = Math.max(lane.pausedUntil, System.currentTimeMillis() + delayMillis);
+        }
+        log.warn("⏸️ OpenAI 429 수신, 모델 일시 정지: model={}, delay={}ms, attempt={}", model, delayMillis, attempt);
+    }
+
+    public int getMaxRetries() {
+        return properties.getMaxRetries();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private ModelLane createLane(String model) {
+        ModelLane lane = new ModelLane(model, properties.budgetOf(model));
+        Gauge.builder("llm.scheduler.queue.depth", lane, l -> l.queueSize()).tag("model", model).register(meterRegistry);
+        Gauge.builder("llm.scheduler.in.flight", lane, l -> l.inFlightCount()).tag("model", model).register(meterRegistry);
+        return lane;
+    }
+
+    /**
+     * 예산이 허용하는 만큼 대기열의 요청을 우선순위 순서대로 실행합니다.
+     * 예산이 부족하면 필요한 시간 뒤에 다시 시도하도록 예약합니다.
+     */
+    private void dispatch(ModelLane lane) {
+        synchronized (lane) {
+            long now = System.currentTimeMillis();
+            lane.refill(now);
+
+            while (!lane.queue.isEmpty()) {
+                if (now < lane.pausedUntil) {
+                    scheduleDispatch(lane, lane.pausedUntil - now);
+                    return;
+                }
+                if (lane.inFlight >= lane.budget.getMaxConcurrency()) {
+                    return; // release 시 다시 dispatch
+                }
+
+                Waiter head = lane.queue.peek();
+                double tokens = Math.min(head.tokens, lane.budget.getTokensPerMinute());
+                long waitMillis = lane.millisUntilAvailable(tokens);
+                if (waitMillis > 0) {
+                    scheduleDispatch(lane, waitMillis);
+                    return;
+                }
+
+                lane.queue.poll();
+                lane.requestAllowance -= 1;
+                lane.tokenAllowance -= tokens;
+                lane.inFlight++;
+
+                Timer.builder("llm.scheduler.wait")
+                    .tag("model", lane.model)
+                    .tag("type", head.modelType.name())
+                    .register(meterRegistry)
+                    .record(now - head.enqueuedAt, TimeUnit.MILLISECONDS);
+
+                head.sink.success(new Permit(this, lane));
+            }
+        }
+    }
+
+    private void scheduleDispatch(ModelLane lane, long delayMillis) {
+        if (lane.dispatchScheduled) return;
+        lane.dispatchScheduled = true;
+        timer.schedule(() -> {
+            synchronized (lane) {
+                lane.dispatchScheduled = false;
+            }
+            dispatch(lane);
+        }, Math.max(delayMillis, 1), TimeUnit.MILLISECONDS);
+    }
+
+    private void release(ModelLane lane) {
+        synchronized (lane) {
+            lane.inFlight--;
+        }
+        dispatch(lane);
+    }
+
+    /**
+     * 429 응답 헤더에서 재시도 대기 시간을 계산합니다.
+     * retry-after-ms, retry-after(초), x-ratelimit-reset-requests/tokens("1s", "6m0s", "20ms") 중 가장 긴 값을 사용합니다.
+     */
+    private long resolveRetryDelay(HttpHeaders headers, long attempt) {
+        long delay = 0;
+        if (headers != null) {
+            delay = Math.max(delay, parseMillis(headers.getFirst("retry-after-ms"), 1));
+            delay = Math.max(delay, parseMillis(headers.getFirst("retry-after"), 1000));
+            delay = Math.max(delay, parseDuration(headers.getFirst("x-ratelimit-reset-requests")));
+            delay = Math.max(delay, parseDuration(headers.getFirst("x-ratelimit-reset-tokens")));
+        }
+        if (delay <= 0) {
+            delay = 1000L << Math.min(attempt - 1, 5); // 1s, 2s, 4s ...
+        }
+        return Math.min(delay, 60000);
+    }
+
+    private long parseMillis(String value, long unitMillis) {
+        if (value == null) return 0;
+        try {
+            return (long) (Double.parseDouble(value.trim()) * unitMillis);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private long parseDuration(String value) {
+        if (value == null) return 0;
+        Matcher matcher = DURATION_PART.matcher(value);
+        double millis = 0;
+        while (matcher.find()) {
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "ms" -> amount;
+                case "s" -> amount * 1000;
+                case "m" -> amount * 60000;
+                default -> amount * 3600000;
+            };
+        }
+        return (long) millis;
+    }
+
+    /**
+     * 요청 실행 권한. 요청이 끝나면 release 해야 다음 요청이 실행됩니다.
+     */
+    public static class Permit {
+        private final LlmRequestScheduler scheduler;
+        private final ModelLane lane;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(LlmRequestScheduler scheduler, ModelLane lane) {
+            this.scheduler = scheduler;
+            this.lane = lane;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                scheduler.release(lane);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 요청 (우선순위 → 도착 순)
+     */
+    private static class Waiter implements Comparable<Waiter> {
+        private final int priority;
+        private final long seq;
+        private final int tokens;
+        private final ModelType modelType;
+        private final MonoSink<Permit> sink;
+        private final long enqueuedAt = System.currentTimeMillis();
+
+        Waiter(int priority, long seq, int tokens, ModelType modelType, MonoSink<Permit> sink) {
+            this.priority = priority;
+            this.seq = seq;
+            this.tokens = tokens;
+            this.modelType = modelType;
+            this.sink = sink;
+        }
+
+        @Override
+        public int compareTo(Waiter o) {
+            return priority != o.priority ? Integer.compare(priority, o.priority) : Long.compare(seq, o.seq);
+        }
+    }
+
+    /**
+     * 모델별 대기열과 예산 상태 (분당 한도를 연속적으로 충전하는 토큰 버킷)
+     */
+    private static class ModelLane {
+        private final String model;
+        private final LlmSchedulerProperties.Budget budget;
+        private final PriorityQueue<Waiter> queue = new PriorityQueue<>();
+        private int inFlight;
+        private double requestAllowance;
+        private double tokenAllowance;
+        private long lastRefill;
+        private long pausedUntil;
+        private boolean dispatchScheduled;
+
+        ModelLane(String model, LlmSchedulerProperties.Budget budget) {
+            this.model = model;
+            this.budget = budget;
+            this.requestAllowance = budget.getRequestsPerMinute();
+            this.tokenAllowance = budget.getTokensPerMinute();
+            this.lastRefill = System.currentTimeMillis();
+        }
+
+        void refill(long now) {
+            long elapsed = now - lastRefill;
+            if (elapsed <= 0) return;
+            requestAllowance = Math.min(budget.getRequestsPerMinute(),
+                requestAllowance + elapsed * budget.getRequestsPerMinute() / 60000.0);
+            tokenAllowance = Math.min(budget.getTokensPerMinute(),
+                tokenAllowance + elapsed * budget.getTokensPerMinute() / 60000.0);
+            lastRefill = now;
+        }
+
+        long millisUntilAvailable(double tokens) {
+            double requestDeficit = 1 - requestAllowance;
+            double tokenDeficit = tokens - tokenAllowance;
+            double wait = 0;
+            if (requestDeficit > 0) wait = Math.max(wait, requestDeficit * 60000.0 / budget.getRequestsPerMinute());
+            if (tokenDeficit > 0) wait = Math.max(wait, tokenDeficit * 60000.0 / budget.getTokensPerMinute());
+            return (long) Math.ceil(wait);
+        }
+
+        synchronized int queueSize() {
+            return queue.size();
+        }
+
+        synchronized int inFlightCount() {
+            return inFlight;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.firzzle.llm.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.domain.VectorPoint;
+import com.firzzle.llm.dto.QdrantPointDTO;
+import com.firzzle.llm.dto.QdrantSearchRequestDTO;
+import com.firzzle.llm.util.HnswIndex;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 메모리 HNSW 색인 기반 벡터 DB 클라이언트
+ * - {@link QdrantClient}와 같은 인터페이스로 동작 (Qdrant 서버 없는 테스트/오프라인 환경, 자주 쓰는 콘텐츠의 hot cache)
+ * - 컬렉션별로 코사인 유사도 HNSW 색인과 payload를 보관
+ * - filter는 must / must_not의 {key, match.value} 조건을 지원
+ * - contentSeq 조건으로 좁혀진 포인트가 적으면 HNSW 대신 해당 포인트만 전수 비교 (Qdrant의 payload 색인 기반 검색과 같은 방식)
+ */
+public class LocalVectorDbClient implements VectorDbClient {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalVectorDbClient.class);
+
+    private static final String CONTENT_SEQ = "contentSeq";
+
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int bruteForceThreshold;
+
+    private final Map<String, LocalCollection> collections = new ConcurrentHashMap<>();
+
+    /**
+     * @param m                   HNSW 노드당 연결 수
+     * @param efConstruction      추가 시 탐색 후보 수
+     * @param efSearch            검색 시 탐색 후보 수
+     * @param bruteForceThreshold contentSeq 필터 결과가 이 수 이하이면 전수 비교
+     */
+    public LocalVectorDbClient(int m, int efConstruction, int efSearch, int bruteForceThreshold) {
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.bruteForceThreshold = bruteForceThreshold;
+        log.info("LocalVectorDbClient initialized: m={}, efConstruction={}, efSearch={}", m, efConstruction, efSearch);
+    }
+
+    /**
+     * 컬렉션 하나의 색인과 payload
+     */
+    private class LocalCollection {
+        private final HnswIndex index = new HnswIndex(m, efConstruction);
+        private final Map<Object, Map<String, Object>> payloads = new ConcurrentHashMap<>();
+        // contentSeq -> 포인트 ID (필터 검색 후보)
+        private final Map<Long, Set<Object>> idsByContentSeq = new ConcurrentHashMap<>();
+
+        synchronized void put(Object id, Vector vector, Map<String, Object> payload) {
+            remove(id);
+            index.add(id, vector.toArray());
+            payloads.put(id, payload != null ? payload : Map.of());
+            Long contentSeq = contentSeqOf(payload);
+            if (contentSeq != null) {
+                idsByContentSeq.computeIfAbsent(contentSeq, k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+
+        synchronized void remove(Object id) {
+            Map<String, Object> old = payloads.remove(id);
+            if (old == null) return;
+            index.remove(id);
+            Long contentSeq = contentSeqOf(old);
+            if (contentSeq != null) {
+                Set<Object> ids = idsByContentSeq.get(contentSeq);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) idsByContentSeq.remove(contentSeq);
+                }
+            }
+        }
+
+        /**
+         * must 조건에 contentSeq가 있으면 해당 포인트 ID 목록, 없으면 null (전체 대상)
+         */
+        Collection<Object> candidates(Map<String, Object> filter) {
+            Object value = mustContentSeq(filter);
+            if (value == null) return null;
+            Set<Object> ids = idsByContentSeq.get(((Number) value).longValue());
+            return ids != null ? ids : Set.of();
+        }
+    }
+
+    @Override
+    public Mono<Void> upsertVector(String collection, Long id, Vector vector, String content) {
+        return upsertVector(collection, id, vector, Map.of("tag", "default", "content", content));
+    }
+
+    @Override
+    public Mono<Void> upsertVector(String collection, Long id, Vector vector, Map<String, Object> payload) {
+        return Mono.fromRunnable(() -> collection(collection).put(id, vector, payload));
+    }
+
+    @Override
+    public Mono<Void> upsertPoints(String collection, List<VectorPoint> points) {
+        return Mono.fromRunnable(() -> {
+            LocalCollection target = collection(collection);
+            for (VectorPoint point : points) {
+                target.put(point.getId(), point.getVector(), point.getPayload());
+            }
+            log.debug("📥 로컬 벡터 색인 저장: collection={}, 포인트 수={}", collection, points.size());
+        });
+    }
+
+    @Override
+    public Mono<Void> deletePoints(String collection, Map<String, Object> filter) {
+        return Mono.fromRunnable(() -> {
+            LocalCollection target = collections.get(collection);
+            if (target == null) return;
+
+            Collection<Object> candidates = target.candidates(filter);
+            List<Object> ids = new ArrayList<>(candidates != null ? candidates : target.payloads.keySet());
+            int removed = 0;
+            for (Object id : ids) {
+                Map<String, Object> payload = target.payloads.get(id);
+                if (payload != null && matches(payload, filter)) {
+                    target.remove(id);
+                    removed++;
+                }
+            }
+            log.debug("🗑️ 로컬 벡터 색인 삭제: collection={}, 삭제 수={}", collection, removed);
+        });
+    }
+
+    @Override
+    public Mono<List<Map<String, Object>>> search(String collection, Vector vector, int limit) {
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(vector)
+            .limit(limit)
+            .withPayload(true)
+            .build();
+        return searchPoints(collection, request).map(LocalVectorDbClient::toMaps);
+    }
+
+    @Override
+    public Mono<List<String>> searchIds(String collection, Vector vector, int limit, double scoreThreshold) {
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(vector)
+            .limit(limit)
+            .scoreThreshold(scoreThreshold)
+            .withPayload(false)
+            .build();
+        return searchPoints(collection, request)
+            .map(results -> results.stream().map(result -> result.getId().toString()).toList());
+    }
+
+    @Override
+    public Mono<List<String>> searchWithPayload(String collection, Vector vector, int limit, double scoreThreshold) {
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(vector)
+            .limit(limit)
+            .scoreThreshold(scoreThreshold)
+            .withPayload(QdrantSearchRequestDTO.payloadFields("content"))
+            .build();
+        return searchPoints(collection, request)
+            .map(results -> results.stream()
+                .map(result -> result.getPayload() != null
+                    ? String.valueOf(result.getPayload().getOrDefault("content", ""))
+                    : "")
+                .filter(content -> !content.isBlank())
+                .collect(Collectors.toList())
+            );
+    }
+
+    @Override
+    public Mono<List<QdrantPointDTO>> searchPoints(String collection, QdrantSearchRequestDTO request) {
+        return Mono.fromCallable(() -> {
+            LocalCollection target = collections.get(collection);
+            if (target == null || request.getVector() == null) return List.<QdrantPointDTO>of();
+
+            int limit = request.getLimit() != null ? request.getLimit() : 10;
+            float[] query = request.getVector().toArray();
+            Map<String, Object> filter = request.getFilter();
+
+            Collection<Object> candidates = target.candidates(filter);
+            List<HnswIndex.Hit> hits;
+            if (candidates != null && candidates.size() <= bruteForceThreshold) {
+                List<Object> accepted = candidates.stream()
+                    .filter(id -> matches(target.payloads.get(id), filter))
+                    .toList();
+                hits = target.index.exactSearch(query, limit, accepted);
+            } else {
+                hits = target.index.search(query, limit, efSearch,
+                    id -> filter == null || matches(target.payloads.get(id), filter));
+            }
+
+            Double threshold = request.getScoreThreshold();
+            List<QdrantPointDTO> results = new ArrayList<>(hits.size());
+            for (HnswIndex.Hit hit : hits) {
+                if (threshold != null && hit.getScore() < threshold) break;
+                results.add(toPoint(target, hit.getKey(), hit.getScore(), request.getWithPayload(), request.getWithVector()));
+            }
+            return results;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<List<Map<String, Object>>> searchRaw(String collection, Map<String, Object> requestBody) {
+        Object vector = requestBody.get("vector");
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(toVector(vector))
+            .limit(requestBody.get("limit") instanceof Number n ? n.intValue() : null)
+            .scoreThreshold(requestBody.get("score_threshold") instanceof Number n ? n.doubleValue() : null)
+            .withPayload(requestBody.get("with_payload"))
+            .withVector(Boolean.TRUE.equals(requestBody.get("with_vector")))
+            .filter((Map<String, Object>) requestBody.get("filter"))
+            .build();
+        return searchPoints(collection, request).map(LocalVectorDbClient::toMaps);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<List<QdrantPointDTO>> scrollPoints(String collection, Map<String, Object> requestBody) {
+        return Mono.fromCallable(() -> {
+            LocalCollection target = collections.get(collection);
+            if (target == null) return List.<QdrantPointDTO>of();
+
+            Map<String, Object> filter = (Map<String, Object>) requestBody.get("filter");
+            int limit = requestBody.get("limit") instanceof Number n ? n.intValue() : 10;
+            Collection<Object> candidates = target.candidates(filter);
+
+            // Qdrant scroll과 같이 ID 순서로 반환
+            return new ArrayList<>(candidates != null ? candidates : target.payloads.keySet()).stream()
+                .filter(id -> matches(target.payloads.get(id), filter))
+                .sorted(Comparator.comparing(LocalVectorDbClient::sortKey))
+                .limit(limit)
+                .map(id -> toPoint(target, id, null, requestBody.get("with_payload"), requestBody.get("with_vector")))
+                .collect(Collectors.toList());
+        });
+    }
+
+    private LocalCollection collection(String name) {
+        return collections.computeIfAbsent(name, k -> new LocalCollection());
+    }
+
+    @SuppressWarnings("unchecked")
+    private QdrantPointDTO toPoint(LocalCollection target, Object id, Double score, Object withPayload, Object withVector) {
+        QdrantPointDTO point = new QdrantPointDTO();
+        point.setId(id);
+        point.setScore(score);
+
+        Map<String, Object> payload = target.payloads.get(id);
+        if (payload != null && Boolean.TRUE.equals(withPayload)) {
+            point.setPayload(payload);
+        } else if (payload != null && withPayload instanceof List<?> fields) {
+            Map<String, Object> selected = new LinkedHashMap<>();
+            for (Object field : fields) {
+                if (payload.containsKey(field)) selected.put((String) field, payload.get(field));
+            }
+            point.setPayload(selected);
+        }
+
+        if (Boolean.TRUE.equals(withVector)) {
+            float[] vector = target.index.vector(id);
+            if (vector != null) point.setVector(Vector.wrap(vector));
+        }
+        return point;
+    }
+
+    /**
+     * must 조건은 모두 일치하고 must_not 조건은 하나도 일치하지 않아야 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean matches(Map<String, Object> payload, Map<String, Object> filter) {
+        if (payload == null) return false;
+        if (filter == null) return true;
+
+        for (Map<String, Object> condition : (List<Map<String, Object>>) filter.getOrDefault("must", List.of())) {
+            if (!matchesCondition(payload, condition)) return false;
+        }
+        for (Map<String, Object> condition : (List<Map<String, Object>>) filter.getOrDefault("must_not", List.of())) {
+            if (matchesCondition(payload, condition)) return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean matchesCondition(Map<String, Object> payload, Map<String, Object> condition) {
+        Object actual = payload.get(condition.get("key"));
+        Map<String, Object> match = (Map<String, Object>) condition.get("match");
+        if (match == null) return false;
+        return valueEquals(actual, match.get("value"));
+    }
+
+    private static boolean valueEquals(Object actual, Object expected) {
+        if (actual instanceof Number a && expected instanceof Number e) {
+            return a.longValue() == e.longValue() && a.doubleValue() == e.doubleValue();
+        }
+        if (actual instanceof Collection<?> values) {
+            return values.stream().anyMatch(v -> valueEquals(v, expected));
+        }
+        return Objects.equals(actual, expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object mustContentSeq(Map<String, Object> filter) {
+        if (filter == null) return null;
+        for (Map<String, Object> condition : (List<Map<String, Object>>) filter.getOrDefault("must", List.of())) {
+            if (CONTENT_SEQ.equals(condition.get("key")) && condition.get("match") instanceof Map<?, ?> match
+                    && match.get("value") instanceof Number value) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static Long contentSeqOf(Map<String, Object> payload) {
+        return payload != null && payload.get(CONTENT_SEQ) instanceof Number n ? n.longValue() : null;
+    }
+
+    private static String sortKey(Object id) {
+        return id instanceof Number n ? String.format("%020d", n.longValue()) : String.valueOf(id);
+    }
+
+    private static Vector toVector(Object vector) {
+        if (vector instanceof Vector v) return v;
+        if (vector instanceof List<?> values) {
+            float[] array = new float[values.size()];
+            for (int i = 0; i < array.length; i++) array[i] = ((Number) values.get(i)).floatValue();
+            return Vector.wrap(array);
+        }
+        return null;
+    }
+
+    private static List<Map<String, Object>> toMaps(List<QdrantPointDTO> points) {
+        return points.stream()
+            .map(point -> {
+                Map<String, Object> map = new HashMap<>();
+                map.put("id", point.getId());
+                map.put("score", point.getScore());
+                if (point.getPayload() != null) map.put("payload", point.getPayload());
+                if (point.getVector() != null) map.put("vector", point.getVector());
+                return map;
+            })
+            .collect(Collectors.toList());
+    }
+}
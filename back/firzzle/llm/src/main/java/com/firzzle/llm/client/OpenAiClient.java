@@ -3,11 +3,16 @@ package com.firzzle.llm.client;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firzzle.llm.domain.ModelType;
 import com.firzzle.llm.dto.ChatCompletionRequestDTO;
 
@@ -15,7 +20,9 @@ import io.netty.resolver.DefaultAddressResolverGroup;
 import reactor.netty.http.client.HttpClient;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -25,8 +32,17 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class OpenAiClient {
 
+    // 요청 실패/응답 이상 시 반환되는 대체 응답
+    public static final String EMPTY_RESPONSE = "OpenAI 응답 없음";
+    public static final String PARSE_ERROR_RESPONSE = "응답 파싱 오류";
+    public static final String ERROR_RESPONSE = "OpenAI 응답 처리 중 오류가 발생했습니다.";
+
     private WebClient webClient;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LlmRequestScheduler requestScheduler;
+
     @Value("${spring.ai.openai.api-key}")
     private String apiKey;
 
@@ -54,13 +70,155 @@ public class OpenAiClient {
 
     @Async("llmExecutor")
     public CompletableFuture<String> getChatCompletionAsync(ChatCompletionRequestDTO chatCompletionRequest) {
-        // ✅ 모델 선택
-        String model = switch (chatCompletionRequest.getModelType()) {
+        // ✅ 모델 선택 및 요청 본문 구성
+        String model = resolveModel(chatCompletionRequest.getModelType());
+        Map<String, Object> body = buildRequestBody(chatCompletionRequest, model);
+        Object temperature = body.get("temperature");
+        Object topP = body.get("top_p");
+        Object maxTokens = body.get("max_tokens");
+
+        // ✅ 스케줄러를 통해 요청 전송 및 응답 처리
+        Mono<Map> request = webClient.post()
+                .uri("/chat/completions")
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(Map.class);
+
+        return scheduled(chatCompletionRequest.getModelType(), model, body, request)
+                .map(response -> {
+                    try {
+                        List<Map<?, ?>> choices = (List<Map<?, ?>>) response.get("choices");
+                        if (choices == null || choices.isEmpty()) {
+                            log.warn("⚠️ OpenAI 응답에 choices 없음");
+                            return EMPTY_RESPONSE;
+                        }
+                        Map<?, ?> message = (Map<?, ?>) choices.get(0).get("message");
+                        String content = (String) message.get("content");
+
+                        log.info("✅ OpenAI 응답 성공 [model={}, temp={}, top_p={}, tokens={}]", model, temperature, topP, maxTokens);
+                        return content;
+
+                    } catch (Exception e) {
+                        log.error("❌ 응답 파싱 실패 [model={}]: {}", model, e.getMessage());
+                        return PARSE_ERROR_RESPONSE;
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("❌ OpenAI 요청 실패 [model={}]: {}", model, e.getMessage());
+                    return Mono.just(ERROR_RESPONSE);
+                })
+                .toFuture();
+    }
+
+    /**
+     * stream=true 모드로 채팅 응답을 요청하고, 생성되는 텍스트 조각(delta)을 순서대로 내보냅니다.
+     *
+     * @param chatCompletionRequest 채팅 요청 정보
+     * @return 응답 텍스트 조각 스트림 (완료 시 종료)
+     */
+    public Flux<String> streamChatCompletion(ChatCompletionRequestDTO chatCompletionRequest) {
+        String model = resolveModel(chatCompletionRequest.getModelType());
+        Map<String, Object> body = buildRequestBody(chatCompletionRequest, model);
+        body.put("stream", true);
+
+        Flux<ServerSentEvent<String>> request = webClient.post()
+                .uri("/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {});
+
+        // ✅ 스트림이 끝날 때까지 실행 권한 유지 (429는 첫 응답 전에 발생하므로 재시도 가능)
+        return Flux.usingWhen(
+                        requestScheduler.acquire(chatCompletionRequest.getModelType(), model, estimateTokens(body)),
+                        permit -> request,
+                        permit -> Mono.fromRunnable(permit::release),
+                        (permit, e) -> Mono.fromRunnable(permit::release),
+                        permit -> Mono.fromRunnable(permit::release))
+                .retryWhen(rateLimitRetry(model))
+                .map(ServerSentEvent::data)
+                .filter(Objects::nonNull)
+                .takeWhile(data -> !"[DONE]".equals(data.trim()))
+                .map(this::extractDeltaContent)
+                .filter(delta -> !delta.isEmpty())
+                .doOnComplete(() -> log.info("✅ OpenAI 스트리밍 응답 완료 [model={}]", model))
+                .doOnError(e -> log.error("❌ OpenAI 스트리밍 요청 실패 [model={}]: {}", model, e.getMessage()));
+    }
+
+    /**
+     * 스케줄러에서 실행 권한을 받은 뒤 요청을 실행하고, 429 응답은 헤더 기준 대기 후 재시도합니다.
+     */
+    private <T> Mono<T> scheduled(ModelType modelType, String model, Map<String, Object> body, Mono<T> request) {
+        return Mono.usingWhen(
+                        requestScheduler.acquire(modelType, model, estimateTokens(body)),
+                        permit -> request,
+                        permit -> Mono.fromRunnable(permit::release),
+                        (permit, e) -> Mono.fromRunnable(permit::release),
+                        permit -> Mono.fromRunnable(permit::release))
+                .retryWhen(rateLimitRetry(model));
+    }
+
+    /**
+     * 429 응답만 재시도하며, 재시도 전 모델을 일시 정지시켜 대기 중인 다른 요청도 함께 늦춥니다.
+     * 재시도 요청은 다시 스케줄러 대기열에 들어가므로 우선순위가 유지됩니다.
+     */
+    private Retry rateLimitRetry(String model) {
+        return Retry.from(signals -> signals.flatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (failure instanceof WebClientResponseException.TooManyRequests tooManyRequests
+                    && signal.totalRetries() < requestScheduler.getMaxRetries()) {
+                requestScheduler.pauseOnRateLimit(model, tooManyRequests.getHeaders(), signal.totalRetries() + 1);
+                return Mono.just(signal.totalRetries());
+            }
+            return Mono.error(failure);
+        }));
+    }
+
+    /**
+     * TPM 예산 계산용 예상 토큰 수 (메시지 글자 수 기반 추정 + max_tokens)
+     */
+    private int estimateTokens(Map<String, Object> body) {
+        int chars = 0;
+        Object messages = body.get("messages");
+        if (messages instanceof List<?> list) {
+            for (Object message : list) {
+                if (message instanceof Map<?, ?> map && map.get("content") instanceof String content) {
+                    chars += content.length();
+                }
+            }
+        }
+        Object maxTokens = body.get("max_tokens");
+        return chars / 2 + (maxTokens instanceof Integer value ? value : 0);
+    }
+
+    /**
+     * 스트리밍 청크(JSON)에서 choices[0].delta.content를 추출합니다.
+     */
+    private String extractDeltaContent(String chunk) {
+        try {
+            JsonNode content = objectMapper.readTree(chunk).path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : "";
+        } catch (Exception e) {
+            log.warn("⚠️ 스트리밍 청크 파싱 실패: {}", e.getMessage());
+            return "";
+        }
+    }
+
+    /**
+     * 모델 타입에 해당하는 모델명을 반환합니다.
+     */
+    public String resolveModel(ModelType modelType) {
+        return switch (modelType) {
             case TIMELINE -> timelineModel;
             case SUMMARY -> summaryModel;
             case LEARNINGCHAT -> learningChatModel;
         };
+    }
 
+    /**
+     * 채팅 요청 본문(model, messages, 파라미터)을 구성합니다.
+     */
+    private Map<String, Object> buildRequestBody(ChatCompletionRequestDTO chatCompletionRequest, String model) {
         // ✅ 메시지 구성
         List<Map<String, String>> messages = new ArrayList<>();
         String systemMessage = chatCompletionRequest.getSystemMessage();
@@ -83,36 +241,17 @@ public class OpenAiClient {
         body.put("temperature", temperature);
         body.put("top_p", topP);
         body.put("max_tokens", maxTokens);
+        return body;
+    }
 
-        // ✅ 요청 전송 및 응답 처리
-        return webClient.post()
-                .uri("/chat/completions")
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> {
-                    try {
-                        List<Map<?, ?>> choices = (List<Map<?, ?>>) response.get("choices");
-                        if (choices == null || choices.isEmpty()) {
-                            log.warn("⚠️ OpenAI 응답에 choices 없음");
-                            return "OpenAI 응답 없음";
-                        }
-                        Map<?, ?> message = (Map<?, ?>) choices.get(0).get("message");
-                        String content = (String) message.get("content");
-
-                        log.info("✅ OpenAI 응답 성공 [model={}, temp={}, top_p={}, tokens={}]", model, temperature, topP, maxTokens);
-                        return content;
-
-                    } catch (Exception e) {
-                        log.error("❌ 응답 파싱 실패 [model={}]: {}", model, e.getMessage());
-                        return "응답 파싱 오류";
-                    }
-                })
-                .onErrorResume(e -> {
-                    log.error("❌ OpenAI 요청 실패 [model={}]: {}", model, e.getMessage());
-                    return Mono.just("OpenAI 응답 처리 중 오류가 발생했습니다.");
-                })
-                .toFuture();
+    /**
+     * 실제 모델 응답이 아닌 대체 응답인지 확인합니다.
+     */
+    public static boolean isFallbackResponse(String response) {
+        return response == null
+            || EMPTY_RESPONSE.equals(response)
+            || PARSE_ERROR_RESPONSE.equals(response)
+            || ERROR_RESPONSE.equals(response);
     }
 
 }
@@ -12,6 +12,8 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.domain.VectorPoint;
 import com.firzzle.llm.dto.*;
 import reactor.core.publisher.Mono;
 
@@ -20,7 +22,7 @@ import reactor.core.publisher.Mono;
  * - 벡터 삽입(Upsert)
  * - 벡터 유사도 검색(Search)
  */
-public class QdrantClient {
+public class QdrantClient implements VectorDbClient {
 
     private static final Logger log = LoggerFactory.getLogger(QdrantClient.class);
     private final WebClient webClient;
@@ -41,11 +43,11 @@ public class QdrantClient {
      * Qdrant에 벡터를 업서트(Insert or Update)합니다.
      * @param collection 컬렉션 이름
      * @param id 벡터 ID
-     * @param vector 벡터 데이터 (Float 리스트)
+     * @param vector 벡터 데이터
      * @return Mono<Void> (응답 없음)
      */
-    public Mono<Void> upsertVector(String collection, Long id, List<Float> vector, String content) {
-        // 실제 요청 본문을 로깅
+    public Mono<Void> upsertVector(String collection, Long id, Vector vector, String content) {
+        // 요청 본문 구성 (벡터 전체는 로깅하지 않음)
         Map<String, Object> requestBody = Map.of(
             "points", List.of(Map.of(
                 "id", id,  // 문자열 ID 사용
@@ -56,8 +58,7 @@ public class QdrantClient {
             ))
         );
         
-        log.info("📤 Qdrant 업서트 요청 본문: {}", requestBody);
-        log.info("벡터 길이: {}", vector.size());
+        log.debug("📤 Qdrant 업서트 요청: id={}, collection={}, 벡터 길이={}", id, collection, vector.dimension());
         
         return webClient.put()
             .uri("/collections/{collection}/points", collection)
@@ -73,7 +74,7 @@ public class QdrantClient {
             });
     }
     
-    public Mono<Void> upsertVector(String collection, Long id, List<Float> vector, Map<String, Object> payload) {
+    public Mono<Void> upsertVector(String collection, Long id, Vector vector, Map<String, Object> payload) {
         Map<String, Object> requestBody = Map.of(
             "points", List.of(Map.of(
                 "id", id,
@@ -82,7 +83,7 @@ public class QdrantClient {
             ))
         );
 
-        log.info("📤 Qdrant 업서트 요청 본문: {}", requestBody);
+        log.debug("📤 Qdrant 업서트 요청: id={}, collection={}, 벡터 길이={}", id, collection, vector.dimension());
 
         return webClient.put()
             .uri("/collections/{collection}/points", collection)
@@ -93,6 +94,110 @@ public class QdrantClient {
             .doOnError(e -> log.error("❌ Qdrant 저장 실패", e));
     }
 
+    /**
+     * 여러 포인트를 한 번의 요청으로 업서트합니다.
+     * wait=true로 요청하여 Qdrant에 반영이 확정된 뒤 응답을 받습니다.
+     * @param collection 컬렉션 이름
+     * @param points 저장할 포인트 목록 (id, vector, payload)
+     * @return Mono<Void> (응답 없음)
+     */
+    public Mono<Void> upsertPoints(String collection, List<VectorPoint> points) {
+        List<Map<String, Object>> body = points.stream()
+            .map(point -> Map.<String, Object>of(
+                "id", point.getId(),
+                "vector", point.getVector(),
+                "payload", point.getPayload() != null ? point.getPayload() : Map.of()
+            ))
+            .collect(Collectors.toList());
+
+        log.debug("📤 Qdrant bulk 업서트 요청: collection={}, 포인트 수={}", collection, points.size());
+
+        return webClient.put()
+            .uri(uriBuilder -> uriBuilder
+                .path("/collections/{collection}/points")
+                .queryParam("wait", true)
+                .build(collection))
+            .bodyValue(Map.of("points", body))
+            .retrieve()
+            .bodyToMono(Void.class)
+            .doOnSuccess(v -> log.info("✅ Qdrant bulk 저장 완료: collection={}, 포인트 수={}", collection, points.size()))
+            .doOnError(e -> log.error("❌ Qdrant bulk 저장 실패: collection={}, 포인트 수={}, error={}", collection, points.size(), e.getMessage()));
+    }
+
+    /**
+     * 컬렉션 정보(설정, payload 색인)를 조회합니다.
+     * @param collection 컬렉션 이름
+     * @return 응답의 result 객체 (컬렉션이 없으면 empty)
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<Map<String, Object>> getCollectionInfo(String collection) {
+        return webClient.get()
+            .uri("/collections/{collection}", collection)
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+            .map(body -> (Map<String, Object>) body.getOrDefault("result", Map.of()))
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+
+    /**
+     * 컬렉션을 생성합니다.
+     * @param collection 컬렉션 이름
+     * @param config 생성 요청 본문 (vectors, quantization_config 등)
+     * @return Mono<Void> (응답 없음)
+     */
+    public Mono<Void> createCollection(String collection, Map<String, Object> config) {
+        return webClient.put()
+            .uri("/collections/{collection}", collection)
+            .bodyValue(config)
+            .retrieve()
+            .bodyToMono(Void.class)
+            .doOnSuccess(v -> log.info("🆕 Qdrant 컬렉션 생성 완료: collection={}", collection))
+            .doOnError(WebClientResponseException.class, ex ->
+                log.error("❌ Qdrant 컬렉션 생성 실패: collection={}, status={} body={}",
+                    collection, ex.getRawStatusCode(), ex.getResponseBodyAsString()));
+    }
+
+    /**
+     * payload 필드 색인을 생성합니다. (wait=true, 이미 있으면 Qdrant에서 무시)
+     * @param collection 컬렉션 이름
+     * @param field payload 필드 이름
+     * @param schema 필드 타입 (integer, keyword 등)
+     * @return Mono<Void> (응답 없음)
+     */
+    public Mono<Void> createPayloadIndex(String collection, String field, String schema) {
+        return webClient.put()
+            .uri(uriBuilder -> uriBuilder
+                .path("/collections/{collection}/index")
+                .queryParam("wait", true)
+                .build(collection))
+            .bodyValue(Map.of("field_name", field, "field_schema", schema))
+            .retrieve()
+            .bodyToMono(Void.class)
+            .doOnSuccess(v -> log.info("🗂️ Qdrant payload 색인 생성 완료: collection={}, field={}, schema={}", collection, field, schema))
+            .doOnError(WebClientResponseException.class, ex ->
+                log.error("❌ Qdrant payload 색인 생성 실패: collection={}, field={}, status={} body={}",
+                    collection, field, ex.getRawStatusCode(), ex.getResponseBodyAsString()));
+    }
+
+    /**
+     * filter에 일치하는 포인트를 삭제합니다. (wait=true)
+     * @param collection 컬렉션 이름
+     * @param filter Qdrant filter (must / must_not)
+     * @return Mono<Void> (응답 없음)
+     */
+    public Mono<Void> deletePoints(String collection, Map<String, Object> filter) {
+        return webClient.post()
+            .uri(uriBuilder -> uriBuilder
+                .path("/collections/{collection}/points/delete")
+                .queryParam("wait", true)
+                .build(collection))
+            .bodyValue(Map.of("filter", filter))
+            .retrieve()
+            .bodyToMono(Void.class)
+            .doOnSuccess(v -> log.info("🗑️ Qdrant 포인트 삭제 완료: collection={}, filter={}", collection, filter))
+            .doOnError(e -> log.error("❌ Qdrant 포인트 삭제 실패: collection={}, error={}", collection, e.getMessage()));
+    }
+
     /**
      * Qdrant에서 유사 벡터를 검색합니다.
      * @param collection 컬렉션 이름
@@ -100,7 +205,7 @@ public class QdrantClient {
      * @param limit 검색할 결과 수
      * @return 유사 벡터 결과 목록 (List<Map<String, Object>>)
      */
-    public Mono<List<Map<String, Object>>> search(String collection, List<Float> vector, int limit) {
+    public Mono<List<Map<String, Object>>> search(String collection, Vector vector, int limit) {
         log.debug("Searching similar vectors: collection={}, vector={}, limit={}", collection, vector, limit);
 
         return webClient.post()
@@ -119,49 +224,76 @@ public class QdrantClient {
     }
     
     /**
-     * 유사도 기준 이상인 ID만 필터링해서 반환하는 메서드
+     * 유사도 기준 이상인 ID만 반환하는 메서드 (점수 하한은 Qdrant에서 적용, payload는 받지 않음)
      * @param collection Qdrant 컬렉션 이름
      * @param vector 검색 기준 벡터
      * @param limit 최대 결과 수
      * @param scoreThreshold 유사도 점수 기준 (예: 0.8)
      * @return 유사한 벡터들의 ID 리스트
      */
-    public Mono<List<String>> searchIds(String collection, List<Float> vector, int limit, double scoreThreshold) {
-        return search(collection, vector, limit)
+    public Mono<List<String>> searchIds(String collection, Vector vector, int limit, double scoreThreshold) {
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(vector)
+            .limit(limit)
+            .scoreThreshold(scoreThreshold)
+            .withPayload(false)
+            .build();
+
+        return searchPoints(collection, request)
             .map(results -> results.stream()
-                .filter(result -> {
-                    Object scoreObj = result.get("score");
-                    return scoreObj instanceof Number && ((Number) scoreObj).doubleValue() >= scoreThreshold;
-                })
-                .map(result -> result.get("id").toString())
+                .map(result -> result.getId().toString())
                 .toList()
             );
     }
     
-    
+    /**
+     * 유사도 기준 이상인 결과의 payload.content 값을 반환합니다.
+     * top-k, 점수 하한, payload 필드 선택(content)을 모두 Qdrant에서 처리합니다.
+     */
     public Mono<List<String>> searchWithPayload(
             String collection,
-            List<Float> vector,
+            Vector vector,
             int limit,
             double scoreThreshold
     ) {
-        return search(collection, vector, limit)
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(vector)
+            .limit(limit)
+            .scoreThreshold(scoreThreshold)
+            .withPayload(QdrantSearchRequestDTO.payloadFields("content"))
+            .build();
+
+        return searchPoints(collection, request)
             .map(results -> results.stream()
-                .filter(result -> {
-                    Object score = result.get("score");
-                    return score instanceof Number
-                        && ((Number) score).doubleValue() >= scoreThreshold;
-                })
-                .map(result -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> payload =
-                        (Map<String, Object>) result.get("payload");
-                    return payload != null
-                        ? payload.getOrDefault("content", "").toString()
-                        : "";
-                })
+                .map(result -> result.getPayload() != null
+                    ? String.valueOf(result.getPayload().getOrDefault("content", ""))
+                    : "")
                 .filter(content -> !content.isBlank())
-                .collect(Collectors.toList())      // ← use collect instead of toList()
+                .collect(Collectors.toList())
+            );
+    }
+
+    /**
+     * 타입이 지정된 요청으로 유사 벡터를 검색합니다.
+     * 결과는 Qdrant가 점수 내림차순으로 정렬해 반환합니다.
+     * @param collection 컬렉션 이름
+     * @param request 검색 요청 (limit, score_threshold, with_payload, filter)
+     * @return 검색 결과 포인트 목록
+     */
+    public Mono<List<QdrantPointDTO>> searchPoints(String collection, QdrantSearchRequestDTO request) {
+        log.debug("🔍 Qdrant 검색 요청: collection={}, limit={}, scoreThreshold={}, withPayload={}",
+            collection, request.getLimit(), request.getScoreThreshold(), request.getWithPayload());
+
+        return webClient.post()
+            .uri("/collections/{collection}/points/search", collection)
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(QdrantPointSearchResponseDTO.class)
+            .map(dto -> dto.getResult() != null ? dto.getResult() : Collections.<QdrantPointDTO>emptyList())
+            .doOnSuccess(result -> log.info("🔍 Qdrant 검색 성공: collection={}, {}개", collection, result.size()))
+            .doOnError(WebClientResponseException.class, ex ->
+                log.error("❌ Qdrant 검색 실패: status={} body={}",
+                    ex.getRawStatusCode(), ex.getResponseBodyAsString(), ex)
             );
     }
 
@@ -190,27 +322,20 @@ public class QdrantClient {
             });
     }
     
-    public Mono<List<Map<String,Object>>> scrollRaw(
+    public Mono<List<QdrantPointDTO>> scrollPoints(
             String collection,
             Map<String,Object> requestBody
     ) {
-        log.debug("🌀 Qdrant scrollRaw 요청 바디: {}", requestBody);
+        log.debug("🌀 Qdrant scroll 요청 바디: {}", requestBody);
 
         return webClient.post()
             .uri("/collections/{collection}/points/scroll", collection)
             .bodyValue(requestBody)
             .retrieve()
             .bodyToMono(QdrantScrollResponseDTO.class)
-            // ← 여기에 제네릭 힌트를 추가하세요
-            .<List<Map<String,Object>>>map(dto -> {
-                Object raw = dto.getResult().get("points");
-                if (raw instanceof List) {
-                    @SuppressWarnings("unchecked")
-                    List<Map<String,Object>> points = (List<Map<String,Object>>) raw;
-                    return points;
-                }
-                return Collections.<Map<String,Object>>emptyList();
-            })
+            .map(dto -> dto.getResult() != null && dto.getResult().getPoints() != null
+                ? dto.getResult().getPoints()
+                : Collections.<QdrantPointDTO>emptyList())
             .doOnSuccess(r -> log.info("🌀 scroll 성공: {}개", r.size()))
             .doOnError(e -> log.error("❌ scroll 실패", e));
     }
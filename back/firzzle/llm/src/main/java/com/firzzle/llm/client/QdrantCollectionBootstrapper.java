@@ -0,0 +1,198 @@
+package com.firzzle.llm.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.util.QdrantCollections;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Qdrant 컬렉션 초기화
+ * - 애플리케이션 시작 시 {@link QdrantCollections#ALL}의 컬렉션을 확인하고, 없으면 벡터 설정(크기, 거리, on-disk, 양자화)을 지정해 생성
+ * - {@link QdrantCollections#PAYLOAD_INDEXES}의 필터 필드에 payload 색인이 없으면 생성
+ * - 이미 있는 컬렉션의 벡터 크기/거리가 설정과 다르면 오류 로그 (fail-on-mismatch=true이면 시작 실패)
+ * - on-disk, 양자화 설정 차이는 재최적화 부담이 있어 경고만 남기고 변경하지 않음
+ * - 로컬 벡터 색인(app.vector-db.type=local) 사용 시에는 동작하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QdrantCollectionBootstrapper {
+
+    private final VectorDbClient vectorDbClient;
+
+    @Value("${app.qdrant.bootstrap.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.qdrant.bootstrap.fail-on-mismatch:false}")
+    private boolean failOnMismatch;
+
+    @Value("${app.qdrant.bootstrap.timeout:10000}")
+    private long timeoutMillis;
+
+    // text-embedding-3-small 차원
+    @Value("${app.qdrant.bootstrap.vector-size:1536}")
+    private int vectorSize;
+
+    @Value("${app.qdrant.bootstrap.distance:Cosine}")
+    private String distance;
+
+    @Value("${app.qdrant.bootstrap.on-disk:true}")
+    private boolean onDisk;
+
+    @Value("${app.qdrant.bootstrap.quantization.enabled:false}")
+    private boolean quantizationEnabled;
+
+    @Value("${app.qdrant.bootstrap.quantization.quantile:0.99}")
+    private double quantile;
+
+    @Value("${app.qdrant.bootstrap.quantization.always-ram:true}")
+    private boolean quantizationAlwaysRam;
+
+    // 확인/생성이 끝난 컬렉션
+    private final Set<String> ready = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled || !(vectorDbClient instanceof QdrantClient)) {
+            log.info("⏭️ Qdrant 컬렉션 초기화 생략 (enabled={}, client={})", enabled, vectorDbClient.getClass().getSimpleName());
+            return;
+        }
+
+        for (String collection : QdrantCollections.ALL) {
+            try {
+                ensureCollection(collection);
+            } catch (CollectionMismatchException e) {
+                throw e;
+            } catch (Exception e) {
+                // Qdrant 일시 장애로 시작이 막히지 않도록 하고, 첫 사용 시 다시 확인
+                log.error("❌ Qdrant 컬렉션 초기화 실패: collection={}, error={}", collection, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 컬렉션이 준비되었는지 확인하고, 아직이면 생성/검증합니다.
+     *
+     * @return 사용 가능 여부
+     */
+    public boolean ensureReady(String collection) {
+        if (!enabled || !(vectorDbClient instanceof QdrantClient) || ready.contains(collection)) {
+            return true;
+        }
+        try {
+            ensureCollection(collection);
+            return true;
+        } catch (Exception e) {
+            log.error("❌ Qdrant 컬렉션 확인/생성 실패: collection={}, error={}", collection, e.getMessage());
+            return false;
+        }
+    }
+
+    private void ensureCollection(String collection) {
+        QdrantClient qdrant = (QdrantClient) vectorDbClient;
+        Duration timeout = Duration.ofMillis(timeoutMillis);
+
+        Map<String, Object> info = qdrant.getCollectionInfo(collection).block(timeout);
+        if (info == null) {
+            qdrant.createCollection(collection, collectionConfig()).block(timeout);
+            info = Map.of();
+        } else {
+            validate(collection, info);
+        }
+
+        Map<String, Object> existingIndexes = asMap(info.get("payload_schema"));
+        for (Map.Entry<String, String> index : QdrantCollections.PAYLOAD_INDEXES.getOrDefault(collection, Map.of()).entrySet()) {
+            Map<String, Object> existing = asMap(existingIndexes.get(index.getKey()));
+            if (index.getValue().equals(existing.get("data_type"))) continue;
+
+            if (!existing.isEmpty()) {
+                log.warn("⚠️ payload 색인 타입 불일치: collection={}, field={}, 현재={}, 설정={}",
+                    collection, index.getKey(), existing.get("data_type"), index.getValue());
+                continue;
+            }
+            qdrant.createPayloadIndex(collection, index.getKey(), index.getValue()).block(timeout);
+        }
+
+        ready.add(collection);
+        log.info("✅ Qdrant 컬렉션 준비 완료: collection={}", collection);
+    }
+
+    /**
+     * 컬렉션 생성 요청 본문
+     */
+    private Map<String, Object> collectionConfig() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("vectors", Map.of(
+            "size", vectorSize,
+            "distance", distance,
+            "on_disk", onDisk
+        ));
+        if (quantizationEnabled) {
+            config.put("quantization_config", Map.of(
+                "scalar", Map.of(
+                    "type", "int8",
+                    "quantile", quantile,
+                    "always_ram", quantizationAlwaysRam
+                )
+            ));
+        }
+        return config;
+    }
+
+    /**
+     * 기존 컬렉션 설정을 검증합니다.
+     */
+    private void validate(String collection, Map<String, Object> info) {
+        Map<String, Object> config = asMap(info.get("config"));
+        Map<String, Object> vectors = asMap(asMap(config.get("params")).get("vectors"));
+
+        List<String> mismatches = new ArrayList<>();
+        if (!(vectors.get("size") instanceof Number size) || size.intValue() != vectorSize) {
+            mismatches.add("size=" + vectors.get("size") + " (설정 " + vectorSize + ")");
+        }
+        if (!distance.equalsIgnoreCase(String.valueOf(vectors.get("distance")))) {
+            mismatches.add("distance=" + vectors.get("distance") + " (설정 " + distance + ")");
+        }
+        if (!mismatches.isEmpty()) {
+            String message = "Qdrant 컬렉션 벡터 설정 불일치: collection=" + collection + ", " + String.join(", ", mismatches);
+            if (failOnMismatch) {
+                throw new CollectionMismatchException(message);
+            }
+            log.error("❌ {}", message);
+        }
+
+        boolean currentOnDisk = Boolean.TRUE.equals(vectors.get("on_disk"));
+        boolean currentQuantization = config.get("quantization_config") != null;
+        if (currentOnDisk != onDisk || currentQuantization != quantizationEnabled) {
+            log.warn("⚠️ Qdrant 컬렉션 저장 설정 차이 (변경하지 않음): collection={}, on_disk={} (설정 {}), quantization={} (설정 {})",
+                collection, currentOnDisk, onDisk, currentQuantization, quantizationEnabled);
+        }
+    }
+
+    /**
+     * 기존 컬렉션 설정이 달라 시작을 중단해야 하는 경우 (Qdrant 연결 오류와 구분)
+     */
+    static class CollectionMismatchException extends IllegalStateException {
+        CollectionMismatchException(String message) {
+            super(message);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+}
@@ -0,0 +1,208 @@
+package com.firzzle.llm.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.domain.VectorPoint;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.util.retry.Retry;
+
+/**
+ * Qdrant 쓰기 버퍼 (write-behind)
+ * - 컬렉션별로 포인트를 모아 개수/경과 시간 기준으로 bulk upsert(wait=true)
+ * - 실패 시 지수 백오프로 재시도
+ * - 포인트마다 저장 확정(ack) future를 반환
+ * - 전체 대기 포인트 수를 제한하여 메모리 사용량을 보호 (초과 시 enqueue가 대기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QdrantWriteBuffer {
+
+    private final VectorDbClient vectorDbClient;
+
+    // 컬렉션별 대기 중인 배치 (collection -> batch)
+    private final Map<String, PendingBatch> pending = new ConcurrentHashMap<>();
+
+    @Value("${app.qdrant.write-buffer.max-points:64}")
+    private int maxPoints;
+
+    @Value("${app.qdrant.write-buffer.max-age:200}")
+    private long maxAgeMillis;
+
+    @Value("${app.qdrant.write-buffer.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${app.qdrant.write-buffer.capacity:10000}")
+    private int capacity;
+
+    @Value("${app.qdrant.write-buffer.enqueue-timeout:30000}")
+    private long enqueueTimeoutMillis;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(capacity);
+    }
+
+    /**
+     * 포인트를 버퍼에 추가합니다.
+     * @param point 저장할 포인트 (collection, id, vector, payload)
+     * @return Qdrant에 저장이 확정되면 완료되는 future
+     */
+    public CompletableFuture<Void> enqueue(VectorPoint point) {
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+
+        try {
+            if (!permits.tryAcquire(enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                ack.completeExceptionally(new IllegalStateException("Qdrant 쓰기 버퍼가 가득 찼습니다."));
+                return ack;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ack.completeExceptionally(e);
+            return ack;
+        }
+
+        List<PendingPoint> ready = null;
+        String collection = point.getCollection();
+        PendingBatch batch = pending.computeIfAbsent(collection, k -> new PendingBatch());
+        synchronized (batch) {
+            batch.add(new PendingPoint(point, ack));
+            if (batch.size() >= maxPoints) {
+                ready = batch.drain();
+            }
+        }
+
+        if (ready != null) {
+            flush(collection, ready);
+        }
+        return ack;
+    }
+
+    /**
+     * 오래 대기한 배치를 주기적으로 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.qdrant.write-buffer.max-age:200}")
+    public void flushExpired() {
+        long now = System.currentTimeMillis();
+        pending.forEach((collection, batch) -> {
+            List<PendingPoint> ready = null;
+            synchronized (batch) {
+                if (batch.size() > 0 && now - batch.getCreatedAt() >= maxAgeMillis) {
+                    ready = batch.drain();
+                }
+            }
+            if (ready != null) {
+                flush(collection, ready);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 남아 있는 모든 포인트를 전송하고 완료까지 대기합니다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        pending.forEach((collection, batch) -> {
+            List<PendingPoint> ready;
+            synchronized (batch) {
+                ready = batch.drain();
+            }
+            if (!ready.isEmpty()) {
+                flush(collection, ready);
+                ready.forEach(p -> inFlight.add(p.getAck()));
+            }
+        });
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("⚠️ 종료 시 Qdrant 쓰기 버퍼 flush 미완료: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼에 대기 중인 포인트 수
+     */
+    public int getPendingCount() {
+        return capacity - permits.availablePermits();
+    }
+
+    private void flush(String collection, List<PendingPoint> batch) {
+        List<VectorPoint> points = batch.stream().map(PendingPoint::getPoint).toList();
+
+        vectorDbClient.upsertPoints(collection, points)
+            .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(200))
+                .doBeforeRetry(signal -> log.warn("🔁 Qdrant bulk 저장 재시도 #{}: collection={}, 포인트 수={}",
+                    signal.totalRetries() + 1, collection, points.size())))
+            .subscribe(
+                null,
+                e -> {
+                    log.error("❌ Qdrant bulk 저장 최종 실패: collection={}, 포인트 수={}", collection, points.size(), e);
+                    complete(batch, e);
+                },
+                () -> complete(batch, null)
+            );
+    }
+
+    private void complete(List<PendingPoint> batch, Throwable error) {
+        permits.release(batch.size());
+        for (PendingPoint p : batch) {
+            if (error == null) p.getAck().complete(null);
+            else p.getAck().completeExceptionally(error);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PendingPoint {
+        private final VectorPoint point;
+        private final CompletableFuture<Void> ack;
+    }
+
+    /**
+     * 컬렉션별 대기 배치 (첫 포인트가 들어온 시각 기준으로 경과 시간을 계산)
+     */
+    private static class PendingBatch {
+        private List<PendingPoint> points = new ArrayList<>();
+        private long createdAt;
+
+        void add(PendingPoint point) {
+            if (points.isEmpty()) createdAt = System.currentTimeMillis();
+            points.add(point);
+        }
+
+        int size() {
+            return points.size();
+        }
+
+        long getCreatedAt() {
+            return createdAt;
+        }
+
+        List<PendingPoint> drain() {
+            List<PendingPoint> drained = points;
+            points = new ArrayList<>();
+            return drained;
+        }
+    }
+}
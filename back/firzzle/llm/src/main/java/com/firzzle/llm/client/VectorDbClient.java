@@ -0,0 +1,70 @@
+package com.firzzle.llm.client;
+
+import java.util.List;
+import java.util.Map;
+
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.domain.VectorPoint;
+import com.firzzle.llm.dto.QdrantPointDTO;
+import com.firzzle.llm.dto.QdrantSearchRequestDTO;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 벡터 DB 클라이언트 인터페이스
+ * - {@link QdrantClient}: Qdrant 서버와 HTTP로 통신
+ * - {@link LocalVectorDbClient}: 메모리 HNSW 색인 (테스트/오프라인 환경, 자주 쓰는 콘텐츠의 hot cache)
+ * 요청/응답 형식(filter, with_payload, score_threshold 등)은 Qdrant REST API를 따릅니다.
+ */
+public interface VectorDbClient {
+
+    /**
+     * 벡터를 업서트합니다. payload는 (tag=default, content)로 저장됩니다.
+     */
+    Mono<Void> upsertVector(String collection, Long id, Vector vector, String content);
+
+    /**
+     * 벡터와 payload를 업서트합니다.
+     */
+    Mono<Void> upsertVector(String collection, Long id, Vector vector, Map<String, Object> payload);
+
+    /**
+     * 여러 포인트를 한 번에 업서트합니다. 완료 시 저장이 확정된 상태입니다.
+     */
+    Mono<Void> upsertPoints(String collection, List<VectorPoint> points);
+
+    /**
+     * filter(must / must_not)에 일치하는 포인트를 삭제합니다.
+     */
+    Mono<Void> deletePoints(String collection, Map<String, Object> filter);
+
+    /**
+     * 유사 벡터를 검색합니다. (payload 전체 포함)
+     */
+    Mono<List<Map<String, Object>>> search(String collection, Vector vector, int limit);
+
+    /**
+     * 유사도 기준 이상인 포인트 ID를 반환합니다.
+     */
+    Mono<List<String>> searchIds(String collection, Vector vector, int limit, double scoreThreshold);
+
+    /**
+     * 유사도 기준 이상인 포인트의 payload.content 값을 반환합니다.
+     */
+    Mono<List<String>> searchWithPayload(String collection, Vector vector, int limit, double scoreThreshold);
+
+    /**
+     * 타입이 지정된 요청으로 유사 벡터를 검색합니다. (점수 내림차순)
+     */
+    Mono<List<QdrantPointDTO>> searchPoints(String collection, QdrantSearchRequestDTO request);
+
+    /**
+     * Qdrant 검색 요청 본문 그대로 검색합니다.
+     */
+    Mono<List<Map<String, Object>>> searchRaw(String collection, Map<String, Object> requestBody);
+
+    /**
+     * filter에 일치하는 포인트를 조회합니다. (유사도 검색 없음)
+     */
+    Mono<List<QdrantPointDTO>> scrollPoints(String collection, Map<String, Object> requestBody);
+}
@@ -1,6 +1,8 @@
 package com.firzzle.llm.config;
 
+import com.firzzle.llm.client.LocalVectorDbClient;
 import com.firzzle.llm.client.QdrantClient;
+import com.firzzle.llm.client.VectorDbClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,15 +10,34 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class VectorDbConfig {
 
-    @Value("${qdrant.host}")
+    @Value("${qdrant.host:}")
     private String host;
 
-    @Value("${qdrant.api-key}")
+    @Value("${qdrant.api-key:}")
     private String apiKey;
 
+    // qdrant: Qdrant 서버 사용, local: 메모리 HNSW 색인 사용 (테스트/오프라인 환경)
+    @Value("${app.vector-db.type:qdrant}")
+    private String type;
+
+    @Value("${app.vector-db.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${app.vector-db.hnsw.ef-construction:100}")
+    private int hnswEfConstruction;
+
+    @Value("${app.vector-db.hnsw.ef-search:64}")
+    private int hnswEfSearch;
+
+    @Value("${app.vector-db.hnsw.brute-force-threshold:256}")
+    private int bruteForceThreshold;
+
     @Bean
-    public QdrantClient vectorDbClient() {
+    public VectorDbClient vectorDbClient() {
+        if ("local".equalsIgnoreCase(type)) {
+            return new LocalVectorDbClient(hnswM, hnswEfConstruction, hnswEfSearch, bruteForceThreshold);
+        }
         String baseUrl = String.format(host);  // 예: http://localhost:6333
         return new QdrantClient(baseUrl, apiKey);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.firzzle.llm.controller;
+
+import java.util.List;
+
+import com.firzzle.common.response.Response;
+import com.firzzle.common.response.Status;
+import com.firzzle.llm.dto.DeadLetterDTO;
+import com.firzzle.llm.service.DeadLetterService;
+import com.firzzle.llm.util.AdminRoleUtil;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/dlq")
+@Tag(name = "DLQ API", description = "처리 실패 Kafka 메시지 조회 및 재처리 (관리자)")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    @GetMapping
+    @Operation(summary = "DLQ 메시지 목록 조회", description = "상태별(W: 재처리 대기, R: 재처리 완료) DLQ 메시지를 최근 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<Response<List<DeadLetterDTO>>> getDeadLetters(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @Parameter(description = "상태 (W: 재처리 대기, R: 재처리 완료)", example = "W")
+            @RequestParam(value = "status", defaultValue = "W") String status,
+            @Parameter(description = "최대 조회 수", example = "50")
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+
+        AdminRoleUtil.requireAdmin(role);
+        List<DeadLetterDTO> deadLetters = deadLetterService.getDeadLetters(status, Math.min(Math.max(limit, 1), 500));
+
+        return ResponseEntity.ok(Response.<List<DeadLetterDTO>>builder()
+                .status(Status.OK)
+                .message("DLQ 메시지 목록 조회 성공")
+                .data(deadLetters)
+                .build());
+    }
+
+    @PostMapping("/{dlqSeq}/replay")
+    @Operation(summary = "DLQ 메시지 재처리", description = "DLQ 메시지를 원래 토픽으로 다시 보내 재처리합니다. 이전 시도의 부분 결과는 정리 후 처리됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재처리 요청 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "DLQ 메시지 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<Response<DeadLetterDTO>> replay(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @Parameter(description = "DLQ 일련 번호", example = "1", required = true)
+            @PathVariable("dlqSeq") Long dlqSeq) {
+
+        AdminRoleUtil.requireAdmin(role);
+        DeadLetterDTO replayed = deadLetterService.replay(dlqSeq);
+
+        return ResponseEntity.ok(Response.<DeadLetterDTO>builder()
+                .status(Status.OK)
+                .message("DLQ 메시지 재처리 요청 성공")
+                .data(replayed)
+                .build());
+    }
+}
@@ -3,7 +3,9 @@ package com.firzzle.llm.controller;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,6 +22,7 @@ import com.firzzle.llm.dto.ExamAnswerRequestDTO;
 import com.firzzle.llm.dto.ExamAnswerResponseDTO;
 import com.firzzle.llm.dto.LearningChatRequestDTO;
 import com.firzzle.llm.dto.LearningChatResponseDTO;
+import com.firzzle.llm.dto.LearningChatStreamDTO;
 import com.firzzle.llm.dto.NextExamResponseDTO;
 import com.firzzle.llm.service.LearningChatService;
 import com.firzzle.llm.dto.ExamHistoryWrapperDTO;
@@ -31,6 +34,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -67,6 +71,32 @@ public class LearningChatConteller {
                                 .build()));
     }
     
+    @PostMapping(value = "/{ContentSeq}/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "러닝챗 질문 (스트리밍)", description = "영상 기반 사용자 질문에 대한 LLM 응답을 생성되는 대로 SSE로 전송합니다. (delta → done, 오류 시 error 이벤트, data는 {\"content\": ...} JSON)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (질문 누락 등)")
+    })
+    public Flux<ServerSentEvent<LearningChatStreamDTO>> streamLearningChat(
+        @Parameter(description = "사용자 UUID", example = "abc-123-xyz")
+        @RequestHeader(value = "X-User-UUID", required = true) String userUUID,
+        @Parameter(description = "사용자 콘텐츠 일련번호", required = true) @PathVariable("ContentSeq") Long userContentSeq,
+        @Valid @RequestBody LearningChatRequestDTO request)
+    {
+        // 토큰 조각은 공백으로 시작하거나 줄바꿈을 포함하므로 JSON({"content": ...})으로 감싸서 전송
+        return learningChatService.learningChatStream(userUUID, userContentSeq, request)
+                .map(delta -> streamEvent("delta", delta))
+                .concatWith(Flux.just(streamEvent("done", "")))
+                .onErrorResume(e -> Flux.just(streamEvent("error", "러닝챗 오류: " + e.getMessage())));
+    }
+
+    private ServerSentEvent<LearningChatStreamDTO> streamEvent(String event, String content) {
+        return ServerSentEvent.<LearningChatStreamDTO>builder()
+                .event(event)
+                .data(new LearningChatStreamDTO(content))
+                .build();
+    }
+
     @GetMapping("/{ContentSeq}/chat")
     @Operation(summary = "대화 기록 조회", description = "사용자 콘텐츠 기준으로 이전 대화 목록을 조회합니다. 무한 스크롤을 위한 lastIndate, limit 지원")
     @ApiResponses(value = {
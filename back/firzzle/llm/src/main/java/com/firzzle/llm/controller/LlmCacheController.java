@@ -0,0 +1,46 @@
+package com.firzzle.llm.controller;
+
+import com.firzzle.common.response.Response;
+import com.firzzle.common.response.Status;
+import com.firzzle.llm.service.LlmResultCacheService;
+import com.firzzle.llm.util.AdminRoleUtil;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/llm-cache")
+@Tag(name = "LLM Cache API", description = "LLM 결과 캐시 관리 (관리자)")
+public class LlmCacheController {
+
+    private final LlmResultCacheService llmResultCacheService;
+
+    @DeleteMapping("/{promptVersion}")
+    @Operation(summary = "LLM 결과 캐시 무효화", description = "프롬프트 템플릿 버전에 해당하는 타임라인/요약 결과 캐시를 모두 삭제합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "캐시 무효화 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<Response<Integer>> invalidateByPromptVersion(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @Parameter(description = "프롬프트 템플릿 버전", example = "summary-v1", required = true)
+            @PathVariable("promptVersion") String promptVersion) {
+
+        AdminRoleUtil.requireAdmin(role);
+        int deleted = llmResultCacheService.invalidateByPromptVersion(promptVersion);
+
+        return ResponseEntity.ok(Response.<Integer>builder()
+                .status(Status.OK)
+                .message("LLM 결과 캐시 무효화 성공")
+                .data(deleted)
+                .build());
+    }
+}
@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -26,10 +27,24 @@ public class SseController {
     private SseEmitterRepository emitterRepository;
 
     @GetMapping("/summary/{taskId}")
-    @Operation(summary = "요약 작업 SSE 연결", description = "특정 요약 작업에 대한 실시간 이벤트 스트림 연결")
+    @Operation(summary = "요약 작업 SSE 연결", description = "특정 요약 작업에 대한 실시간 이벤트 스트림 연결 (재연결 시 Last-Event-ID 이후 이벤트 재전송)")
     @ApiResponse(responseCode = "200", description = "SSE 연결 성공")
-    public SseEmitter connectToSummary(@PathVariable String taskId) {
-        logger.info("요약 작업 SSE 연결 요청: taskId={}", taskId);
-        return emitterRepository.create(taskId);
+    public SseEmitter connectToSummary(@PathVariable String taskId,
+                                       @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.info("요약 작업 SSE 연결 요청: taskId={}, lastEventId={}", taskId, lastEventId);
+        return emitterRepository.create(taskId, parseEventId(lastEventId));
+    }
+
+    /**
+     * Last-Event-ID 헤더 값을 이벤트 id로 변환합니다. (없거나 형식이 잘못되면 null)
+     */
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("잘못된 Last-Event-ID 무시: {}", lastEventId);
+            return null;
+        }
     }
 }
\ No newline at end of file
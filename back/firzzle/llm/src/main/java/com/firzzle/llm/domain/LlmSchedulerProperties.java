@@ -0,0 +1,34 @@
+package com.firzzle.llm.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * OpenAI 요청 스케줄러 설정 (모델별 동시 요청 수, 분당 요청/토큰 한도)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.llm-scheduler")
+@Data
+public class LlmSchedulerProperties {
+    private Budget defaults = new Budget();
+    private Map<String, Budget> models = new HashMap<>();
+
+    // 429 응답 시 최대 재시도 횟수
+    private int maxRetries = 3;
+
+    public Budget budgetOf(String model) {
+        return models.getOrDefault(model, defaults);
+    }
+
+    @Data
+    public static class Budget {
+        private int maxConcurrency = 8;
+        private int requestsPerMinute = 500;
+        private int tokensPerMinute = 200000;
+    }
+}
@@ -0,0 +1,126 @@
+package com.firzzle.llm.domain;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 임베딩 벡터 값 타입 (float[] 기반)
+ * - List<Float> 대비 박싱 없이 메모리를 사용
+ * - JSON 숫자 배열과 스트리밍 방식으로 직접 (역)직렬화
+ */
+@JsonSerialize(using = Vector.Serializer.class)
+@JsonDeserialize(using = Vector.Deserializer.class)
+public final class Vector {
+
+    private final float[] values;
+
+    private Vector(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * float 배열을 복사하지 않고 감쌉니다. 호출자는 이후 배열을 수정하지 않아야 합니다.
+     */
+    public static Vector wrap(float[] values) {
+        return new Vector(values);
+    }
+
+    public int dimension() {
+        return values.length;
+    }
+
+    public float get(int index) {
+        return values[index];
+    }
+
+    /**
+     * 내부 배열의 복사본을 반환합니다.
+     */
+    public float[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * 두 벡터의 코사인 유사도를 계산합니다.
+     */
+    public double cosine(Vector other) {
+        float[] a = values;
+        float[] b = other.values;
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("벡터 차원 불일치: " + a.length + " != " + b.length);
+        }
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        if (normA == 0 || normB == 0) return 0;
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Vector other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "Vector(dimension=" + values.length + ")";
+    }
+
+    /**
+     * float 배열을 JSON 숫자 배열로 직접 기록합니다.
+     */
+    public static class Serializer extends JsonSerializer<Vector> {
+        @Override
+        public void serialize(Vector vector, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            float[] v = vector.values;
+            gen.writeStartArray(vector, v.length);
+            for (float f : v) {
+                gen.writeNumber(f);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * JSON 숫자 배열을 중간 List 없이 float 배열로 읽습니다.
+     */
+    public static class Deserializer extends JsonDeserializer<Vector> {
+        @Override
+        public Vector deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                return (Vector) ctxt.handleUnexpectedToken(Vector.class, p);
+            }
+            float[] buf = new float[1536];
+            int size = 0;
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                    return (Vector) ctxt.handleUnexpectedToken(Vector.class, p);
+                }
+                if (size == buf.length) {
+                    buf = Arrays.copyOf(buf, size * 2);
+                }
+                buf[size++] = p.getFloatValue();
+            }
+            return new Vector(size == buf.length ? buf : Arrays.copyOf(buf, size));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.firzzle.llm.domain;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 벡터 DB에 저장할 포인트 (컬렉션, ID, 임베딩할 텍스트, 벡터, payload)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VectorPoint {
+    private String collection;
+    private Long id;
+    private String text;
+    private Vector vector;
+    private Map<String, Object> payload;
+}
@@ -35,4 +35,7 @@ public class ChatCompletionRequestDTO {
 
     @Schema(description = "max_tokens 값", example = "1024")
     private Integer maxTokens;
+
+    @Schema(description = "프롬프트 템플릿 버전 (LLM 결과 캐시 키, null이면 캐시 미사용)", example = "summary-v1")
+    private String promptVersion;
 }
\ No newline at end of file
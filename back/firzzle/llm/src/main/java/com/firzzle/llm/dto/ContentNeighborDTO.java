@@ -0,0 +1,30 @@
+package com.firzzle.llm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : ContentNeighborDTO.java
+ * @Description : 콘텐츠 간 추천 이웃 DTO (기준 콘텐츠 -> 유사 콘텐츠, 미리 계산된 유사도)
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "콘텐츠 추천 이웃 정보")
+public class ContentNeighborDTO {
+
+    @Schema(description = "기준 콘텐츠 일련번호", example = "101")
+    private Long contentSeq;
+
+    @Schema(description = "유사 콘텐츠 일련번호", example = "205")
+    private Long neighborSeq;
+
+    @Schema(description = "content_vectors 코사인 유사도", example = "0.83")
+    private Double score;
+
+    @Schema(description = "계산 일시 (YYYYMMDDHHMMSS)", example = "20250515103045")
+    private String indate;
+}
@@ -0,0 +1,30 @@
+package com.firzzle.llm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : ContentNeighborRunDTO.java
+ * @Description : 콘텐츠별 추천 이웃 계산 상태 DTO (이웃 수, 계산 일시, 기준 콘텐츠 태그)
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "콘텐츠 추천 이웃 계산 상태")
+public class ContentNeighborRunDTO {
+
+    @Schema(description = "콘텐츠 일련번호", example = "101")
+    private Long contentSeq;
+
+    @Schema(description = "저장된 이웃 수", example = "18")
+    private Integer neighborCount;
+
+    @Schema(description = "마지막 계산 일시 (YYYYMMDDHHMMSS)", example = "20250515103045")
+    private String computedAt;
+
+    @Schema(description = "기준 콘텐츠 태그 (쉼표 구분, 조회 시에만 사용)", example = "딥러닝,신경망")
+    private String originTags;
+}
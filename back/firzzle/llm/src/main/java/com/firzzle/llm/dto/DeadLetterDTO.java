@@ -0,0 +1,45 @@
+package com.firzzle.llm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : DeadLetterDTO.java
+ * @Description : 처리에 실패해 DLQ로 보내진 Kafka 메시지 DTO
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DLQ 메시지 정보")
+public class DeadLetterDTO {
+
+    @Schema(description = "DLQ 일련 번호", example = "1")
+    private Long dlqSeq;
+
+    @Schema(description = "원래 토픽 (재처리 시 전송 대상)", example = "stt-converted")
+    private String sourceTopic;
+
+    @Schema(description = "메시지 key", example = "a1b2c3d4-5678-90ab-cdef-123456789012")
+    private String messageKey;
+
+    @Schema(description = "원본 메시지")
+    private String message;
+
+    @Schema(description = "실패 사유", example = "OpenAI 응답 생성 중 오류가 발생했습니다")
+    private String errorMessage;
+
+    @Schema(description = "실패 전까지의 재시도 횟수", example = "2")
+    private Integer attempt;
+
+    @Schema(description = "상태 (W: 재처리 대기, R: 재처리 완료)", example = "W")
+    private String status;
+
+    @Schema(description = "등록 일시 (YYYYMMDDHHMMSS)", example = "20250515103045")
+    private String indate;
+
+    @Schema(description = "재처리 일시 (YYYYMMDDHHMMSS)", example = "20250515113045")
+    private String replayedAt;
+}
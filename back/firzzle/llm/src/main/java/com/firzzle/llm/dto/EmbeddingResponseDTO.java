@@ -0,0 +1,30 @@
+package com.firzzle.llm.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.firzzle.llm.domain.Vector;
+
+import lombok.Data;
+
+/**
+ * @Class Name : EmbeddingResponseDTO.java
+ * @Description : OpenAI /embeddings 응답 DTO (embedding은 float[] 기반 Vector로 직접 파싱)
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmbeddingResponseDTO {
+
+    private List<EmbeddingData> data;
+
+    private String model;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EmbeddingData {
+        private int index;
+        private Vector embedding;
+    }
+}
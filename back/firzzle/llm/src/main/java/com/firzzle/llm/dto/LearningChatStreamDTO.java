@@ -0,0 +1,22 @@
+package com.firzzle.llm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : LearningChatStreamDTO.java
+ * @Description : 러닝챗 스트리밍 SSE 이벤트 data (delta/done/error 공통)
+ *                토큰 조각의 앞 공백과 줄바꿈이 SSE 형식에 의해 손실되지 않도록 JSON으로 감싸서 전송
+ * @author Firzzle
+ * @since 2025. 5. 13.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "러닝챗 스트리밍 이벤트 데이터")
+public class LearningChatStreamDTO {
+
+    @Schema(description = "delta: 답변 조각, done: 빈 문자열, error: 오류 메시지", example = " 도메인 주도")
+    private String content;
+}
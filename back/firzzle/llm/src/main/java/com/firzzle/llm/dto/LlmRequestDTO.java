@@ -22,9 +22,12 @@ public class LlmRequestDTO {
     @Schema(description = "콘텐츠 일련 번호", example = "1001", required = true)
     private Long contentSeq;
 
-    @Schema(description = "영상 전체 스크립트", example = "안녕하세요. 이 영상에서는 도메인 주도 설계, 즉 DDD에 대해 설명합니다...", required = true)
+    @Schema(description = "영상 전체 스크립트 (claim-check 전송 시 null)", example = "안녕하세요. 이 영상에서는 도메인 주도 설계, 즉 DDD에 대해 설명합니다...", required = true)
     private String script;
 
+    @Schema(description = "DB에 보관된 스크립트 일련 번호 (긴 스크립트는 메시지 대신 참조만 전달)", example = "1")
+    private Long scriptSeq;
+
     @Schema(description = "작업 ID (SSE 연결용)", example = "a1b2c3d4-5678-90ab-cdef-123456789012")
     private String taskId;
 
@@ -33,4 +36,7 @@ public class LlmRequestDTO {
 
     @Schema(description = "에러", example = "null")
     private String errorMessage;
+
+    @Schema(description = "재처리 여부 (재시도/DLQ 재처리 시 이전 시도의 부분 결과를 정리 후 처리)", example = "false")
+    private boolean reprocess;
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.firzzle.llm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : LlmResultCacheDTO.java
+ * @Description : LLM 결과 캐시 DTO (프롬프트 버전 + 모델 + 입력 해시 기준)
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "LLM 결과 캐시 정보")
+public class LlmResultCacheDTO {
+
+    @Schema(description = "프롬프트 템플릿 버전", example = "summary-v1")
+    private String promptVersion;
+
+    @Schema(description = "모델명", example = "gpt-4o-mini")
+    private String model;
+
+    @Schema(description = "입력 텍스트 SHA-256 해시 (hex)", example = "9f86d081884c7d65...")
+    private String inputHash;
+
+    @Schema(description = "LLM 원 응답")
+    private String response;
+
+    @Schema(description = "생성 일시 (YYYYMMDDHHMMSS)", example = "20250515103045")
+    private String indate;
+}
@@ -0,0 +1,33 @@
+package com.firzzle.llm.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.firzzle.llm.domain.Vector;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * @Class Name : QdrantPointDTO.java
+ * @Description : Qdrant 포인트 응답 DTO (검색/스크롤 결과 1건, vector는 float[] 기반으로 직접 파싱)
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "Qdrant 포인트 응답 DTO")
+public class QdrantPointDTO {
+
+    @Schema(description = "포인트 ID", example = "123")
+    private Object id;
+
+    @Schema(description = "유사도 점수 (검색 결과인 경우)", example = "0.95")
+    private Double score;
+
+    @Schema(description = "벡터 (with_vector=true 요청 시)")
+    private Vector vector;
+
+    @Schema(description = "payload")
+    private Map<String, Object> payload;
+}
@@ -0,0 +1,29 @@
+package com.firzzle.llm.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * @Class Name : QdrantPointSearchResponseDTO.java
+ * @Description : Qdrant 벡터 검색 응답 DTO (검색 결과를 QdrantPointDTO로 바로 역직렬화)
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "Qdrant 벡터 검색 결과 응답 DTO (타입 지정)")
+public class QdrantPointSearchResponseDTO {
+
+    @Schema(description = "검색 결과 리스트 (점수 내림차순)")
+    private List<QdrantPointDTO> result;
+
+    @Schema(description = "응답 상태", example = "ok")
+    private String status;
+
+    @Schema(description = "검색 소요 시간 (초 단위)", example = "0.0023")
+    private double time;
+}
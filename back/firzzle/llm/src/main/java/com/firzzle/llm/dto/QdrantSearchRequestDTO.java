@@ -0,0 +1,68 @@
+package com.firzzle.llm.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.firzzle.llm.domain.Vector;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @Class Name : QdrantSearchRequestDTO.java
+ * @Description : Qdrant 벡터 검색 요청 DTO (top-k, 점수 하한, 반환 payload 필드를 서버에서 처리하도록 전달)
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Qdrant 벡터 검색 요청 DTO")
+public class QdrantSearchRequestDTO {
+
+    @Schema(description = "검색 기준 벡터")
+    private Vector vector;
+
+    @Schema(description = "반환할 최대 결과 수 (점수 내림차순 top-k)", example = "5")
+    private Integer limit;
+
+    @JsonProperty("score_threshold")
+    @Schema(description = "유사도 점수 하한 (미만인 결과는 Qdrant에서 제외)", example = "0.8")
+    private Double scoreThreshold;
+
+    @JsonProperty("with_payload")
+    @Schema(description = "반환할 payload 필드 목록 (true: 전체, false: 반환하지 않음)", example = "[\"content\"]")
+    private Object withPayload;
+
+    @JsonProperty("with_vector")
+    @Schema(description = "벡터 반환 여부", example = "false")
+    private Boolean withVector;
+
+    @Schema(description = "payload 필터 (must / must_not 조건)")
+    private Map<String, Object> filter;
+
+    /**
+     * payload 필드 목록만 반환하도록 지정합니다.
+     */
+    public static Object payloadFields(String... fields) {
+        return List.of(fields);
+    }
+
+    /**
+     * contentSeq가 일치(must) 또는 불일치(must_not)하는 포인트만 검색하는 필터를 만듭니다.
+     */
+    public static Map<String, Object> contentSeqFilter(String clause, Long contentSeq) {
+        return Map.of(
+            clause, List.of(
+                Map.of("key", "contentSeq", "match", Map.of("value", contentSeq))
+            )
+        );
+    }
+}
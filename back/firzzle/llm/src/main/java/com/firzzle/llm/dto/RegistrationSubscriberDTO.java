@@ -0,0 +1,33 @@
+package com.firzzle.llm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : RegistrationSubscriberDTO.java
+ * @Description : 같은 영상의 진행 중인 등록 작업에 합류한 요청 DTO
+ * @author Firzzle
+ * @since 2025. 5. 15.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "등록 작업 구독 정보")
+public class RegistrationSubscriberDTO {
+
+    @Schema(description = "구독 일련 번호", example = "1")
+    private Long subscriberSeq;
+
+    @Schema(description = "대표 작업 ID", example = "a1b2c3d4-5678-90ab-cdef-123456789012")
+    private String leaderTaskId;
+
+    @Schema(description = "구독 작업 ID (SSE 연결용)", example = "b2c3d4e5-6789-01ab-cdef-234567890123")
+    private String taskId;
+
+    @Schema(description = "사용자 UUID")
+    private String uuid;
+
+    @Schema(description = "사용자 콘텐츠 일련 번호 (합류 시 생성)", example = "1001")
+    private Long userContentSeq;
+}
@@ -47,20 +47,15 @@ public class LinkedInEmbeddingBatchService {
             List<LinkedInEmbeddingRequestDTO> profiles = fetchProfilesWithSkills(profileSeqs);
             log.info("배치 처리를 위한 프로필 정보 조회 완료: {}개", profiles.size());
 
-            // 각 프로필 임베딩 처리
+            // 프로필 배치 임베딩 처리
+            List<Long> savedProfileSeqs = vectorSearchService.saveProfilesToVectorDb(profiles);
             for (LinkedInEmbeddingRequestDTO profile : profiles) {
-                try {
-                    boolean success = vectorSearchService.saveProfileToVectorDb(profile);
-                    if (success) {
-                        result.addSuccess(profile.getProfileSeq());
-                        log.info("프로필 임베딩 성공: profileSeq={}", profile.getProfileSeq());
-                    } else {
-                        result.addFailed(profile.getProfileSeq(), "벡터 저장 실패");
-                        log.warn("프로필 임베딩 실패: profileSeq={}", profile.getProfileSeq());
-                    }
-                } catch (Exception e) {
-                    log.error("프로필 {} 처리 중 오류: {}", profile.getProfileSeq(), e.getMessage());
-                    result.addFailed(profile.getProfileSeq(), e.getMessage());
+                if (savedProfileSeqs.contains(profile.getProfileSeq())) {
+                    result.addSuccess(profile.getProfileSeq());
+                    log.info("프로필 임베딩 성공: profileSeq={}", profile.getProfileSeq());
+                } else {
+                    result.addFailed(profile.getProfileSeq(), "벡터 저장 실패");
+                    log.warn("프로필 임베딩 실패: profileSeq={}", profile.getProfileSeq());
                 }
             }
 
@@ -1,5 +1,6 @@
 package com.firzzle.llm.expert.service;
 
+import com.firzzle.llm.domain.Vector;
 import com.firzzle.llm.service.EmbeddingService;
 import com.firzzle.llm.expert.dto.LinkedInEmbeddingRequestDTO;
 import lombok.RequiredArgsConstructor;
@@ -54,32 +55,50 @@ public class LinkedInEmbeddingService {
      * @param profile LinkedIn 프로필 데이터
      * @return 임베딩 벡터
      */
-    public List<Float> createEmbedding(LinkedInEmbeddingRequestDTO profile) {
+    public Vector createEmbedding(LinkedInEmbeddingRequestDTO profile) {
         // 프로필 정보를 텍스트로 변환
         String profileText = convertProfileToText(profile);
         log.info("LinkedIn 프로필 임베딩 텍스트 생성: profileSeq={}, text={}", profile.getProfileSeq(), profileText);
 
         // OpenAI API를 사용하여 임베딩 생성
-        List<Float> embedding = embeddingService.embed(profileText);
-        log.info("LinkedIn 프로필 임베딩 완료: profileSeq={}, 벡터 크기={}", profile.getProfileSeq(), embedding.size());
+        Vector embedding = embeddingService.embed(profileText);
+        log.info("LinkedIn 프로필 임베딩 완료: profileSeq={}, 벡터 크기={}", profile.getProfileSeq(), embedding.dimension());
 
         return embedding;
     }
 
+    /**
+     * 여러 LinkedIn 프로필을 한 번의 배치 요청으로 임베딩합니다.
+     *
+     * @param profiles LinkedIn 프로필 데이터 목록
+     * @return 입력 순서와 동일한 임베딩 벡터 목록
+     */
+    public List<Vector> createEmbeddings(List<LinkedInEmbeddingRequestDTO> profiles) {
+        List<String> profileTexts = profiles.stream()
+                .map(this::convertProfileToText)
+                .collect(Collectors.toList());
+        log.info("LinkedIn 프로필 배치 임베딩 요청: 프로필 수={}", profiles.size());
+
+        List<Vector> embeddings = embeddingService.embedAll(profileTexts);
+        log.info("LinkedIn 프로필 배치 임베딩 완료: 프로필 수={}", embeddings.size());
+
+        return embeddings;
+    }
+
     /**
      * 태그 문자열을 임베딩합니다.
      *
      * @param tags 태그 문자열 (쉼표로 구분)
      * @return 임베딩 벡터
      */
-    public List<Float> createTagsEmbedding(String tags) {
+    public Vector createTagsEmbedding(String tags) {
         if (tags == null || tags.isBlank()) {
             throw new IllegalArgumentException("태그가 비어있습니다.");
         }
 
         log.info("태그 임베딩 생성: tags={}", tags);
-        List<Float> embedding = embeddingService.embed(tags);
-        log.info("태그 임베딩 완료: 벡터 크기={}", embedding.size());
+        Vector embedding = embeddingService.embed(tags);
+        log.info("태그 임베딩 완료: 벡터 크기={}", embedding.dimension());
 
         return embedding;
     }
@@ -6,7 +6,10 @@ import com.firzzle.llm.expert.dto.LinkedInProfileSimilarityDTO;
 import com.firzzle.llm.expert.dto.LinkedInSimilarityRequestDTO;
 import com.firzzle.llm.expert.dto.LinkedInSimilarityResponseDTO;
 import com.firzzle.llm.util.QdrantCollections;
-import com.firzzle.llm.client.QdrantClient;
+import com.firzzle.llm.client.QdrantCollectionBootstrapper;
+import com.firzzle.llm.client.VectorDbClient;
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.domain.VectorPoint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,8 +32,9 @@ public class LinkedInVectorSearchService {
     private static final String LINKEDIN_COLLECTION = QdrantCollections.LINKEDIN_PROFILES;
 
     private final RagService ragService;
-    private final QdrantClient qdrantClient;
+    private final VectorDbClient vectorDbClient;
     private final LinkedInEmbeddingService embeddingService;
+    private final QdrantCollectionBootstrapper collectionBootstrapper;
 
     /**
      * LinkedIn 프로필을 Qdrant에 저장합니다.
@@ -41,14 +45,14 @@ public class LinkedInVectorSearchService {
     public boolean saveProfileToVectorDb(LinkedInEmbeddingRequestDTO profile) {
         try {
             // 1. 프로필 임베딩 생성
-            List<Float> embedding = embeddingService.createEmbedding(profile);
+            Vector embedding = embeddingService.createEmbedding(profile);
 
             // 2. 페이로드 생성
             Map<String, Object> payload = embeddingService.createProfilePayload(profile);
 
             // 3. Qdrant에 저장 (QdrantClient 직접 사용)
             try {
-                qdrantClient.upsertVector(LINKEDIN_COLLECTION, profile.getProfileSeq(), embedding, payload)
+                vectorDbClient.upsertVector(LINKEDIN_COLLECTION, profile.getProfileSeq(), embedding, payload)
                         .block(); // 동기적으로 처리하기 위해 block() 사용
                 log.info("LinkedIn 프로필 벡터 저장 요청 완료: profileSeq={}", profile.getProfileSeq());
                 return true;
@@ -63,22 +67,56 @@ public class LinkedInVectorSearchService {
     }
 
     /**
-     * 컬렉션이 존재하는지 확인하고, 없다면 생성합니다.
+     * 여러 LinkedIn 프로필을 배치 임베딩하여 Qdrant에 저장합니다.
      *
-     * @return 성공 여부
+     * @param profiles LinkedIn 프로필 데이터 목록
+     * @return 저장에 성공한 프로필 일련번호 목록
      */
-    public boolean ensureCollectionExists() {
+    public List<Long> saveProfilesToVectorDb(List<LinkedInEmbeddingRequestDTO> profiles) {
+        List<Long> savedProfileSeqs = new ArrayList<>();
+        if (profiles == null || profiles.isEmpty()) {
+            return savedProfileSeqs;
+        }
+
+        List<Vector> embeddings;
         try {
-            // 컬렉션 존재 확인 및 생성 로직 구현
-            // 이 예제에서는 실제 구현은 생략하고 로깅만 추가
-            log.info("Qdrant 컬렉션 확인: {}", LINKEDIN_COLLECTION);
+            // 1. 프로필 배치 임베딩 생성
+            embeddings = embeddingService.createEmbeddings(profiles);
+        } catch (Exception e) {
+            log.error("LinkedIn 프로필 배치 임베딩 생성 실패: {}", e.getMessage(), e);
+            return savedProfileSeqs;
+        }
 
-            // 컬렉션이 있다고 가정
-            return true;
+        // 2. 페이로드 생성 후 한 번의 bulk 요청으로 Qdrant에 저장
+        List<VectorPoint> points = new ArrayList<>();
+        for (int i = 0; i < profiles.size(); i++) {
+            LinkedInEmbeddingRequestDTO profile = profiles.get(i);
+            points.add(VectorPoint.builder()
+                    .id(profile.getProfileSeq())
+                    .vector(embeddings.get(i))
+                    .payload(embeddingService.createProfilePayload(profile))
+                    .build());
+        }
+
+        try {
+            vectorDbClient.upsertPoints(LINKEDIN_COLLECTION, points).block();
+            profiles.forEach(profile -> savedProfileSeqs.add(profile.getProfileSeq()));
         } catch (Exception e) {
-            log.error("Qdrant 컬렉션 확인/생성 실패: {}", e.getMessage(), e);
-            return false;
+            log.error("LinkedIn 프로필 bulk 벡터 저장 실패: {}", e.getMessage(), e);
         }
+
+        log.info("LinkedIn 프로필 배치 벡터 저장 완료: 요청={}, 성공={}", profiles.size(), savedProfileSeqs.size());
+        return savedProfileSeqs;
+    }
+
+    /**
+     * 컬렉션이 존재하는지 확인하고, 없다면 생성합니다.
+     *
+     * @return 성공 여부
+     */
+    public boolean ensureCollectionExists() {
+        // 시작 시 초기화가 끝났으면 바로 true, 실패했었다면 다시 확인/생성
+        return collectionBootstrapper.ensureReady(LINKEDIN_COLLECTION);
     }
 
     /**
@@ -103,7 +141,7 @@ public class LinkedInVectorSearchService {
             }
 
             // 1. 태그 임베딩 생성
-            List<Float> tagsEmbedding = embeddingService.createTagsEmbedding(request.getTags());
+            Vector tagsEmbedding = embeddingService.createTagsEmbedding(request.getTags());
 
             // 2. 유사 프로필 검색
             return searchSimilarProfilesByVector(tagsEmbedding, limit, minScore)
@@ -150,7 +188,7 @@ public class LinkedInVectorSearchService {
      * @return 유사 프로필 목록
      */
     private Mono<List<LinkedInProfileSimilarityDTO>> searchSimilarProfilesByVector(
-            List<Float> vector,
+            Vector vector,
             int limit,
             float minScore) {
 
@@ -162,7 +200,7 @@ public class LinkedInVectorSearchService {
         );
 
         // QdrantClient를 직접 사용하여 검색
-        return qdrantClient.searchRaw(LINKEDIN_COLLECTION, request)
+        return vectorDbClient.searchRaw(LINKEDIN_COLLECTION, request)
                 .map(results -> {
                     return results.stream()
                             .map(this::mapToProfileSimilarityDTO)
@@ -0,0 +1,55 @@
+package com.firzzle.llm.kafka.consumer;
+
+import com.firzzle.llm.kafka.producer.RegistrationRetryProducer;
+import com.firzzle.llm.service.DeadLetterService;
+import com.firzzle.llm.util.KafkaHeaderUtil;
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DLQ 소비자 - 처리에 실패한 메시지를 관리자 재처리용으로 DB에 보관합니다.
+ * - DB 저장 후 ack하고, 저장에 실패하면 nack으로 잠시 뒤 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterConsumer {
+
+    // DB 저장 실패 시 다시 시도하기까지 대기 시간
+    private static final long SAVE_BACKOFF_MILLIS = 5000;
+
+    private final DeadLetterService deadLetterService;
+
+    @KafkaListener(topics = {"stt-converted-dlq", "snap-review-dlq"}, groupId = "firzzle-dlq",
+            containerFactory = "retryListenerContainerFactory")
+    public void consume(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        String sourceTopic = KafkaHeaderUtil.getString(record, RegistrationRetryProducer.HEADER_SOURCE_TOPIC);
+        if (sourceTopic == null) {
+            // 헤더가 없으면 DLQ 토픽 이름에서 원래 토픽을 추정
+            sourceTopic = record.topic().replaceFirst("-dlq$", "");
+        }
+
+        try {
+            deadLetterService.save(
+                sourceTopic,
+                record.key(),
+                record.value(),
+                KafkaHeaderUtil.getString(record, RegistrationRetryProducer.HEADER_ERROR),
+                KafkaHeaderUtil.getInt(record, RegistrationRetryProducer.HEADER_ATTEMPT, 0)
+            );
+        } catch (Exception e) {
+            log.error("❌ DLQ 메시지 저장 실패 - 잠시 후 다시 시도: topic={}, offset={}, error={}",
+                record.topic(), record.offset(), e.getMessage(), e);
+            ack.nack(Duration.ofMillis(SAVE_BACKOFF_MILLIS));
+            return;
+        }
+        ack.acknowledge();
+    }
+}
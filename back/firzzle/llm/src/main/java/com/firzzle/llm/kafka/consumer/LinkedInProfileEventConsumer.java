@@ -82,7 +82,8 @@ public class LinkedInProfileEventConsumer {
 
         log.info("DB에서 {} 개의 프로필 정보 조회 시작", totalProfiles);
 
-        // 프로필 정보 조회 및 임베딩 처리
+        // 프로필 정보 조회
+        List<LinkedInEmbeddingRequestDTO> profiles = new ArrayList<>();
         for (Long profileSeq : profileSeqs) {
             try {
                 // DB에서 프로필 정보 조회
@@ -98,18 +99,7 @@ public class LinkedInProfileEventConsumer {
                 // 스킬 정보 조회
                 List<String> skills = profileEmbeddingMapper.selectSkillsByProfileSeq(profileSeq);
                 profile.setSkills(skills);
-
-                // 임베딩 생성 및 저장
-                boolean success = vectorSearchService.saveProfileToVectorDb(profile);
-
-                if (success) {
-                    log.info("프로필 임베딩 완료: profileSeq={}, name={}", profileSeq, profile.getName());
-                    successCount++;
-                } else {
-                    log.warn("프로필 임베딩 실패: profileSeq={}", profileSeq);
-                    failedProfiles.add(profileSeq);
-                    failCount++;
-                }
+                profiles.add(profile);
 
             } catch (Exception e) {
                 log.error("프로필 {} 처리 중 오류: {}", profileSeq, e.getMessage(), e);
@@ -118,6 +108,19 @@ public class LinkedInProfileEventConsumer {
             }
         }
 
+        // 배치 임베딩 생성 및 저장
+        List<Long> savedProfileSeqs = vectorSearchService.saveProfilesToVectorDb(profiles);
+        for (LinkedInEmbeddingRequestDTO profile : profiles) {
+            if (savedProfileSeqs.contains(profile.getProfileSeq())) {
+                log.info("프로필 임베딩 완료: profileSeq={}, name={}", profile.getProfileSeq(), profile.getName());
+                successCount++;
+            } else {
+                log.warn("프로필 임베딩 실패: profileSeq={}", profile.getProfileSeq());
+                failedProfiles.add(profile.getProfileSeq());
+                failCount++;
+            }
+        }
+
         log.info("LinkedIn 프로필 임베딩 처리 완료: 총={}, 성공={}, 실패={}",
                 totalProfiles, successCount, failCount);
 
@@ -0,0 +1,46 @@
+package com.firzzle.llm.kafka.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firzzle.llm.cache.ContentCacheInvalidator;
+import com.firzzle.llm.sse.SseEmitterRepository;
+import com.firzzle.llm.sse.SseEvent;
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 발행한 SSE 이벤트를 수신하여 이 인스턴스에 연결된 클라이언트에 전달합니다.
+ * 인스턴스마다 고유한 groupId를 사용해 모든 인스턴스가 모든 이벤트를 받습니다(브로드캐스트).
+ * groupId는 인스턴스 식별자(설정값 또는 호스트 이름)로 만들어 재시작해도 같은 그룹을 사용합니다.
+ * 같은 토픽으로 전파되는 콘텐츠 캐시 무효화 이벤트도 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventConsumer {
+
+    private final ObjectMapper objectMapper;
+    private final SseEmitterRepository sseEmitterRepository;
+    private final ContentCacheInvalidator contentCacheInvalidator;
+
+    @KafkaListener(
+        topics = "${app.sse.cluster.topic:llm-sse-events}",
+        groupId = "llm-sse-#{@sseClusterInstanceId}",
+        autoStartup = "${app.sse.cluster.enabled:true}",
+        properties = {"auto.offset.reset=latest"}
+    )
+    public void consume(String message) {
+        try {
+            SseEvent event = objectMapper.readValue(message, SseEvent.class);
+            if (SseEvent.TYPE_CACHE_EVICT.equals(event.getType())) {
+                contentCacheInvalidator.evictLocal(((Number) event.getData()).longValue());
+                return;
+            }
+            sseEmitterRepository.deliver(event);
+        } catch (Exception e) {
+            log.error("❌ SSE 이벤트 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+}
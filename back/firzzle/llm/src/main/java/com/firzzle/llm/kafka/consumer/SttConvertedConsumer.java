@@ -1,67 +1,274 @@
 package com.firzzle.llm.kafka.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.firzzle.common.exception.BusinessException;
-import com.firzzle.common.exception.ErrorCode;
 import com.firzzle.llm.dto.LlmRequestDTO;
+import com.firzzle.llm.kafka.producer.RegistrationRetryProducer;
+import com.firzzle.llm.service.DeadLetterService;
 import com.firzzle.llm.service.RegistrationService;
 import com.firzzle.llm.sse.SseEmitterRepository;
+import com.firzzle.llm.util.KafkaHeaderUtil;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STT 변환 결과 소비자
+ * - 동시에 진행되는 요약 파이프라인 수를 세마포어로 제한하고, 한도에 가까워지면 리스너를 일시 정지합니다.
+ *   슬롯은 기다리지 않고(tryAcquire) 확보하며, 없으면 예외로 컨테이너 오류 처리기가 같은 메시지를 잠시 후 재전달합니다.
+ *   (소비 스레드가 슬롯을 기다리다 max.poll.interval.ms를 넘겨 리밸런스되는 것을 방지)
+ * - 파이프라인이 끝난 뒤(저장 완료 또는 오류 처리 완료) 오프셋을 ack하므로, 처리 중 장애 시 메시지가 재전달됩니다.
+ * - 일시적 오류로 실패하면 재시도 토픽으로, 재시도를 모두 소진하거나 메시지가 잘못된 경우 DLQ로 보냅니다.
+ *   파이프라인을 시작하지 못한 경우(실행기 포화 등)는 메시지 문제가 아니므로 DLQ로 보내지 않고 재전달합니다.
+ * - 재시도/DLQ 전송이 브로커에 기록된 뒤에만 ack하고, 전송에 실패하면 DLQ 테이블에 직접 보관합니다.
+ *   보관도 실패하면 ack하지 않아 메시지가 재전달됩니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SttConvertedConsumer {
 
+    private static final String LISTENER_ID = "stt-converted";
+
     private final RegistrationService llmService;
     private final ObjectMapper objectMapper;
     private final SseEmitterRepository sseEmitterRepository; // SseEmitterRepository 주입 추가
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final RegistrationRetryProducer retryProducer;
+    private final DeadLetterService deadLetterService;
+
+    @Value("${app.kafka.stt-converted.max-in-flight:10}")
+    private int maxInFlight;
+
+    @Value("${app.kafka.stt-converted.concurrency:3}")
+    private int concurrency;
+
+    private Semaphore inFlight;
+    // 일시 정지 요청 후에도 소비 스레드마다 이미 전달 중인 메시지 1건이 슬롯을 가져갈 수 있으므로 그만큼 남겨두고 정지
+    private int reservedSlots;
+    // 여러 소비 스레드와 파이프라인 완료 스레드가 pause/resume을 번갈아 호출하지 않도록 결정을 직렬화
+    private final Object pauseLock = new Object();
+    private Timer processingTimer;
+    private Timer recordAgeTimer;
+
+    @PostConstruct
+    public void init() {
+        inFlight = new Semaphore(maxInFlight);
+        reservedSlots = Math.min(concurrency, maxInFlight - 1);
+        Gauge.builder("llm.stt-converted.in.flight", inFlight, s -> maxInFlight - s.availablePermits())
+                .register(meterRegistry);
+        processingTimer = Timer.builder("llm.stt-converted.processing")
+                .description("메시지 수신부터 요약 파이프라인 완료까지 걸린 시간")
+                .register(meterRegistry);
+        recordAgeTimer = Timer.builder("llm.stt-converted.lag")
+                .description("메시지 발행부터 수신까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(id = LISTENER_ID, topics = "stt-converted", groupId = "firzzle",
+            containerFactory = "sttConvertedListenerContainerFactory")
+    public void consume(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        String message = record.value();
+        recordAgeTimer.record(Math.max(0, System.currentTimeMillis() - record.timestamp()), TimeUnit.MILLISECONDS);
 
-    @KafkaListener(topics = "stt-converted", groupId = "firzzle")
-    public void consume(String message) {
         String preview = message.length() > 100 ? message.substring(0, 100) + "..." : message;
         log.info("✅ 수신한 텍스트(미리보기): " + preview);
 
+        // ✅ JSON 문자열 → LlmRequest 객체로 역직렬화
+        LlmRequestDTO requestObj;
         try {
-            // ✅ JSON 문자열 → LlmRequest 객체로 역직렬화
-            LlmRequestDTO requestObj = objectMapper.readValue(message, LlmRequestDTO.class);
-
-            // userContentSeq가 null인 경우 STT 처리 중 오류가 발생한 것으로 간주
-            if (requestObj.getUserContentSeq() == null) {
-                log.error("❌ userContentSeq가 null입니다. STT 모듈에서 오류 발생. message=" + message);
-
-                // taskId가 있다면 SSE로 오류 전송
-                if (requestObj.getTaskId() != null) {
-                    String errorMessage = "STT 처리 중 오류가 발생했습니다.";
-                    if(requestObj.getErrorMessage()!=null && !requestObj.getErrorMessage().isEmpty()) {
-                        errorMessage = requestObj.getErrorMessage();
-                    }
-                    sseEmitterRepository.completeWithError(requestObj.getTaskId(), errorMessage);
-                    log.error("❌ SSE 오류 전송 완료: taskId={}, message={}", requestObj.getTaskId(), errorMessage);
-                }
+            requestObj = objectMapper.readValue(message, LlmRequestDTO.class);
+        } catch (JsonProcessingException e) {
+            // 잘못된 메시지만 DLQ로 보관 (그 외 예외는 컨테이너 오류 처리기가 같은 메시지를 재전달)
+            sendUnparseableToDlq(record, e);
+            ack.acknowledge();
+            return;
+        }
+
+        // 재시도/DLQ 재처리 메시지는 이전 시도의 부분 결과를 정리 후 처리
+        int attempt = KafkaHeaderUtil.getInt(record, RegistrationRetryProducer.HEADER_ATTEMPT, 0);
+        boolean replayed = KafkaHeaderUtil.getString(record, RegistrationRetryProducer.HEADER_REPROCESS) != null;
+        requestObj.setReprocess(attempt > 0 || replayed);
 
-                return; // 처리 중단
+        // 이전 시도가 다른 인스턴스에서 발행한 SSE 이벤트 id 이후부터 이어서 부여
+        if (requestObj.getTaskId() != null) {
+            sseEmitterRepository.seedEventId(requestObj.getTaskId(),
+                    KafkaHeaderUtil.getLong(record, RegistrationRetryProducer.HEADER_SSE_LAST_EVENT_ID, 0L));
+        }
+
+        // userContentSeq가 null인 경우 STT 처리 중 오류가 발생한 것으로 간주
+        if (requestObj.getUserContentSeq() == null) {
+            log.error("❌ userContentSeq가 null입니다. STT 모듈에서 오류 발생. message=" + message);
+
+            // taskId가 있다면 SSE로 오류 전송
+            if (requestObj.getTaskId() != null) {
+                String errorMessage = "STT 처리 중 오류가 발생했습니다.";
+                if(requestObj.getErrorMessage()!=null && !requestObj.getErrorMessage().isEmpty()) {
+                    errorMessage = requestObj.getErrorMessage();
+                }
+                sseEmitterRepository.completeWithError(requestObj.getTaskId(), errorMessage);
+                log.error("❌ SSE 오류 전송 완료: taskId={}, message={}", requestObj.getTaskId(), errorMessage);
             }
 
+            ack.acknowledge();
+            return; // 처리 중단
+        }
+
+        acquireSlot();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
             llmService.summarizeContents(requestObj)
-                    .thenAccept(result -> {
-                        log.info("✅ 요약 완료");
-                    })
-                    .exceptionally(e -> {
-                        // 로그만 기록하고 SSE 에러 처리는 서비스에 맡깁니다
-                        log.error("❌ 요약 처리 중 오류: {} (SSE 에러는 서비스에서 처리됨)", e.getMessage());
-                        return null;
+                    .whenComplete((result, e) -> {
+                        boolean handled = true;
+                        if (e != null) {
+                            // 일시적 오류로 실패한 경우에만 예외로 완료됨 (그 외 오류는 서비스에서 처리 후 정상 완료)
+                            handled = handleTransientFailure(record, requestObj, attempt, e);
+                        } else {
+                            log.info("✅ 요약 완료");
+                        }
+                        sample.stop(processingTimer);
+                        if (handled) {
+                            ack.acknowledge();
+                        } else {
+                            // 커밋이 이 오프셋을 넘지 않으므로 재시작/리밸런스 시 재전달됨
+                            log.error("❌ 실패 메시지 보관 불가 - ack 보류: partition={}, offset={}", record.partition(), record.offset());
+                        }
+                        releaseSlot();
                     });
+        } catch (RuntimeException e) {
+            // 비동기 실행기 포화(TaskRejectedException) 등으로 파이프라인을 시작하지 못한 경우
+            // 메시지는 정상이므로 DLQ로 보내지 않고 ack 없이 컨테이너 오류 처리기가 재전달
+            releaseSlot();
+            log.warn("⚠️ 요약 파이프라인 시작 실패 - 메시지 재전달 예정: contentSeq={}, error={}", requestObj.getContentSeq(), e.getMessage());
+            throw new PipelineStartException("요약 파이프라인 시작 실패: contentSeq=" + requestObj.getContentSeq(), e);
+        }
+    }
+
+    /**
+     * 역직렬화할 수 없는 메시지를 재처리할 수 있도록 DLQ로 보관합니다. (taskId를 알 수 없으므로 SSE 알림 없음)
+     * DLQ 전송에 실패하면 DLQ 테이블에 직접 보관하고, 보관도 실패하면 예외로 컨테이너 오류 처리기가 재전달합니다.
+     */
+    private void sendUnparseableToDlq(ConsumerRecord<String, String> record, JsonProcessingException e) {
+        log.error("❌ Kafka 메시지 파싱 실패: " + e.getMessage(), e);
 
-        } catch (Exception e) {
-            log.error("❌ Kafka 메시지 파싱 실패: " + e.getMessage(), e);
+        String errorMessage = "메시지 파싱 실패: " + e.getMessage();
+        try {
+            retryProducer.sendToDlq(RegistrationRetryProducer.SOURCE_TOPIC, record.key(), record.value(), 0, errorMessage);
+        } catch (Exception sendError) {
+            log.error("❌ DLQ 전송 실패 - DLQ 테이블에 직접 보관: {}", sendError.getMessage());
+            deadLetterService.save(RegistrationRetryProducer.SOURCE_TOPIC, record.key(), record.value(), errorMessage, 0);
+        }
+    }
+
+    /**
+     * 일시적 오류로 실패한 메시지를 다음 재시도 토픽으로 보내고,
+     * 재시도를 모두 소진했으면 DLQ로 보낸 뒤 콘텐츠를 실패 상태로 표시합니다.
+     * 전송에 실패하면 재시도 없이 DLQ 테이블에 직접 보관합니다.
+     *
+     * @return 메시지를 재시도 토픽, DLQ 또는 DLQ 테이블 중 한 곳에 보관했으면 true (ack 가능)
+     */
+    private boolean handleTransientFailure(ConsumerRecord<String, String> record, LlmRequestDTO request, int attempt, Throwable e) {
+        String errorMessage = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        boolean retrying;
+        try {
+            long sseLastEventId = request.getTaskId() != null ? sseEmitterRepository.lastEventId(request.getTaskId()) : 0L;
+            retrying = retryProducer.sendToRetryOrDlq(record.key(), record.value(), attempt, errorMessage, sseLastEventId);
+        } catch (Exception ex) {
+            log.error("❌ 재시도/DLQ 전송 실패 - DLQ 테이블에 직접 보관: contentSeq={}, error={}", request.getContentSeq(), ex.getMessage(), ex);
+            try {
+                deadLetterService.save(RegistrationRetryProducer.SOURCE_TOPIC, record.key(), record.value(), errorMessage, attempt);
+                retrying = false;
+            } catch (Exception saveError) {
+                log.error("❌ DLQ 테이블 보관 실패: contentSeq={}, error={}", request.getContentSeq(), saveError.getMessage(), saveError);
+                return false;
+            }
+        }
+
+        if (!retrying) {
+            try {
+                llmService.markFailed(request, errorMessage);
+            } catch (Exception ex) {
+                log.error("❌ 실패 상태 저장 오류: contentSeq={}, error={}", request.getContentSeq(), ex.getMessage(), ex);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 처리 슬롯을 기다리지 않고 확보합니다. 남은 슬롯이 예약분보다 적어지면 리스너를 일시 정지합니다.
+     *
+     * @throws SlotUnavailableException 남은 슬롯이 없는 경우 (메시지는 재전달됨)
+     */
+    private void acquireSlot() {
+        if (!inFlight.tryAcquire()) {
+            updatePauseState();
+            log.warn("⚠️ 처리 슬롯 없음 - 메시지 재전달 예정");
+            throw new SlotUnavailableException("stt-converted 처리 한도(" + maxInFlight + ") 초과");
+        }
+        updatePauseState();
+    }
+
+    /**
+     * 처리 슬롯을 반환하고, 슬롯이 충분해졌으면 소비를 재개합니다.
+     */
+    private void releaseSlot() {
+        inFlight.release();
+        updatePauseState();
+    }
+
+    /**
+     * 현재 남은 슬롯 수를 기준으로 리스너의 일시 정지/재개 상태를 맞춥니다.
+     */
+    private void updatePauseState() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container == null) return;
+
+        synchronized (pauseLock) {
+            boolean full = inFlight.availablePermits() < reservedSlots;
+            if (full && !container.isPauseRequested()) {
+                container.pause();
+                log.info("⏸️ 처리 한도({}) 근접 - stt-converted 소비 일시 정지", maxInFlight);
+            } else if (!full && container.isPauseRequested()) {
+                container.resume();
+                log.info("▶️ 처리 슬롯 확보 - stt-converted 소비 재개");
+            }
+        }
+    }
+
+    /**
+     * 처리 슬롯이 없어 메시지를 처리하지 못한 경우
+     * - KafkaConfig의 오류 처리기가 이 예외는 횟수 제한 없이 짧은 간격으로 재전달합니다.
+     */
+    public static class SlotUnavailableException extends RuntimeException {
+        public SlotUnavailableException(String message) {
+            super(message);
+        }
+    }
 
-            // 파싱 단계에서 오류가 발생하면 taskId를 추출할 수 없으므로
-            // 이 경우 처리 불가능 - 로그만 남김
+    /**
+     * 요약 파이프라인을 시작하지 못한 경우 (실행기 포화 등, 메시지 자체는 정상)
+     * - KafkaConfig의 오류 처리기가 이 예외는 DLQ로 보내지 않고 간격을 늘려가며 계속 재전달합니다.
+     */
+    public static class PipelineStartException extends RuntimeException {
+        public PipelineStartException(String message, Throwable cause) {
+            super(message, cause);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.firzzle.llm.kafka.consumer;
+
+import com.firzzle.llm.kafka.producer.RegistrationRetryProducer;
+import com.firzzle.llm.util.KafkaHeaderUtil;
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재시도 토픽 소비자 (stt-converted-retry-1m, -10m)
+ * - 메시지 발행 시각 + 토픽별 지연 시간이 지나기 전에는 nack으로 파티션을 잠시 멈춰(non-blocking) 기다리고,
+ *   지연이 끝나면 원래 토픽(stt-converted)으로 되돌려 다시 처리되도록 합니다.
+ * - 원래 토픽 전송이 실패하면 ack하지 않고 nack으로 잠시 뒤 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SttConvertedRetryConsumer {
+
+    // max.poll.interval.ms보다 짧게 유지 (긴 지연은 여러 번 나누어 대기)
+    private static final long MAX_PAUSE_MILLIS = 30000;
+
+    // 원래 토픽 전송 실패 시 다시 시도하기까지 대기 시간
+    private static final long RESEND_BACKOFF_MILLIS = 5000;
+
+    private final RegistrationRetryProducer retryProducer;
+
+    @Value("${app.kafka.stt-converted.retry-topics:stt-converted-retry-1m,stt-converted-retry-10m}")
+    private List<String> retryTopics;
+
+    @Value("${app.kafka.stt-converted.retry-delays:60000,600000}")
+    private List<Long> retryDelays;
+
+    @KafkaListener(
+        topics = "#{'${app.kafka.stt-converted.retry-topics:stt-converted-retry-1m,stt-converted-retry-10m}'.split(',')}",
+        groupId = "firzzle-retry",
+        containerFactory = "retryListenerContainerFactory"
+    )
+    public void consume(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        long dueAt = record.timestamp() + delayOf(record.topic());
+        long waitMillis = dueAt - System.currentTimeMillis();
+        if (waitMillis > 0) {
+            ack.nack(Duration.ofMillis(Math.min(waitMillis, MAX_PAUSE_MILLIS)));
+            return;
+        }
+
+        int attempt = KafkaHeaderUtil.getInt(record, RegistrationRetryProducer.HEADER_ATTEMPT, 1);
+        try {
+            retryProducer.sendToSource(record.key(), record.value(), attempt,
+                    KafkaHeaderUtil.getLong(record, RegistrationRetryProducer.HEADER_SSE_LAST_EVENT_ID, 0L));
+        } catch (Exception e) {
+            log.error("❌ 재시도 메시지 재전송 실패 - 잠시 후 다시 시도: from={}, error={}", record.topic(), e.getMessage());
+            ack.nack(Duration.ofMillis(RESEND_BACKOFF_MILLIS));
+            return;
+        }
+        ack.acknowledge();
+        log.info("🔁 재시도 메시지 재전송: from={}, attempt={}", record.topic(), attempt);
+    }
+
+    private long delayOf(String topic) {
+        int index = retryTopics.indexOf(topic);
+        return index >= 0 && index < retryDelays.size() ? retryDelays.get(index) : 0L;
+    }
+}
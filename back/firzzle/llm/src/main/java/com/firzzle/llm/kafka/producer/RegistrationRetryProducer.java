@@ -0,0 +1,115 @@
+package com.firzzle.llm.kafka.producer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 등록 파이프라인 재시도/DLQ 메시지 전송
+ * - 재시도 횟수에 따라 지연 시간이 다른 재시도 토픽(stt-converted-retry-1m, -10m)으로 보내고,
+ *   재시도를 모두 소진하면 DLQ(stt-converted-dlq)로 보냅니다.
+ * - 원본 메시지는 그대로 유지하고 재시도 정보는 헤더로 전달합니다.
+ * - 브로커 응답까지 기다린 뒤 반환하며, 전송에 실패하면 예외를 던집니다. (호출 측은 성공한 경우에만 원본 메시지를 ack)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationRetryProducer {
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    public static final String SOURCE_TOPIC = "stt-converted";
+    public static final String DLQ_TOPIC = "stt-converted-dlq";
+
+    // 재시도 정보 헤더
+    public static final String HEADER_ATTEMPT = "x-retry-attempt";
+    public static final String HEADER_SOURCE_TOPIC = "x-source-topic";
+    public static final String HEADER_ERROR = "x-error-message";
+    public static final String HEADER_REPROCESS = "x-reprocess";
+    // 이전 시도에서 발행된 마지막 SSE 이벤트 id (다음 시도가 이어서 id를 부여)
+    public static final String HEADER_SSE_LAST_EVENT_ID = "x-sse-last-event-id";
+
+    @Value("${app.kafka.stt-converted.retry-topics:stt-converted-retry-1m,stt-converted-retry-10m}")
+    private List<String> retryTopics;
+
+    @Value("${app.kafka.stt-converted.send-timeout:30000}")
+    private long sendTimeoutMillis;
+
+    /**
+     * 실패한 메시지를 다음 재시도 토픽으로 보냅니다. 재시도를 모두 소진했으면 DLQ로 보냅니다.
+     * @param key 원본 메시지 key
+     * @param message 원본 메시지
+     * @param attempt 이번에 실패한 시도의 재시도 횟수 (최초 처리는 0)
+     * @param errorMessage 실패 사유
+     * @param sseLastEventId 이번 시도에서 발행된 마지막 SSE 이벤트 id
+     * @return 재시도 토픽으로 보냈으면 true, DLQ로 보냈으면 false
+     * @throws IllegalStateException 전송 실패 또는 시간 초과
+     */
+    public boolean sendToRetryOrDlq(String key, String message, int attempt, String errorMessage, long sseLastEventId) {
+        if (attempt < retryTopics.size()) {
+            String topic = retryTopics.get(attempt);
+            send(topic, key, message, attempt + 1, SOURCE_TOPIC, errorMessage, false, sseLastEventId);
+            log.warn("🔁 재시도 토픽 전송: topic={}, attempt={}", topic, attempt + 1);
+            return true;
+        }
+        sendToDlq(SOURCE_TOPIC, key, message, attempt, errorMessage);
+        return false;
+    }
+
+    /**
+     * 메시지를 DLQ로 보냅니다.
+     */
+    public void sendToDlq(String sourceTopic, String key, String message, int attempt, String errorMessage) {
+        send(DLQ_TOPIC, key, message, attempt, sourceTopic, errorMessage, false, 0L);
+        log.error("☠️ DLQ 전송: sourceTopic={}, attempt={}, error={}", sourceTopic, attempt, errorMessage);
+    }
+
+    /**
+     * 재시도 지연이 끝난 메시지를 원래 토픽으로 되돌려 보냅니다.
+     */
+    public void sendToSource(String key, String message, int attempt, long sseLastEventId) {
+        send(SOURCE_TOPIC, key, message, attempt, SOURCE_TOPIC, null, false, sseLastEventId);
+    }
+
+    /**
+     * DLQ 메시지를 원래 토픽으로 재처리 요청합니다. (재시도 횟수 초기화, 재처리 표시)
+     */
+    public void replay(String sourceTopic, String key, String message) {
+        send(sourceTopic, key, message, 0, sourceTopic, null, true, 0L);
+        log.info("♻️ DLQ 재처리 전송: topic={}", sourceTopic);
+    }
+
+    private void send(String topic, String key, String message, int attempt, String sourceTopic,
+                      String errorMessage, boolean reprocess, long sseLastEventId) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, message);
+        record.headers().add(HEADER_ATTEMPT, String.valueOf(attempt).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_SOURCE_TOPIC, sourceTopic.getBytes(StandardCharsets.UTF_8));
+        if (errorMessage != null) {
+            record.headers().add(HEADER_ERROR, errorMessage.getBytes(StandardCharsets.UTF_8));
+        }
+        if (reprocess) {
+            record.headers().add(HEADER_REPROCESS, "true".getBytes(StandardCharsets.UTF_8));
+        }
+        if (sseLastEventId > 0) {
+            record.headers().add(HEADER_SSE_LAST_EVENT_ID, String.valueOf(sseLastEventId).getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            kafkaTemplate.send(record).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Kafka 전송 대기 중 인터럽트: topic=" + topic, e);
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Kafka 전송 실패: topic=" + topic + ", error=" + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.firzzle.llm.kafka.producer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firzzle.llm.sse.SseEvent;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SseEventProducer {
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.sse.cluster.topic:llm-sse-events}")
+    private String topic;
+
+    /**
+     * SSE 이벤트를 모든 llm 인스턴스로 전파합니다.
+     * taskId를 key로 사용해 같은 작업의 이벤트 순서를 보장합니다.
+     * @param event 전송할 SSE 이벤트
+     */
+    public void send(SseEvent event) {
+        try {
+            String json = objectMapper.writeValueAsString(event);
+            kafkaTemplate.send(topic, event.getTaskId(), json);
+            log.debug("📤 SSE 이벤트 전파: taskId={}, id={}, event={}", event.getTaskId(), event.getId(), event.getName());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Kafka 전송용 JSON 직렬화 실패", e);
+        }
+    }
+}
@@ -24,6 +24,26 @@ public interface ContentMapper {
      * @return 삽입된 행 수
      */
     int insertContentTags(@Param("contentSeq") Long contentSeq, @Param("tags") List<String> tags);
+
+    /**
+     * claim-check로 보관된 스크립트를 조회합니다.
+     */
+    String selectContentScript(@Param("scriptSeq") Long scriptSeq);
+
+    /**
+     * claim-check로 보관된 스크립트를 삭제합니다. (등록 완료 또는 삭제 처리 후)
+     */
+    int deleteContentScript(@Param("scriptSeq") Long scriptSeq);
+
+    /**
+     * 콘텐츠의 처리 상태를 조회합니다.
+     */
+    String selectProcessStatusByContentSeq(@Param("contentSeq") Long contentSeq);
+
+    /**
+     * 콘텐츠에 연결된 태그를 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    int deleteContentTags(@Param("contentSeq") Long contentSeq);
     
     /**
      * Qdrant 유사도 검색 결과 기반 콘텐츠 리스트 조회
@@ -35,6 +55,12 @@ public interface ContentMapper {
                                                        @Param("processStatus") String processStatus,
                                                        @Param("completedAt") String completedAt);
 
+    /**
+     * 처리 상태만 업데이트합니다. (부분 요약 제공 등 중간 상태)
+     */
+    int updateProcessStatusByContentSeq(@Param("contentSeq") Long contentSeq,
+                                        @Param("processStatus") String processStatus);
+
     /**
      * userContentSeq에 해당하는 데이터를 삭제합니다.
      */
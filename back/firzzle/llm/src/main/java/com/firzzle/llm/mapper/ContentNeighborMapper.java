@@ -0,0 +1,83 @@
+package com.firzzle.llm.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.firzzle.llm.dto.ContentNeighborDTO;
+import com.firzzle.llm.dto.ContentNeighborRunDTO;
+import com.firzzle.llm.dto.RecommendContentDTO;
+
+@Mapper
+public interface ContentNeighborMapper {
+
+    /**
+     * 콘텐츠의 이웃 계산 상태와 태그를 조회합니다. (계산된 적 없으면 null)
+     */
+    ContentNeighborRunDTO selectNeighborRun(@Param("contentSeq") Long contentSeq);
+
+    /**
+     * 계산 상태가 있는 콘텐츠 번호를 조회하며 해당 행을 잠급니다. (SELECT ... FOR UPDATE, PK 순서)
+     */
+    List<Long> selectNeighborRunSeqsForUpdate(@Param("contentSeqs") List<Long> contentSeqs);
+
+    /**
+     * 유사도 내림차순으로 이웃 콘텐츠 한 페이지를 조회합니다.
+     */
+    List<RecommendContentDTO> selectNeighborContents(@Param("contentSeq") Long contentSeq,
+                                                     @Param("offset") int offset,
+                                                     @Param("limit") int limit);
+
+    /**
+     * 콘텐츠의 이웃을 모두 삭제합니다.
+     */
+    int deleteNeighbors(@Param("contentSeq") Long contentSeq);
+
+    /**
+     * 이웃 목록을 한 번에 저장합니다.
+     */
+    int insertNeighbors(@Param("neighbors") List<ContentNeighborDTO> neighbors);
+
+    /**
+     * 이웃 하나를 저장합니다. (이미 있으면 유사도 갱신)
+     */
+    int upsertNeighbor(ContentNeighborDTO neighbor);
+
+    /**
+     * 유사도 상위 keep개를 제외한 이웃을 삭제합니다.
+     */
+    int trimNeighbors(@Param("contentSeq") Long contentSeq, @Param("keep") int keep);
+
+    /**
+     * 이웃 계산 상태를 저장합니다.
+     */
+    int upsertNeighborRun(ContentNeighborRunDTO run);
+
+    /**
+     * 계산 상태의 이웃 수를 실제 저장된 이웃 수로 갱신합니다.
+     */
+    int updateNeighborCount(@Param("contentSeq") Long contentSeq);
+
+    /**
+     * 처리 완료되었지만 이웃이 계산되지 않은 콘텐츠를 최신순으로 조회합니다.
+     * 빈 이웃 목록으로 기록된 지 emptyRetryBefore(YYYYMMDDHHMMSS)가 지난 콘텐츠도 포함합니다.
+     */
+    List<Long> selectContentSeqsWithoutNeighbors(@Param("limit") int limit,
+                                                 @Param("emptyRetryBefore") String emptyRetryBefore);
+
+    /**
+     * 삭제되지 않은 콘텐츠 번호만 조회합니다.
+     */
+    List<Long> selectActiveContentSeqs(@Param("contentSeqs") List<Long> contentSeqs);
+
+    /**
+     * 삭제된 콘텐츠와, 삭제된 콘텐츠를 이웃으로 가진 콘텐츠의 계산 상태를 삭제합니다.
+     */
+    int deleteRunsReferencingDeletedContents();
+
+    /**
+     * 삭제된 콘텐츠를 기준 또는 이웃으로 하는 이웃 행을 삭제합니다.
+     */
+    int deleteNeighborsOfDeletedContents();
+}
@@ -0,0 +1,38 @@
+package com.firzzle.llm.mapper;
+
+import java.util.List;
+
+import com.firzzle.llm.dto.RegistrationSubscriberDTO;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ContentRegistrationMapper {
+
+    /**
+     * 대표 작업에 연결된 콘텐츠 일련 번호를 조회합니다.
+     */
+    Long selectContentSeqByTaskId(@Param("taskId") String taskId);
+
+    /**
+     * 대표 작업에 합류한 구독 요청 목록을 조회합니다.
+     */
+    List<RegistrationSubscriberDTO> selectSubscribers(@Param("leaderTaskId") String leaderTaskId);
+
+    /**
+     * 구독 요청에 생성된 사용자 콘텐츠를 기록합니다.
+     */
+    int updateSubscriberUserContentSeq(@Param("subscriberSeq") Long subscriberSeq,
+                                       @Param("userContentSeq") Long userContentSeq);
+
+    /**
+     * 진행 중 등록을 해제합니다. (이후 같은 영상 요청은 합류하지 않음)
+     */
+    int deleteRegistration(@Param("taskId") String taskId);
+
+    /**
+     * 대표 작업의 구독 요청을 삭제합니다.
+     */
+    int deleteSubscribers(@Param("leaderTaskId") String leaderTaskId);
+}
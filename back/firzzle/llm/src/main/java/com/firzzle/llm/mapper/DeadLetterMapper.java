@@ -0,0 +1,32 @@
+package com.firzzle.llm.mapper;
+
+import java.util.List;
+
+import com.firzzle.llm.dto.DeadLetterDTO;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface DeadLetterMapper {
+
+    /**
+     * DLQ 메시지를 저장합니다.
+     */
+    int insertDeadLetter(DeadLetterDTO deadLetter);
+
+    /**
+     * 상태별 DLQ 메시지 목록을 최근 순으로 조회합니다.
+     */
+    List<DeadLetterDTO> selectDeadLetters(@Param("status") String status, @Param("limit") int limit);
+
+    /**
+     * DLQ 메시지를 조회합니다.
+     */
+    DeadLetterDTO selectDeadLetter(@Param("dlqSeq") Long dlqSeq);
+
+    /**
+     * DLQ 메시지를 재처리 완료 상태로 변경합니다.
+     */
+    int updateReplayed(@Param("dlqSeq") Long dlqSeq, @Param("replayedAt") String replayedAt);
+}
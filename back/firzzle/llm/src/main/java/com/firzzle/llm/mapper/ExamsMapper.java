@@ -100,4 +100,9 @@ public interface ExamsMapper {
 
     // 3. 단건 조회 (user_seq + content_seq 기준)
     ExamProgressDTO selectByUserAndContent(@Param("userSeq") Long userSeq, @Param("contentSeq") Long contentSeq);
+
+    /**
+     * 콘텐츠의 시험 문제를 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    int deleteExamsByContentSeq(@Param("contentSeq") Long contentSeq);
 }
@@ -0,0 +1,34 @@
+package com.firzzle.llm.mapper;
+
+import com.firzzle.llm.dto.LlmResultCacheDTO;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface LlmResultCacheMapper {
+
+    /**
+     * 프롬프트 버전, 모델, 입력 해시에 해당하는 캐시 결과를 조회합니다.
+     */
+    LlmResultCacheDTO selectResult(@Param("promptVersion") String promptVersion,
+                                   @Param("model") String model,
+                                   @Param("inputHash") String inputHash);
+
+    /**
+     * 캐시 결과를 저장합니다. (같은 키가 있으면 응답을 갱신)
+     */
+    int upsertResult(LlmResultCacheDTO result);
+
+    /**
+     * 단일 캐시 결과를 삭제합니다.
+     */
+    int deleteResult(@Param("promptVersion") String promptVersion,
+                     @Param("model") String model,
+                     @Param("inputHash") String inputHash);
+
+    /**
+     * 프롬프트 버전에 해당하는 캐시 결과를 모두 삭제합니다.
+     */
+    int deleteByPromptVersion(@Param("promptVersion") String promptVersion);
+}
@@ -22,4 +22,14 @@ public interface OxQuizMapper {
      */
     int insertQuestionOptions(@Param("options") List<OxQuizOptionDTO> options);
 
+    /**
+     * 콘텐츠의 문제 보기를 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    int deleteQuestionOptionsByContentSeq(@Param("contentSeq") Long contentSeq);
+
+    /**
+     * 콘텐츠의 문제를 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    int deleteQuestionsByContentSeq(@Param("contentSeq") Long contentSeq);
+
 }
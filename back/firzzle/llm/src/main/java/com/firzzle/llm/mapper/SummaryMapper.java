@@ -10,4 +10,14 @@ import com.firzzle.llm.dto.SectionDTO;
 public interface SummaryMapper {
     void insertSummary(SummaryDTO summary);
     void insertSections(List<SectionDTO> sectionList);
+
+    /**
+     * 콘텐츠의 요약 섹션을 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    int deleteSectionsByContentSeq(long contentSeq);
+
+    /**
+     * 콘텐츠의 요약을 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    int deleteSummariesByContentSeq(long contentSeq);
 }
@@ -33,6 +33,7 @@ public class PromptFactory {
                 .temperature(0.3)
                 .topP(1.0)
                 .maxTokens(8192)
+                .promptVersion(SystemPromptManager.SUMMARY_PROMPT_VERSION)
                 .build();
 	 }
      
@@ -44,6 +45,7 @@ public class PromptFactory {
                 .temperature(0.3)
                 .topP(1.0)
                 .maxTokens(8192)
+                .promptVersion(SystemPromptManager.TIMELINE_PROMPT_VERSION)
                 .build();
 	 }
 
@@ -5,6 +5,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class SystemPromptManager {
 
+    // 프롬프트 버전 (프롬프트 내용을 수정하면 버전을 올려 LLM 결과 캐시가 재사용되지 않도록 함)
+    public static final String SUMMARY_PROMPT_VERSION = "summary-v1";
+    public static final String TIMELINE_PROMPT_VERSION = "timeline-v1";
+
     public String getLearningChatSystemPrompt() {
         return """
         당신은 학생을 도와주는 똑똑한 AI 튜터입니다.
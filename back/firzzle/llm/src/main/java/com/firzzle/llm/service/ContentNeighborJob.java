@@ -0,0 +1,145 @@
+package com.firzzle.llm.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.firzzle.llm.dto.ContentNeighborDTO;
+import com.firzzle.llm.util.QdrantCollections;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 콘텐츠 추천 이웃 계산 작업
+ * - 콘텐츠 등록이 끝나면 content_vectors에서 유사도 상위 N개를 검색해 이웃 테이블에 저장 (상대 콘텐츠 목록도 갱신)
+ * - 이웃이 계산되지 않은 기존/실패 콘텐츠는 주기적으로 조금씩 계산 (backfill)
+ *   벡터가 아직 없어 빈 목록으로 기록된 콘텐츠도 일정 시간 후 다시 계산
+ * - backfill 주기마다 삭제된 콘텐츠의 이웃 행을 정리
+ * - 같은 콘텐츠에 대한 동시 계산은 하나로 합침
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentNeighborJob {
+
+    private final RagService ragService;
+    private final ContentNeighborService contentNeighborService;
+
+    @Value("${app.recommendation.neighbors.top-n:18}")
+    private int topN;
+
+    @Value("${app.recommendation.neighbors.min-score:0.20}")
+    private double minScore;
+
+    @Value("${app.recommendation.neighbors.backfill-batch-size:20}")
+    private int backfillBatchSize;
+
+    @Value("${app.recommendation.neighbors.empty-retry-after:3600000}")
+    private long emptyRetryAfterMillis;
+
+    // 계산 중인 contentSeq -> 완료 future
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    // 이전 backfill이 끝나기 전에는 다음 주기를 건너뜀
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+
+    /**
+     * 콘텐츠의 이웃을 계산해 저장합니다.
+     * Qdrant 검색은 비동기로, DB 저장은 boundedElastic 스레드에서 수행합니다.
+     *
+     * @return 저장 완료 시 완료되는 future
+     */
+    public CompletableFuture<Void> refresh(Long contentSeq) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(contentSeq, created);
+        if (existing != null) return existing;
+
+        compute(contentSeq).whenComplete((v, e) -> {
+            inFlight.remove(contentSeq, created);
+            if (e != null) created.completeExceptionally(e);
+            else created.complete(null);
+        });
+        return created;
+    }
+
+    /**
+     * 이웃이 계산되지 않은 콘텐츠를 최신순으로 일부 계산합니다.
+     * 스케줄러 스레드에서는 대상 조회만 하고, 계산은 하나씩 이어서 비동기로 수행합니다. (완료를 기다리지 않음)
+     */
+    @Scheduled(fixedDelayString = "${app.recommendation.neighbors.backfill-interval:300000}",
+               initialDelayString = "${app.recommendation.neighbors.backfill-interval:300000}")
+    public void backfill() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            log.debug("⏭️ 이전 추천 이웃 backfill 진행 중 - 이번 주기 생략");
+            return;
+        }
+
+        try {
+            contentNeighborService.purgeDeletedContents();
+        } catch (Exception e) {
+            log.warn("⚠️ 삭제된 콘텐츠 추천 이웃 정리 실패: {}", e.getMessage());
+        }
+
+        List<Long> pending;
+        try {
+            pending = contentNeighborService.getContentSeqsWithoutNeighbors(backfillBatchSize, emptyRetryAfterMillis);
+        } catch (Exception e) {
+            log.warn("⚠️ 추천 이웃 backfill 대상 조회 실패: {}", e.getMessage());
+            backfillRunning.set(false);
+            return;
+        }
+        if (pending.isEmpty()) {
+            backfillRunning.set(false);
+            return;
+        }
+
+        log.info("🧭 추천 이웃 backfill 시작: {}건", pending.size());
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (Long contentSeq : pending) {
+            chain = chain.thenCompose(v -> refresh(contentSeq).exceptionally(e -> {
+                log.warn("⚠️ 추천 이웃 backfill 실패: contentSeq={}, error={}", contentSeq, e.getMessage());
+                return null;
+            }));
+        }
+        chain.whenComplete((v, e) -> backfillRunning.set(false));
+    }
+
+    private CompletableFuture<Void> compute(Long contentSeq) {
+        return ragService.getVectorWithPayloadByContentSeq(QdrantCollections.CONTENT, contentSeq)
+            .flatMap(point -> ragService.searchSimilarByVectorExcludingSelf(
+                    QdrantCollections.CONTENT,
+                    point.getVector(),
+                    topN,
+                    minScore,
+                    contentSeq
+            ))
+            .map(results -> results.stream()
+                .map(result -> ContentNeighborDTO.builder()
+                        .contentSeq(contentSeq)
+                        .neighborSeq(((Number) result.getPayload().get("contentSeq")).longValue())
+                        .score(result.getScore())
+                        .build())
+                .collect(Collectors.toList()))
+            // 추천용 벡터가 없는 콘텐츠(소주제 타이틀 없음, 벡터 저장 지연 등)는 빈 목록으로 기록
+            // (매 주기 재시도하지 않고 empty-retry-after가 지난 뒤 backfill에서 다시 계산)
+            .onErrorResume(IllegalStateException.class, e -> {
+                log.info("ℹ️ 추천용 벡터 없음, 빈 이웃 목록 저장: contentSeq={}", contentSeq);
+                return Mono.just(Collections.<ContentNeighborDTO>emptyList());
+            })
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(neighbors -> contentNeighborService.replaceNeighbors(contentSeq, neighbors))
+            .doOnError(e -> log.warn("⚠️ 추천 이웃 계산 실패: contentSeq={}, error={}", contentSeq, e.getMessage()))
+            .then()
+            .toFuture();
+    }
+}
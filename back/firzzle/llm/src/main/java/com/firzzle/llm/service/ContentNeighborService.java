@@ -0,0 +1,138 @@
+package com.firzzle.llm.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.firzzle.llm.dto.ContentNeighborDTO;
+import com.firzzle.llm.dto.ContentNeighborRunDTO;
+import com.firzzle.llm.dto.RecommendContentDTO;
+import com.firzzle.llm.mapper.ContentNeighborMapper;
+import com.firzzle.llm.util.TimeUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 콘텐츠 추천 이웃 테이블 저장/조회 서비스
+ * - 콘텐츠별 유사도 상위 N개 이웃을 저장하고, 추천 API는 이 테이블만 조회
+ * - 새 콘텐츠의 이웃을 저장할 때 상대 콘텐츠의 이웃 목록에도 반영 (상위 N개 유지)
+ * - 동시에 저장되는 콘텐츠끼리는 계산 상태 행 잠금으로 역방향 갱신을 직렬화
+ * - 삭제된 콘텐츠는 이웃으로 저장하지 않고, 이미 저장된 행은 purgeDeletedContents로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentNeighborService {
+
+    private final ContentNeighborMapper contentNeighborMapper;
+
+    @Value("${app.recommendation.neighbors.top-n:18}")
+    private int topN;
+
+    /**
+     * 콘텐츠의 이웃 계산 상태를 조회합니다. (계산된 적 없으면 null)
+     */
+    public ContentNeighborRunDTO getRun(Long contentSeq) {
+        return contentNeighborMapper.selectNeighborRun(contentSeq);
+    }
+
+    /**
+     * 유사도 내림차순으로 이웃 콘텐츠 한 페이지를 조회합니다.
+     */
+    public List<RecommendContentDTO> getNeighborContents(Long contentSeq, int offset, int limit) {
+        return contentNeighborMapper.selectNeighborContents(contentSeq, offset, limit);
+    }
+
+    /**
+     * 콘텐츠의 이웃 목록을 교체하고, 이미 이웃이 계산된 상대 콘텐츠의 목록에도 역방향으로 반영합니다.
+     *
+     * 기준/이웃 콘텐츠의 계산 상태 행을 먼저 PK 순서로 잠가, 같은 콘텐츠의 목록을 교체하는
+     * 다른 replaceNeighbors(refresh, backfill)와 역방향 upsert/trim이 섞이지 않도록 합니다.
+     * (READ COMMITTED: 아직 계산 상태가 없는 콘텐츠에 갭 락을 걸지 않음)
+     *
+     * @param contentSeq 기준 콘텐츠
+     * @param neighbors 유사도 내림차순 이웃 목록 (최대 top-n개)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void replaceNeighbors(Long contentSeq, List<ContentNeighborDTO> neighbors) {
+        String now = TimeUtil.getCurrentTimestamp14();
+        // 벡터 DB에는 삭제된 콘텐츠의 벡터가 남아 있을 수 있으므로 제외
+        if (!neighbors.isEmpty()) {
+            Set<Long> active = new HashSet<>(contentNeighborMapper.selectActiveContentSeqs(
+                    neighbors.stream().map(ContentNeighborDTO::getNeighborSeq).collect(Collectors.toList())));
+            neighbors = neighbors.stream()
+                    .filter(neighbor -> active.contains(neighbor.getNeighborSeq()))
+                    .collect(Collectors.toList());
+        }
+        neighbors.forEach(neighbor -> neighbor.setIndate(now));
+
+        // 역방향 반영 대상(이미 계산된 이웃)을 확인하며 행 잠금, 항상 같은 순서로 잠가 교착을 피함
+        Set<Long> lockSeqs = new TreeSet<>();
+        lockSeqs.add(contentSeq);
+        neighbors.forEach(neighbor -> lockSeqs.add(neighbor.getNeighborSeq()));
+        Set<Long> computed = new HashSet<>(
+                contentNeighborMapper.selectNeighborRunSeqsForUpdate(List.copyOf(lockSeqs)));
+
+        contentNeighborMapper.deleteNeighbors(contentSeq);
+        if (!neighbors.isEmpty()) {
+            contentNeighborMapper.insertNeighbors(neighbors);
+        }
+        contentNeighborMapper.upsertNeighborRun(ContentNeighborRunDTO.builder()
+                .contentSeq(contentSeq)
+                .neighborCount(neighbors.size())
+                .computedAt(now)
+                .build());
+
+        // 역방향 반영: 아직 계산되지 않은 콘텐츠는 이후 전체 계산 시 포함되므로 건너뜀
+        int reverseUpdated = 0;
+        for (ContentNeighborDTO neighbor : neighbors) {
+            Long other = neighbor.getNeighborSeq();
+            if (!computed.contains(other)) continue;
+
+            contentNeighborMapper.upsertNeighbor(ContentNeighborDTO.builder()
+                    .contentSeq(other)
+                    .neighborSeq(contentSeq)
+                    .score(neighbor.getScore())
+                    .indate(now)
+                    .build());
+            contentNeighborMapper.trimNeighbors(other, topN);
+            contentNeighborMapper.updateNeighborCount(other);
+            reverseUpdated++;
+        }
+
+        log.info("🧭 추천 이웃 저장 완료: contentSeq={}, neighbors={}, reverseUpdated={}", contentSeq, neighbors.size(), reverseUpdated);
+    }
+
+    /**
+     * 처리 완료되었지만 이웃이 계산되지 않은 콘텐츠를 조회합니다.
+     * 빈 이웃 목록으로 기록된 지 emptyRetryAfterMillis가 지난 콘텐츠도 다시 포함합니다.
+     */
+    public List<Long> getContentSeqsWithoutNeighbors(int limit, long emptyRetryAfterMillis) {
+        return contentNeighborMapper.selectContentSeqsWithoutNeighbors(limit,
+                TimeUtil.getTimestamp14BeforeMillis(emptyRetryAfterMillis));
+    }
+
+    /**
+     * 삭제된 콘텐츠의 이웃 행을 정리합니다.
+     * 삭제된 콘텐츠를 이웃으로 가졌던 콘텐츠는 계산 상태도 지워 backfill(또는 다음 조회)에서 다시 계산합니다.
+     *
+     * @return 삭제한 이웃 행 수
+     */
+    @Transactional
+    public int purgeDeletedContents() {
+        int runs = contentNeighborMapper.deleteRunsReferencingDeletedContents();
+        int rows = contentNeighborMapper.deleteNeighborsOfDeletedContents();
+        if (runs > 0 || rows > 0) {
+            log.info("🧹 삭제된 콘텐츠 추천 이웃 정리: runs={}, neighbors={}", runs, rows);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,84 @@
+package com.firzzle.llm.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.firzzle.common.exception.BusinessException;
+import com.firzzle.common.exception.ErrorCode;
+import com.firzzle.llm.dto.DeadLetterDTO;
+import com.firzzle.llm.kafka.producer.RegistrationRetryProducer;
+import com.firzzle.llm.mapper.DeadLetterMapper;
+import com.firzzle.llm.util.TimeUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLQ 메시지 보관 및 재처리 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterService {
+
+    public static final String STATUS_WAITING = "W";
+    public static final String STATUS_REPLAYED = "R";
+
+    private final DeadLetterMapper deadLetterMapper;
+    private final RegistrationRetryProducer retryProducer;
+
+    /**
+     * DLQ로 들어온 메시지를 재처리 대기 상태로 저장합니다.
+     */
+    public void save(String sourceTopic, String messageKey, String message, String errorMessage, int attempt) {
+        DeadLetterDTO deadLetter = DeadLetterDTO.builder()
+            .sourceTopic(sourceTopic)
+            .messageKey(messageKey)
+            .message(message)
+            .errorMessage(truncate(errorMessage, 1000))
+            .attempt(attempt)
+            .status(STATUS_WAITING)
+            .indate(TimeUtil.getCurrentTimestamp14())
+            .build();
+        deadLetterMapper.insertDeadLetter(deadLetter);
+        log.info("☠️ DLQ 메시지 저장: dlqSeq={}, sourceTopic={}", deadLetter.getDlqSeq(), sourceTopic);
+    }
+
+    /**
+     * 상태별 DLQ 메시지 목록을 조회합니다.
+     */
+    public List<DeadLetterDTO> getDeadLetters(String status, int limit) {
+        return deadLetterMapper.selectDeadLetters(status, limit);
+    }
+
+    /**
+     * DLQ 메시지를 원래 토픽으로 다시 보내 재처리합니다.
+     * 재처리 요청은 이전 시도의 부분 결과를 정리한 뒤 새 재시도 횟수로 처리됩니다.
+     *
+     * @param dlqSeq DLQ 일련 번호
+     * @return 재처리 요청한 DLQ 메시지
+     */
+    public DeadLetterDTO replay(Long dlqSeq) {
+        DeadLetterDTO deadLetter = deadLetterMapper.selectDeadLetter(dlqSeq);
+        if (deadLetter == null) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "DLQ 메시지를 찾을 수 없습니다.");
+        }
+        if (STATUS_REPLAYED.equals(deadLetter.getStatus())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 재처리된 DLQ 메시지입니다.");
+        }
+
+        retryProducer.replay(deadLetter.getSourceTopic(), deadLetter.getMessageKey(), deadLetter.getMessage());
+        String replayedAt = TimeUtil.getCurrentTimestamp14();
+        deadLetterMapper.updateReplayed(dlqSeq, replayedAt);
+
+        deadLetter.setStatus(STATUS_REPLAYED);
+        deadLetter.setReplayedAt(replayedAt);
+        return deadLetter;
+    }
+
+    private String truncate(String text, int maxLength) {
+        if (text == null || text.length() <= maxLength) return text;
+        return text.substring(0, maxLength);
+    }
+}
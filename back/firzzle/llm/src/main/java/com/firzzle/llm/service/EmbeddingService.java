@@ -5,10 +5,14 @@ import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.dto.EmbeddingResponseDTO;
+import com.firzzle.llm.util.TokenCounter;
+
 import io.netty.resolver.DefaultAddressResolverGroup;
 import reactor.netty.http.client.HttpClient;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -18,59 +22,141 @@ public class EmbeddingService {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingService.class);
 
+    private static final String EMBEDDING_MODEL = "text-embedding-3-small";
+
     @Value("${spring.ai.openai.api-key}")
     private String apiKey;
 
+    // 한 번의 /embeddings 요청에 담을 최대 입력 수
+    @Value("${app.embedding.batch.max-inputs:128}")
+    private int maxInputsPerBatch;
+
+    // 한 번의 /embeddings 요청에 담을 최대 토큰 수 (TokenCounter 기준)
+    @Value("${app.embedding.batch.max-tokens:100000}")
+    private int maxTokensPerBatch;
+
     private final WebClient webClient = WebClient.builder()
             .baseUrl("https://api.openai.com/v1")
             .clientConnector(new ReactorClientHttpConnector(
                     HttpClient.create()
                         .resolver(DefaultAddressResolverGroup.INSTANCE) // 시스템 DNS resolver 명시
                 ))
+            .codecs(c -> c.defaultCodecs().maxInMemorySize(64 * 1024 * 1024)) // 배치 응답 크기 대응
             .build();
 
     /**
      * OpenAI Embedding API 호출하여 벡터 반환
      * @param text 임베딩할 텍스트
-     * @return float 벡터 리스트
+     * @return float[] 기반 벡터
+     */
+    public Vector embed(String text) {
+        return embedAll(List.of(text)).get(0);
+    }
+
+    /**
+     * 여러 텍스트를 배치로 묶어 OpenAI Embedding API를 호출합니다.
+     * - 요청당 입력 수 / 토큰 수 한도를 넘지 않도록 분할
+     * - 반환 순서는 입력 순서와 동일
+     * - 응답에 빠진 입력이 있으면 배치를 나누어 다시 요청하고, 한 건짜리 요청도 불완전하면 예외
+     *
+     * @param texts 임베딩할 텍스트 목록
+     * @return 입력 순서와 동일한 벡터 목록
+     */
+    public List<Vector> embedAll(List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Vector> result = new ArrayList<>(texts.size());
+        int batchStart = 0;
+        int batchTokens = 0;
+
+        for (int i = 0; i < texts.size(); i++) {
+            int tokens = Math.max(1, TokenCounter.count(texts.get(i)));
+            boolean full = i - batchStart >= maxInputsPerBatch
+                    || (i > batchStart && batchTokens + tokens > maxTokensPerBatch);
+
+            if (full) {
+                result.addAll(embedBatch(texts.subList(batchStart, i)));
+                batchStart = i;
+                batchTokens = 0;
+            }
+            batchTokens += tokens;
+        }
+        result.addAll(embedBatch(texts.subList(batchStart, texts.size())));
+
+        return result;
+    }
+
+    /**
+     * 배치를 요청하고, 응답이 불완전하면(개수 부족, 잘못된 index, 빈 벡터) 절반으로 나누어 다시 요청합니다.
+     * 한 건짜리 요청은 한 번 더 시도한 뒤에도 불완전하면 실패합니다.
      */
-    @SuppressWarnings("unchecked")
-    public List<Float> embed(String text) {
+    private List<Vector> embedBatch(List<String> inputs) {
         try {
-            log.info("📨 OpenAI 임베딩 요청 시작: {}", text);
+            return requestEmbeddings(inputs);
+        } catch (IncompleteEmbeddingResponseException e) {
+            if (inputs.size() == 1) {
+                log.warn("⚠️ 불완전한 임베딩 응답 - 재요청: {}", e.getMessage());
+                return requestEmbeddings(inputs);
+            }
+            log.warn("⚠️ 불완전한 임베딩 응답 - 배치 분할 후 재요청: 입력 수={}, {}", inputs.size(), e.getMessage());
+            int middle = inputs.size() / 2;
+            List<Vector> vectors = new ArrayList<>(embedBatch(inputs.subList(0, middle)));
+            vectors.addAll(embedBatch(inputs.subList(middle, inputs.size())));
+            return vectors;
+        }
+    }
+
+    /**
+     * 단일 /embeddings 요청으로 여러 입력을 임베딩합니다.
+     */
+    private List<Vector> requestEmbeddings(List<String> inputs) {
+        try {
+            log.info("📨 OpenAI 임베딩 요청 시작: 입력 수={}", inputs.size());
 
             Map<String, Object> request = Map.of(
-                "model", "text-embedding-3-small",
-                "input", text,
+                "model", EMBEDDING_MODEL,
+                "input", inputs,
                 "encoding_format", "float"
             );
 
-            Map<String, Object> response = webClient.post()
+            EmbeddingResponseDTO response = webClient.post()
                 .uri("/embeddings")
                 .header("Authorization", "Bearer " + apiKey)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .bodyToMono(EmbeddingResponseDTO.class)
                 .block();
 
-            if (response == null || !response.containsKey("data")) {
+            if (response == null || response.getData() == null) {
                 log.error("❌ OpenAI 응답 오류: data 없음 → {}", response);
                 throw new IllegalStateException("OpenAI 임베딩 응답이 잘못되었습니다.");
             }
 
-            // 1) 받은 embedding을 Double 리스트로 추출
-            List<?> dataList = (List<?>) response.get("data");
-            Map<?,?> firstMap = (Map<?,?>) dataList.get(0);
-            List<Double> raw = (List<Double>) firstMap.get("embedding");
+            List<EmbeddingResponseDTO.EmbeddingData> dataList = response.getData();
+            if (dataList.size() != inputs.size()) {
+                throw new IncompleteEmbeddingResponseException("응답 개수 불일치: 요청=" + inputs.size() + ", 응답=" + dataList.size());
+            }
 
-            // 2) Double → Float로 안전하게 변환
-            List<Float> embedding = raw.stream()
-                .map(Double::floatValue)
-                .toList();
+            // 응답의 index 기준으로 입력 순서에 맞춰 배치 (embedding은 float[]로 직접 파싱됨)
+            Vector[] ordered = new Vector[inputs.size()];
+            for (EmbeddingResponseDTO.EmbeddingData data : dataList) {
+                int index = data.getIndex();
+                if (index < 0 || index >= ordered.length || ordered[index] != null) {
+                    throw new IncompleteEmbeddingResponseException("잘못된 index=" + index + " (입력 수=" + inputs.size() + ")");
+                }
+                if (data.getEmbedding() == null || data.getEmbedding().dimension() == 0) {
+                    throw new IncompleteEmbeddingResponseException("빈 벡터: index=" + index);
+                }
+                ordered[index] = data.getEmbedding();
+            }
 
-            log.info("✅ OpenAI 임베딩 완료, 길이: {}", embedding.size());
-            return embedding;
+            log.info("✅ OpenAI 임베딩 완료: 입력 수={}, 길이={}", inputs.size(), ordered[0].dimension());
+            return Arrays.asList(ordered);
 
+        } catch (IncompleteEmbeddingResponseException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             log.error("❌ OpenAI API 호출 오류: body={}", e.getResponseBodyAsString(), e);
             throw new RuntimeException("OpenAI API 호출 실패", e);
@@ -79,4 +165,13 @@ public class EmbeddingService {
             throw new RuntimeException("임베딩 처리 중 오류 발생", e);
         }
     }
+
+    /**
+     * 응답에 빠졌거나 중복된 입력이 있는 경우 (배치를 나누어 다시 요청)
+     */
+    private static class IncompleteEmbeddingResponseException extends IllegalStateException {
+        IncompleteEmbeddingResponseException(String message) {
+            super("OpenAI 임베딩 응답 불완전: " + message);
+        }
+    }
 }
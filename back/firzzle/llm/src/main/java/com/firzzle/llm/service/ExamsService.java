@@ -37,4 +37,12 @@ public class ExamsService {
 
         log.info("✅ 시험 문제 {}개 저장 완료", examList.size());
     }
+
+    /**
+     * 콘텐츠의 시험 문제를 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    @Transactional
+    public void deleteByContentSeq(Long contentSeq) {
+        examsMapper.deleteExamsByContentSeq(contentSeq);
+    }
 }
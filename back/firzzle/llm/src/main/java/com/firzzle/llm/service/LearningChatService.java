@@ -3,7 +3,9 @@ package com.firzzle.llm.service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -14,7 +16,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.firzzle.common.exception.BusinessException;
 import com.firzzle.common.exception.ErrorCode;
+import com.firzzle.llm.cache.SemanticAnswerCache;
 import com.firzzle.llm.client.OpenAiClient;
+import com.firzzle.llm.domain.Vector;
 import com.firzzle.llm.dto.ChatCompletionRequestDTO;
 import com.firzzle.llm.dto.ChatDTO;
 import com.firzzle.llm.dto.ChatHistoryResponseDTO;
@@ -39,6 +43,9 @@ import com.firzzle.llm.util.QdrantCollections;
 import com.firzzle.llm.util.TimeUtil;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -51,6 +58,7 @@ public class LearningChatService {
     private final UserMapper userMapper;
     private final ExamsMapper examsMapper;
     private final UserContentMapper userContentMapper;
+    private final SemanticAnswerCache semanticAnswerCache;
 
     private static final Logger logger = LoggerFactory.getLogger(LearningChatService.class);
 
@@ -74,7 +82,7 @@ public class LearningChatService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS, "해당 콘텐츠에 대한 접근 권한이 없습니다.");
         }
 
-        List<Float> vector;
+        Vector vector;
         try {
             vector = embeddingService.embed(question);
         } catch (Exception e) {
@@ -89,7 +97,17 @@ public class LearningChatService {
 
         logger.info(previousMessages);
 
-        return ragService.searchTopPayloadsByContentSeq(QdrantCollections.SCRIPT, vector, contentSeq)
+        // 이전 대화가 프롬프트에 들어가면 답변이 대화마다 달라지므로 시맨틱 캐시를 사용하지 않음
+        boolean cacheable = previousMessages.isEmpty();
+
+        // 같은 콘텐츠의 유사 질문 캐시 확인 (적중 시 벡터 검색과 LLM 호출 모두 생략)
+        Optional<String> cachedAnswer = cacheable ? semanticAnswerCache.get(contentSeq, vector) : Optional.empty();
+        if (cachedAnswer.isPresent()) {
+            insertChat(contentSeq, userSeq, question, cachedAnswer.get());
+            return CompletableFuture.completedFuture(new LearningChatResponseDTO(cachedAnswer.get()));
+        }
+
+        return ragService.searchTopPayloadsByContentSeq(QdrantCollections.SCRIPT, question, vector, contentSeq)
             .toFuture()
             .thenCompose(contents -> {
                 logger.debug("🔍 [벡터 검색 결과] top contents count={}", contents.size());
@@ -108,6 +126,9 @@ public class LearningChatService {
                 return openAiClient.getChatCompletionAsync(chatRequest)
                     .thenApply(answer -> {
                         insertChat(contentSeq, userContent.getUserSeq(), question, answer);
+                        if (cacheable && !OpenAiClient.isFallbackResponse(answer)) {
+                            semanticAnswerCache.put(contentSeq, context, vector, answer);
+                        }
                         return new LearningChatResponseDTO(answer);
                     });
             })
@@ -118,6 +139,108 @@ public class LearningChatService {
     }
 
 
+    /**
+     * RAG 기반 러닝챗 응답을 토큰 단위로 스트리밍합니다.
+     * 스트림이 끝나면(클라이언트 연결 종료 포함) 받은 답변을 DB에 저장합니다.
+     *
+     * @param uuid 사용자 UUID
+     * @param userContentSeq 사용자-콘텐츠 매핑 ID
+     * @param request 질문 내용
+     * @return 답변 텍스트 조각 스트림
+     */
+    public Flux<String> learningChatStream(String uuid, Long userContentSeq, LearningChatRequestDTO request) {
+        return Flux.defer(() -> {
+            String question = request.getQuestion();
+            logger.info("📥 [learningChatStream 시작] userContentSeq={}, question={}", userContentSeq, question);
+            if (question == null || question.isBlank()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "질문이 비어 있습니다.");
+            }
+
+            Long actualUserSeq = userMapper.selectUserSeqByUuid(uuid);
+
+            UserContentDTO userContent = userContentMapper.selectUserAndContentByUserContentSeq(userContentSeq);
+            Long userSeq = userContent.getUserSeq();
+            Long contentSeq = userContent.getContentSeq();
+
+            if (!actualUserSeq.equals(userSeq)) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS, "해당 콘텐츠에 대한 접근 권한이 없습니다.");
+            }
+
+            Vector vector;
+            try {
+                vector = embeddingService.embed(question);
+            } catch (Exception e) {
+                throw new BusinessException(ErrorCode.VECTOR_EMBEDDING_FAILED, "질문 임베딩 중 오류가 발생했습니다.");
+            }
+
+            List<ChatDTO> previousChats = chatMapper.selectChatsByCursor(contentSeq, userSeq, null, 2);
+            String previousMessages = previousChats.stream()
+                .sorted((a, b) -> a.getIndate().compareTo(b.getIndate()))
+                .map(chat -> "Q: " + chat.getQuestion() + "\nA: " + chat.getAnswer())
+                .collect(Collectors.joining("\n\n"));
+
+            // 이전 대화가 프롬프트에 들어가면 답변이 대화마다 달라지므로 시맨틱 캐시를 사용하지 않음
+            boolean cacheable = previousMessages.isEmpty();
+
+            // 같은 콘텐츠의 유사 질문 캐시 확인 (적중 시 벡터 검색 없이 전체 답변을 한 번에 전송)
+            Optional<String> cachedAnswer = cacheable ? semanticAnswerCache.get(contentSeq, vector) : Optional.empty();
+            if (cachedAnswer.isPresent()) {
+                return saveChatOnFinish(Flux.just(cachedAnswer.get()), contentSeq, userSeq, question, fullAnswer -> {});
+            }
+
+            return ragService.searchTopPayloadsByContentSeq(QdrantCollections.SCRIPT, question, vector, contentSeq)
+                .flatMapMany(contents -> {
+                    String context = contents.stream().limit(5).collect(Collectors.joining("\n"));
+
+                    if (context.isEmpty()) {
+                        logger.info("⚠️ [context 없음] 기본 응답 반환");
+                        String defaultAnswer = "해당 내용은 영상에서 언급되지 않았어요. 다른 질문이 있으신가요?";
+                        return saveChatOnFinish(Flux.just(defaultAnswer), contentSeq, userSeq, question, fullAnswer -> {});
+                    }
+
+                    ChatCompletionRequestDTO chatRequest = promptFactory.createLearningChatRequest(question, context, previousMessages);
+
+                    // 끝까지 받은 답변만 캐시 (중간에 연결이 끊긴 답변은 저장만 함)
+                    return saveChatOnFinish(openAiClient.streamChatCompletion(chatRequest), contentSeq, userSeq, question, fullAnswer -> {
+                        if (cacheable && !OpenAiClient.isFallbackResponse(fullAnswer)) {
+                            semanticAnswerCache.put(contentSeq, context, vector, fullAnswer);
+                        }
+                    });
+                });
+        })
+        .subscribeOn(Schedulers.boundedElastic())
+        .doOnError(e -> logger.error("❌ learningChatStream 처리 중 오류", e));
+    }
+
+    /**
+     * 스트림이 끝나면(완료, 오류, 클라이언트 연결 종료) 그때까지 받은 답변을 DB에 저장합니다.
+     * 연결이 끊겨 취소된 경우에도 질문과 부분 답변이 대화 기록에 남도록 doFinally에서 저장합니다.
+     *
+     * @param onComplete 정상 완료 시에만 전체 답변으로 호출 (캐시 저장 등)
+     */
+    private Flux<String> saveChatOnFinish(Flux<String> deltas, Long contentSeq, Long userSeq, String question,
+                                          Consumer<String> onComplete) {
+        // 취소 신호는 onNext와 다른 스레드에서 올 수 있으므로 동기화된 버퍼 사용
+        StringBuffer answer = new StringBuffer();
+        return deltas
+            .doOnNext(answer::append)
+            .doOnComplete(() -> onComplete.accept(answer.toString()))
+            .doFinally(signal -> {
+                String fullAnswer = answer.toString();
+                if (fullAnswer.isEmpty()) return;
+                if (signal != SignalType.ON_COMPLETE) {
+                    logger.info("✂️ [learningChatStream 중단] signal={}, 부분 답변 저장 length={}", signal, fullAnswer.length());
+                }
+                Schedulers.boundedElastic().schedule(() -> {
+                    try {
+                        insertChat(contentSeq, userSeq, question, fullAnswer);
+                    } catch (Exception e) {
+                        logger.error("❌ 스트리밍 답변 저장 실패: contentSeq={}", contentSeq, e);
+                    }
+                });
+            });
+    }
+
 
     /**
      * 무한 스크롤 방식으로 채팅 목록을 조회합니다.
@@ -0,0 +1,129 @@
+package com.firzzle.llm.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.firzzle.common.exception.BusinessException;
+import com.firzzle.common.exception.ErrorCode;
+import com.firzzle.llm.client.OpenAiClient;
+import com.firzzle.llm.dto.ChatCompletionRequestDTO;
+import com.firzzle.llm.dto.LlmResultCacheDTO;
+import com.firzzle.llm.mapper.LlmResultCacheMapper;
+import com.firzzle.llm.util.HashUtil;
+import com.firzzle.llm.util.TimeUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 결과 캐시 서비스
+ * - (프롬프트 버전, 모델, 입력 텍스트 SHA-256) 기준으로 GPT 응답을 DB에 저장
+ * - 같은 스크립트를 재처리(재시도, 재등록)할 때 GPT 호출 없이 저장된 응답을 재사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmResultCacheService {
+
+    private final OpenAiClient openAiClient;
+    private final LlmResultCacheMapper llmResultCacheMapper;
+
+    @Value("${app.llm-cache.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 캐시된 응답이 있으면 재사용하고, 없으면 GPT를 호출한 뒤 파싱에 성공한 응답을 저장합니다.
+     *
+     * @param request 채팅 요청 (promptVersion이 없으면 캐시를 사용하지 않음)
+     * @param parser 응답 파서 (파싱 실패한 응답은 캐시하지 않음)
+     * @return 파싱된 결과
+     */
+    public <T> CompletableFuture<T> getOrRequest(ChatCompletionRequestDTO request, Function<String, T> parser) {
+        String promptVersion = request.getPromptVersion();
+        if (!enabled || promptVersion == null) {
+            return openAiClient.getChatCompletionAsync(request)
+                .thenApply(response -> parser.apply(requireModelResponse(response)));
+        }
+
+        String model = openAiClient.resolveModel(request.getModelType());
+        String inputHash = HashUtil.sha256Hex(request.getUserPrompt());
+
+        LlmResultCacheDTO cached = findCached(promptVersion, model, inputHash);
+        if (cached != null) {
+            try {
+                T result = parser.apply(cached.getResponse());
+                log.info("💾 LLM 결과 캐시 적중: promptVersion={}, model={}, hash={}", promptVersion, model, inputHash);
+                return CompletableFuture.completedFuture(result);
+            } catch (Exception e) {
+                log.warn("⚠️ 캐시된 LLM 응답 파싱 실패, 캐시 삭제 후 재요청: hash={}", inputHash);
+                evict(promptVersion, model, inputHash);
+            }
+        }
+
+        return openAiClient.getChatCompletionAsync(request)
+            .thenApply(response -> {
+                T result = parser.apply(requireModelResponse(response));
+                if (!OpenAiClient.isFallbackResponse(response)) {
+                    save(promptVersion, model, inputHash, response);
+                }
+                return result;
+            });
+    }
+
+    /**
+     * OpenAI 요청 자체가 실패한 대체 응답이면 일시적 오류(OPENAI_REQUEST_FAILED)로 실패시켜
+     * 파싱 오류와 구분되도록 합니다. (등록 파이프라인에서 재시도 대상)
+     */
+    private String requireModelResponse(String response) {
+        if (OpenAiClient.ERROR_RESPONSE.equals(response) || OpenAiClient.EMPTY_RESPONSE.equals(response)) {
+            throw new BusinessException(ErrorCode.OPENAI_REQUEST_FAILED);
+        }
+        return response;
+    }
+
+    /**
+     * 프롬프트 버전에 해당하는 캐시를 모두 무효화합니다.
+     *
+     * @param promptVersion 프롬프트 템플릿 버전
+     * @return 삭제된 캐시 수
+     */
+    public int invalidateByPromptVersion(String promptVersion) {
+        int deleted = llmResultCacheMapper.deleteByPromptVersion(promptVersion);
+        log.info("🧹 LLM 결과 캐시 무효화: promptVersion={}, 삭제={}건", promptVersion, deleted);
+        return deleted;
+    }
+
+    private LlmResultCacheDTO findCached(String promptVersion, String model, String inputHash) {
+        try {
+            return llmResultCacheMapper.selectResult(promptVersion, model, inputHash);
+        } catch (Exception e) {
+            log.warn("⚠️ LLM 결과 캐시 조회 실패 (캐시 없이 진행): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(String promptVersion, String model, String inputHash, String response) {
+        try {
+            llmResultCacheMapper.upsertResult(LlmResultCacheDTO.builder()
+                .promptVersion(promptVersion)
+                .model(model)
+                .inputHash(inputHash)
+                .response(response)
+                .indate(TimeUtil.getCurrentTimestamp14())
+                .build());
+        } catch (Exception e) {
+            log.warn("⚠️ LLM 결과 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void evict(String promptVersion, String model, String inputHash) {
+        try {
+            llmResultCacheMapper.deleteResult(promptVersion, model, inputHash);
+        } catch (Exception e) {
+            log.warn("⚠️ LLM 결과 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -61,4 +61,12 @@ public class OxQuizService {
         return result;
     }
 
+    /**
+     * 콘텐츠의 OX 퀴즈와 보기를 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    @Transactional
+    public void deleteByContentSeq(Long contentSeq) {
+        oxQuizMapper.deleteQuestionOptionsByContentSeq(contentSeq);
+        oxQuizMapper.deleteQuestionsByContentSeq(contentSeq);
+    }
 }
@@ -1,80 +1,190 @@
 package com.firzzle.llm.service;
 
-import com.firzzle.llm.client.QdrantClient;
+import com.firzzle.llm.cache.HotVectorCache;
+import com.firzzle.llm.cache.LexicalIndexCache;
+import com.firzzle.llm.client.VectorDbClient;
+import com.firzzle.llm.client.QdrantWriteBuffer;
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.domain.VectorPoint;
+import com.firzzle.llm.dto.QdrantPointDTO;
+import com.firzzle.llm.dto.QdrantSearchRequestDTO;
+import com.firzzle.llm.util.Bm25Index;
+import com.firzzle.llm.util.QdrantCollections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class RagService {
 
-    private final QdrantClient qdrantClient;
+    private final VectorDbClient vectorDbClient;
+    private final QdrantWriteBuffer qdrantWriteBuffer;
+    private final LexicalIndexCache lexicalIndexCache;
+    private final HotVectorCache hotVectorCache;
+
+    @Value("${app.rag.hybrid.enabled:true}")
+    private boolean hybridEnabled;
+
+    // 벡터/키워드 검색 각각의 후보 수
+    @Value("${app.rag.hybrid.candidates:20}")
+    private int hybridCandidates;
+
+    // RRF 상수 (순위 1과 20의 가중치 차이를 완만하게 조절)
+    @Value("${app.rag.hybrid.rrf-k:60}")
+    private int rrfK;
+
+    // 러닝챗 컨텍스트로 사용할 최종 구간 수
+    private static final int CONTEXT_SIZE = 5;
 
     /**
-     * 벡터와 콘텐츠를 Qdrant에 저장합니다.
+     * 벡터와 콘텐츠를 쓰기 버퍼를 통해 Qdrant에 저장합니다.
+     * 같은 컬렉션의 포인트는 모아서 한 번의 bulk upsert로 전송됩니다.
      * @param collection 컬렉션 이름
      * @param id 고유 ID (Long 형)
      * @param vector 벡터 데이터
-     * @param content 연관된 텍스트 콘텐츠
+     * @param payload 연관된 payload
+     * @return Qdrant에 저장이 확정(wait=true)되면 완료되는 future
      */
-    public void saveToVectorDb(String collection, Long id, List<Float> vector, Map<String, Object> payload) {
-        qdrantClient.upsertVector(collection, id, vector, payload)
-            .doOnSuccess(v -> log.info("✅ Qdrant 저장 완료: id={} collection={}", id, collection))
-            .doOnError(e -> log.error("❌ Qdrant 저장 실패", e))
-            .subscribe();
+    public CompletableFuture<Void> saveToVectorDb(String collection, Long id, Vector vector, Map<String, Object> payload) {
+        VectorPoint point = VectorPoint.builder()
+            .collection(collection)
+            .id(id)
+            .vector(vector)
+            .payload(payload)
+            .build();
+
+        return qdrantWriteBuffer.enqueue(point)
+            .whenComplete((v, e) -> {
+                if (e != null) log.error("❌ Qdrant 저장 실패: id={} collection={}", id, collection, e);
+                else log.debug("✅ Qdrant 저장 완료: id={} collection={}", id, collection);
+            });
     }
     
 
-	/**
-	 * Qdrant에서 주어진 contentSeq에 해당하는 벡터 중,  
-	 * 입력 벡터와 유사도가 높은 상위 3개의 payload.content 값을 반환합니다.
-	 * 
-	 * @param collection Qdrant 컬렉션 이름
-	 * @param vector 기준이 되는 임베딩 벡터
-	 * @param contentSeq 검색 대상 contentSeq 값 (payload에서 필터링)
-	 * @return 상위 3개의 유사한 벡터의 payload.content 리스트 (Mono 비동기 결과)
-	 * 
-	 * <p>
-	 * 이 메서드는 Qdrant의 filter + 유사도 검색을 조합하여  
-	 * 같은 콘텐츠 그룹(contentSeq) 내에서 의미 있는 유사 컨텍스트를 빠르게 찾는 데 유용합니다.
-	 * </p>
-	 */
-    public Mono<List<String>> searchTopPayloadsByContentSeq(String collection, List<Float> vector, Long contentSeq) {
-        // Qdrant 검색 요청 구성
-        Map<String, Object> request = Map.of(
-            "vector", vector,
-            "limit", 20,  // 넉넉하게 검색하고
-            "with_payload", true,
-            "filter", Map.of(
-                "must", List.of(
-                    Map.of("key", "contentSeq", "match", Map.of("value", contentSeq))
-                )
-            )
-        );
+    /**
+     * 주어진 contentSeq의 스크립트 구간 중 질문과 관련도가 높은 상위 5개의 payload.content 값을 반환합니다.
+     * 벡터 유사도 검색(Qdrant)과 BM25 키워드 검색(메모리 색인)을 병렬로 수행하고
+     * 두 순위를 RRF(Reciprocal Rank Fusion)로 합칩니다.
+     *
+     * @param collection Qdrant 컬렉션 이름
+     * @param question 사용자 질문 (키워드 검색용)
+     * @param vector 질문 임베딩 벡터
+     * @param contentSeq 검색 대상 contentSeq 값 (payload에서 필터링)
+     * @return 상위 5개 구간의 payload.content 리스트 (Mono 비동기 결과)
+     *
+     * <p>
+     * 벡터 검색만으로는 공식 이름, 고유명사처럼 정확히 일치해야 하는 용어를 놓치는 경우가 있어
+     * 키워드 검색 결과를 함께 반영합니다. 키워드 검색이 실패하면 벡터 검색 결과만 사용합니다.
+     * </p>
+     */
+    public Mono<List<String>> searchTopPayloadsByContentSeq(String collection, String question, Vector vector, Long contentSeq) {
+        Mono<List<Ranked>> dense = searchDenseByContentSeq(collection, vector, contentSeq);
+        if (!hybridEnabled) {
+            return dense.map(results -> toContents(results));
+        }
+
+        Mono<List<Ranked>> lexical = lexicalIndexCache.get(contentSeq)
+            .publishOn(Schedulers.parallel())
+            .map(index -> index.search(question, hybridCandidates).stream()
+                .map(hit -> new Ranked(hit.getId(), hit.getContent()))
+                .collect(Collectors.toList()))
+            .onErrorResume(e -> {
+                log.warn("⚠️ 키워드 검색 실패, 벡터 검색 결과만 사용: contentSeq={}, error={}", contentSeq, e.getMessage());
+                return Mono.just(Collections.emptyList());
+            });
+
+        return Mono.zip(dense, lexical)
+            .map(results -> {
+                List<Ranked> fused = fuse(results.getT1(), results.getT2());
+                log.debug("🔀 하이브리드 검색: contentSeq={}, dense={}, lexical={}, fused={}",
+                    contentSeq, results.getT1().size(), results.getT2().size(), fused.size());
+                return toContents(fused);
+            });
+    }
 
-        return qdrantClient.searchRaw(collection, request) // 아래에 함께 정의
+    /**
+     * contentSeq 필터를 건 벡터 유사도 검색 (점수 내림차순)
+     */
+    private Mono<List<Ranked>> searchDenseByContentSeq(String collection, Vector vector, Long contentSeq) {
+        // 결합할 후보가 필요한 하이브리드 검색이 아니면 최종 개수만 요청
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(vector)
+            .limit(hybridEnabled ? hybridCandidates : CONTEXT_SIZE)
+            .withPayload(QdrantSearchRequestDTO.payloadFields("content"))
+            .filter(QdrantSearchRequestDTO.contentSeqFilter("must", contentSeq))
+            .build();
+
+        // 자주 질문되는 콘텐츠의 스크립트 벡터는 메모리 색인에서 검색, 나머지는 Qdrant (모두 점수 내림차순으로 반환)
+        Mono<List<QdrantPointDTO>> points = QdrantCollections.SCRIPT.equals(collection)
+            ? hotVectorCache.search(contentSeq, request)
+                .switchIfEmpty(Mono.defer(() -> vectorDbClient.searchPoints(collection, request)))
+            : vectorDbClient.searchPoints(collection, request);
+
+        return points
             .map(results -> results.stream()
-                .sorted((a, b) -> {
-                    Double sa = ((Number) a.get("score")).doubleValue();
-                    Double sb = ((Number) b.get("score")).doubleValue();
-                    return -Double.compare(sa, sb); // 내림차순 정렬
-                })
-                .limit(5)
                 .map(result -> {
-                    Map<String, Object> payload = (Map<String, Object>) result.get("payload");
-                    return payload != null ? payload.getOrDefault("content", "").toString() : "";
+                    Map<String, Object> payload = result.getPayload();
+                    String content = payload != null ? String.valueOf(payload.getOrDefault("content", "")) : "";
+                    return new Ranked(String.valueOf(result.getId()), content);
                 })
-                .filter(content -> !content.isBlank())
                 .collect(Collectors.toList())
             );
     }
+
+    /**
+     * RRF: 각 목록에서의 순위 r에 대해 1 / (k + r)을 더한 점수로 재정렬합니다.
+     * 같은 구간(포인트 ID)이 두 목록에 모두 있으면 점수가 합산됩니다.
+     */
+    private List<Ranked> fuse(List<Ranked> dense, List<Ranked> lexical) {
+        Map<String, Ranked> byId = new LinkedHashMap<>();
+        Map<String, Double> scores = new HashMap<>();
+        for (List<Ranked> ranking : List.of(dense, lexical)) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                Ranked item = ranking.get(rank);
+                byId.putIfAbsent(item.id, item);
+                scores.merge(item.id, 1.0 / (rrfK + rank + 1), Double::sum);
+            }
+        }
+
+        List<Ranked> fused = new ArrayList<>(byId.values());
+        fused.sort((a, b) -> Double.compare(scores.get(b.id), scores.get(a.id)));
+        return fused;
+    }
+
+    private List<String> toContents(List<Ranked> ranked) {
+        return ranked.stream()
+            .map(item -> item.content)
+            .filter(content -> content != null && !content.isBlank())
+            .limit(CONTEXT_SIZE)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 검색 결과 한 건 (포인트 ID + 구간 본문)
+     */
+    private static class Ranked {
+        private final String id;
+        private final String content;
+
+        Ranked(String id, String content) {
+            this.id = id;
+            this.content = content;
+        }
+    }
     
     /**
      * Qdrant에서 임의의 조건 없이 유사도 기준으로 상위 N개의 payload.content 값을 반환합니다.
@@ -85,8 +195,8 @@ public class RagService {
      * @param scoreThreshold 유사도 필터링 기준 (예: 0.8)
      * @return payload.content 값 리스트 (유사도 기준 정렬)
      */
-    public Mono<List<String>> searchTopPayloads(String collection, List<Float> vector, int limit, double scoreThreshold) {
-        return qdrantClient.searchWithPayload(collection, vector, limit, scoreThreshold)
+    public Mono<List<String>> searchTopPayloads(String collection, Vector vector, int limit, double scoreThreshold) {
+        return vectorDbClient.searchWithPayload(collection, vector, limit, scoreThreshold)
             .doOnSuccess(result -> log.info("✅ Qdrant 일반 유사도 검색 결과 {}개", result.size()))
             .doOnError(e -> log.error("❌ Qdrant 일반 유사도 검색 실패", e));
     }
@@ -96,9 +206,9 @@ public class RagService {
      *
      * @param collection Qdrant 컬렉션 이름
      * @param contentSeq 조회할 콘텐츠 ID
-     * @return vector + payload를 포함한 Map (예: {"vector": ..., "payload": ...})
+     * @return vector(float[] 기반) + payload를 포함한 포인트
      */
-    public Mono<Map<String, Object>> getVectorWithPayloadByContentSeq(
+    public Mono<QdrantPointDTO> getVectorWithPayloadByContentSeq(
             String collection,
             Long contentSeq
     ) {
@@ -116,19 +226,15 @@ public class RagService {
             )
         );
 
-        // searchRaw 대신 scrollRaw 사용
-        return qdrantClient.scrollRaw(collection, body)
+        // search 대신 scroll 사용
+        return vectorDbClient.scrollPoints(collection, body)
             .map(results -> {
                 if (results.isEmpty()) {
                     throw new IllegalStateException(
                       "contentSeq=" + contentSeq + " 를 찾을 수 없습니다."
                     );
                 }
-                var hit = results.get(0);
-                return Map.of(
-                    "vector",  hit.get("vector"),
-                    "payload", hit.get("payload")
-                );
+                return results.get(0);
             });
     }
 
@@ -141,35 +247,24 @@ public class RagService {
      * @param limit 최대 결과 수
      * @param minScore 유사도 하한선
      * @param excludeContentSeq 제외할 콘텐츠 ID
-     * @return 유사 콘텐츠 payload 리스트 (score 포함)
+     * @return 유사 콘텐츠 포인트 리스트 (score, payload.contentSeq 포함, 점수 내림차순)
      */
-    public Mono<List<Map<String,Object>>> searchSimilarByVectorExcludingSelf(
+    public Mono<List<QdrantPointDTO>> searchSimilarByVectorExcludingSelf(
             String collection,
-            List<Float> baseVector,
+            Vector baseVector,
             int limit,
             double minScore,
             Long excludeContentSeq
     ) {
-        Map<String, Object> filter = Map.of(
-            "must_not", List.of(
-                Map.of("key", "contentSeq", "match", Map.of("value", excludeContentSeq))
-            )
-        );
+        QdrantSearchRequestDTO request = QdrantSearchRequestDTO.builder()
+            .vector(baseVector)
+            .limit(limit)
+            .scoreThreshold(minScore)
+            .withPayload(QdrantSearchRequestDTO.payloadFields("contentSeq"))
+            .filter(QdrantSearchRequestDTO.contentSeqFilter("must_not", excludeContentSeq))
+            .build();
 
-        Map<String, Object> body = Map.of(
-            "vector_name", "vector",
-            "vector",      baseVector,
-            "limit",       limit,
-            "with_payload", true,
-            "filter",      filter
-        );
-
-        return qdrantClient.searchRaw(collection, body)
-            .map(results ->
-                results.stream()
-                       .filter(r -> ((Number) r.get("score")).doubleValue() >= minScore)
-                       .collect(Collectors.toList())
-            );
+        return vectorDbClient.searchPoints(collection, request);
     }
 
 
@@ -4,8 +4,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firzzle.common.exception.BusinessException;
 import com.firzzle.common.exception.ErrorCode;
+import com.firzzle.llm.cache.ContentCacheInvalidator;
 import com.firzzle.llm.client.*;
 import com.firzzle.llm.domain.ContentBlock;
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.domain.VectorPoint;
 import com.firzzle.llm.domain.TimeLine;
 import com.firzzle.llm.domain.TimeLineWrapper;
 import com.firzzle.llm.dto.*;
@@ -15,26 +18,38 @@ import com.firzzle.llm.prompt.*;
 import com.firzzle.llm.sse.SseEmitterRepository;
 import com.firzzle.llm.util.*;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import static java.time.LocalDateTime.now;
 import static java.time.format.DateTimeFormatter.ofPattern;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RegistrationService {
 
-    private final OpenAiClient openAiClient;
+    private final LlmResultCacheService llmResultCacheService;
     private final EmbeddingService embeddingService;
     private final OxQuizService oxQuizService;
     private final RagService ragService;
@@ -44,9 +59,42 @@ public class RegistrationService {
     private final PromptFactory promptFactory;
     private final SseEmitterRepository sseEmitterRepository;
     private final SnapReviewProducer snapReviewProducer;
+    private final ContentCacheInvalidator contentCacheInvalidator;
+    private final Executor llmExecutor;
+    private final RegistrationSubscriberService registrationSubscriberService;
+    private final ContentNeighborJob contentNeighborJob;
 
     private static final Logger logger = LoggerFactory.getLogger(RegistrationService.class);
 
+    // 일부 대주제의 요약이 저장되어 학습 화면에서 부분 조회가 가능한 상태
+    public static final String PROCESS_STATUS_PARTIAL = "S";
+
+    // 재시도를 모두 소진해 실패한 상태 (콘텐츠는 유지, DLQ 재처리 대상)
+    public static final String PROCESS_STATUS_FAILED = "F";
+
+    // 타임라인 추출 구간 하나의 최대 토큰 수 (초과하는 스크립트는 겹치는 구간으로 나눠 병렬 추출)
+    @Value("${app.timeline.window-tokens:12000}")
+    private int timelineWindowTokens;
+
+    // 이웃 구간과 겹치는 토큰 수
+    @Value("${app.timeline.overlap-tokens:800}")
+    private int timelineOverlapTokens;
+
+    // 병합 시 이보다 가까운 타임라인은 하나로 합침 (초)
+    @Value("${app.timeline.min-gap-seconds:60}")
+    private int timelineMinGapSeconds;
+
+    // 병합된 키워드 최대 수
+    private static final int MAX_TIMELINE_KEYWORDS = 3;
+
+    // 재시도 대상 오류 코드
+    private static final Set<ErrorCode> TRANSIENT_ERROR_CODES = EnumSet.of(
+        ErrorCode.OPENAI_REQUEST_FAILED,
+        ErrorCode.LLM_REQUEST_RATE_LIMITED,
+        ErrorCode.VECTOR_EMBEDDING_FAILED,
+        ErrorCode.VECTOR_SAVE_FAILED
+    );
+
     // ============================================
     // PUBLIC ENTRY POINT
     // ============================================
@@ -61,13 +109,27 @@ public class RegistrationService {
         String taskId = getOrGenerateTaskId(request);
 
         sendStart(taskId, request.getContentSeq());
-        String content = request.getScript();
-        List<String> scriptLines = Arrays.asList(content.split("\n"));
+        String content = resolveScript(request);
+        if (content == null) {
+            // 등록 완료 후 claim-check 행을 지운 뒤 같은 메시지가 재전달된 경우
+            if ("C".equals(contentMapper.selectProcessStatusByContentSeq(request.getContentSeq()))) {
+                logger.info("⏭️ 이미 처리 완료된 콘텐츠 - 중복 메시지 무시: contentSeq={}", request.getContentSeq());
+                sendComplete(taskId);
+                return CompletableFuture.completedFuture(null);
+            }
+            markFailed(request, "스크립트를 찾을 수 없습니다.");
+            return CompletableFuture.completedFuture(null);
+        }
+        if (request.isReprocess()) {
+            resetPartialResults(request.getContentSeq());
+        }
+        // 구간 추출용 색인 (요청당 한 번 생성, 대주제/블록별 구간은 이진 탐색으로 추출)
+        TranscriptIndex transcript = TranscriptIndex.of(content);
         logger.info("\uD83D\uDE80 전체 요약 시작: taskId={}", taskId);
 
         sendProgress(taskId, "대주제 추출 중...");
 
-        return extractTimeLines(content)
+        return extractTimeLines(content, transcript)
                 .thenCompose(wrapper -> {
                     List<TimeLine> timelines = wrapper.getTimeline();
                     List<String> keywords = wrapper.getKeywords();
@@ -83,23 +145,28 @@ public class RegistrationService {
                         logger.info("📤 SnapReview Kafka 전송 완료: {}", formattedTimeline);
                     } catch (Exception e) {
                         logger.error("❌ SnapReview Kafka 전송 실패: {}", e.getMessage(), e);
-                        handleError(request);
                         throw new BusinessException(ErrorCode.SNAP_REVIEW_SEND_FAILED);
                     }
 
-                    return summarizeByChunksWithTaskId(taskId, timelines, scriptLines)
-                            .thenApply(blocks -> Map.of("blocks", blocks, "keywords", keywords));
+                    return summarizeByChunksWithTaskId(taskId, request.getContentSeq(), timelines, transcript)
+                            .thenApply(topics -> Map.of("topics", topics, "keywords", keywords));
                 })
                 .thenApply(map -> {
-                    List<ContentBlock> blocks = (List<ContentBlock>) map.get("blocks");
+                    List<TopicResult> topics = (List<TopicResult>) map.get("topics");
                     List<String> keywords = (List<String>) map.get("keywords");
+                    List<ContentBlock> blocks = topics.stream()
+                            .flatMap(topic -> topic.getBlocks().stream())
+                            .collect(Collectors.toList());
+                    List<CompletableFuture<Void>> vectorAcks = topics.stream()
+                            .map(TopicResult::getVectorAck)
+                            .collect(Collectors.toList());
 
                     sendProgress(taskId, "요약 완료. 데이터 저장 중...", "blockCount", blocks.size());
                     blocks.forEach(block -> logger.info("🎯 요약 블록: {}", block.getTitle()));
 
                     try {
                         logger.info("💾 블록 저장 시작 - contentSeq={}, blockCount={}", request.getContentSeq(), blocks.size());
-                        saveBlock(request.getContentSeq(), blocks, scriptLines, keywords);
+                        saveBlock(request.getContentSeq(), blocks, keywords, vectorAcks).join();
                         logger.info("✅ 블록 저장 완료");
 
                         logger.info("⏱️ 처리 상태 및 완료일시 업데이트 시작");
@@ -109,17 +176,28 @@ public class RegistrationService {
                                 now().format(ofPattern("yyyyMMddHHmmss"))
                         );
                         logger.info("✅ 처리 상태 및 완료일시 업데이트 완료");
+                        contentCacheInvalidator.evict(request.getContentSeq());
+                        deleteClaimCheckScript(request);
+                        // 추천 이웃 계산은 완료 응답을 기다리게 하지 않음 (실패 시 backfill에서 재계산)
+                        contentNeighborJob.refresh(request.getContentSeq());
                         sendResult(taskId, request.getUserContentSeq(), blocks);
                         sendComplete(taskId);
 
                         return "✅ 요약 및 저장 완료: " + blocks.size() + "개";
                     } catch (Exception e) {
                         logger.error("❌ 저장 처리 중 예외 발생 - contentSeq={}, error={}", request.getContentSeq(), e.getMessage(), e);
-                        handleError(request);
-                        throw new BusinessException(ErrorCode.SUMMARY_SAVE_FAILED);
+                        // 일시적 오류 여부는 원인 예외로 판단하므로 감싸지 않고 전달
+                        throw e instanceof RuntimeException re ? re : new BusinessException(ErrorCode.SUMMARY_SAVE_FAILED);
                     }
                 })
                 .exceptionally(e -> {
+                    // 일시적 오류(OpenAI/Qdrant 장애 등)는 콘텐츠를 삭제하지 않고 재시도 토픽으로 넘기도록 실패를 전달
+                    if (isTransientFailure(e)) {
+                        logger.warn("⚠️ 일시적 오류로 요약 처리 실패 (재시도 대상): taskId={}, error={}", taskId, e.getMessage());
+                        sendProgress(taskId, "일시적인 오류가 발생하여 잠시 후 다시 시도합니다.");
+                        throw e instanceof CompletionException ce ? ce : new CompletionException(e);
+                    }
+
                     logger.error("❌ 전체 요약 처리 중 오류: taskId={}", taskId, e);
                     sendError(taskId, "요약 처리 중 오류가 발생했습니다: " + e.getMessage());
                     handleError(request);
@@ -127,86 +205,157 @@ public class RegistrationService {
                 });
     }
 
+    /**
+     * 재시도를 모두 소진한 요청을 실패 처리합니다.
+     * 콘텐츠는 삭제하지 않고 실패(F) 상태로 남겨 DLQ 재처리로 복구할 수 있도록 합니다.
+     */
+    public void markFailed(LlmRequestDTO request, String errorMessage) {
+        try {
+            contentMapper.updateProcessStatusByContentSeq(request.getContentSeq(), PROCESS_STATUS_FAILED);
+            logger.info("⛔ 콘텐츠 실패 상태로 변경: contentSeq={}", request.getContentSeq());
+        } catch (Exception e) {
+            logger.error("❌ 실패 상태 변경 중 예외 발생: {}", e.getMessage(), e);
+        }
+        if (request.getTaskId() != null) {
+            sendError(request.getTaskId(), "요약 처리 중 오류가 발생했습니다: " + errorMessage);
+        }
+    }
+
+    /**
+     * 재처리 전에 이전 시도에서 저장된 요약/섹션, OX 퀴즈, 시험 문제, 태그를 정리합니다.
+     * (벡터는 같은 id로 덮어쓰므로 정리하지 않음)
+     */
+    private void resetPartialResults(Long contentSeq) {
+        logger.info("🧹 재처리 전 부분 결과 정리 시작: contentSeq={}", contentSeq);
+        summaryService.deleteByContentSeq(contentSeq);
+        oxQuizService.deleteByContentSeq(contentSeq);
+        examsService.deleteByContentSeq(contentSeq);
+        contentMapper.deleteContentTags(contentSeq);
+        logger.info("✅ 재처리 전 부분 결과 정리 완료: contentSeq={}", contentSeq);
+    }
+
+    /**
+     * 재시도로 복구될 수 있는 일시적 오류인지 판단합니다.
+     * (OpenAI 요청 실패/요청 한도 초과, 임베딩/벡터 DB 저장 실패, 네트워크/타임아웃, 5xx·429 응답)
+     */
+    private boolean isTransientFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof BusinessException be && TRANSIENT_ERROR_CODES.contains(be.getErrorCode())) return true;
+            if (t instanceof WebClientRequestException || t instanceof TimeoutException || t instanceof IOException) return true;
+            if (t instanceof WebClientResponseException wre
+                    && (wre.getStatusCode().is5xxServerError() || wre.getStatusCode().value() == 429)) return true;
+        }
+        return false;
+    }
+
     /**
      * 오류 발생 시 userContentSeq 테이블에서 데이터를 삭제하고
      * contentSeq에 해당하는 레코드의 delete_yn 값을 'Y'로 변경합니다.
      */
     private void handleError(LlmRequestDTO request) {
         try {
-            // 1. userContentSeq 테이블에서 데이터 삭제
+            // 1. userContentSeq 테이블에서 데이터 삭제 (요청자 + 같은 콘텐츠를 등록한 다른 사용자)
             if (request.getUserContentSeq() != null) {
                 contentMapper.deleteUserContent(request.getUserContentSeq());
                 logger.info("🗑️ 사용자 콘텐츠 삭제 완료: userContentSeq={}", request.getUserContentSeq());
             }
+            if (request.getContentSeq() != null) {
+                List<Long> userContentSeqs = contentMapper.selectUserContentSeqsByContentSeq(request.getContentSeq());
+                if (userContentSeqs != null) {
+                    for (Long userContentSeq : userContentSeqs) {
+                        contentMapper.deleteUserContent(userContentSeq);
+                        logger.info("🗑️ 사용자 콘텐츠 삭제 완료: userContentSeq={}", userContentSeq);
+                    }
+                }
+            }
 
             // 2. contentSeq에 해당하는 레코드의 delete_yn 값을 'Y'로 변경
             if (request.getContentSeq() != null) {
                 contentMapper.updateDeleteYnByContentSeq(request.getContentSeq(), "Y");
                 logger.info("🗑️ 콘텐츠 삭제 처리 완료: contentSeq={}", request.getContentSeq());
             }
+            deleteClaimCheckScript(request);
         } catch (Exception ex) {
             logger.error("❌ 오류 처리 중 추가 예외 발생: {}", ex.getMessage(), ex);
         }
     }
 
+    /**
+     * 메시지에 담긴 스크립트를 반환하고, claim-check로 전달된 경우 DB에서 조회합니다.
+     */
+    private String resolveScript(LlmRequestDTO request) {
+        if (request.getScript() != null || request.getScriptSeq() == null) {
+            return request.getScript();
+        }
+        String script = contentMapper.selectContentScript(request.getScriptSeq());
+        if (script == null) {
+            logger.error("❌ claim-check 스크립트 없음: contentSeq={}, scriptSeq={}", request.getContentSeq(), request.getScriptSeq());
+            return null;
+        }
+        logger.info("📦 claim-check 스크립트 조회: contentSeq={}, scriptSeq={}, length={}",
+                request.getContentSeq(), request.getScriptSeq(), script.length());
+        request.setScript(script);
+        return script;
+    }
+
+    /**
+     * claim-check로 전달된 스크립트 행을 삭제합니다. (등록 완료 또는 콘텐츠 삭제 처리 후)
+     * 재시도 소진으로 실패(F) 처리된 요청은 DLQ 재처리에 필요하므로 호출하지 않습니다.
+     */
+    private void deleteClaimCheckScript(LlmRequestDTO request) {
+        if (request.getScriptSeq() == null) return;
+        try {
+            contentMapper.deleteContentScript(request.getScriptSeq());
+            logger.info("🗑️ claim-check 스크립트 삭제: contentSeq={}, scriptSeq={}", request.getContentSeq(), request.getScriptSeq());
+        } catch (Exception e) {
+            logger.warn("⚠️ claim-check 스크립트 삭제 실패: scriptSeq={}, error={}", request.getScriptSeq(), e.getMessage());
+        }
+    }
+
     
     // ============================================
     // INTERNAL LOGIC POINT
     // ============================================
 
     /**
-     * 요약된 블록들을 DB 및 벡터 DB에 저장하는 메서드입니다.
+     * 파이프라인의 마지막 커밋 단계입니다.
+     * 모든 대주제 요약이 끝난 뒤 퀴즈/시험/태그를 DB에 저장하고 (요약 섹션은 대주제별로 이미 저장됨),
+     * 대주제별로 먼저 시작된 벡터 저장(vectorAcks)과 타이틀 벡터 저장의 완료를 확인합니다.
+     * (OX 퀴즈는 전체 블록에서 고르게 선택하고 시험 문항 번호도 전체 순서를 따르므로 DB 저장은 이 단계에서 수행합니다.)
      */
     @Transactional
-    protected CompletableFuture<Void> saveBlock(long contentSeq, List<ContentBlock> blocks, List<String> scriptLines, List<String> keywords) {
+    protected CompletableFuture<Void> saveBlock(long contentSeq, List<ContentBlock> blocks, List<String> keywords, List<CompletableFuture<Void>> vectorAcks) {
         try {
-            Map<String, List<SectionDTO>> levelToSections = new HashMap<>();
             List<OxQuizDTO> oxQuizList = new ArrayList<>();
             List<ExamsDTO> examList = new ArrayList<>();
+            List<VectorPoint> vectorPoints = new ArrayList<>();
 
-            for (int i = 0; i < blocks.size(); i++) {
-                ContentBlock block = blocks.get(i);
-                String startTimeStr = block.getTime();
-                int startTime = Integer.parseInt(startTimeStr);
+            for (ContentBlock block : blocks) {
+                int startTime = Integer.parseInt(block.getTime());
 
-                String endTimeStr = (i < blocks.size() - 1 && blocks.get(i + 1).getTime() != null)
-                        ? blocks.get(i + 1).getTime()
-                        : "99999";
-
-                handleSummary(block, startTime, endTimeStr, contentSeq, scriptLines, levelToSections);
                 handleOxQuiz(block, startTime, contentSeq, oxQuizList);
                 handleExam(block, startTime, contentSeq, examList);
             }
 
-            try {
-                saveSummaries(contentSeq, levelToSections);
-            } catch (Exception e) {
-                // saveBlock 실패 시 오류 처리 로직 추가
-                handleSaveBlockError(contentSeq);
-                throw new BusinessException(ErrorCode.SUMMARY_INSERT_FAILED, e);
-            }
-
             try {
                 if (!oxQuizList.isEmpty()) oxQuizService.saveOxQuizzes(contentSeq, oxQuizList);
             } catch (Exception e) {
-                // saveBlock 실패 시 오류 처리 로직 추가
-                handleSaveBlockError(contentSeq);
                 throw new BusinessException(ErrorCode.OXQUIZ_SAVE_FAILED, e);
             }
 
             try {
                 if (!examList.isEmpty()) examsService.saveExams(contentSeq, examList);
             } catch (Exception e) {
-                // saveBlock 실패 시 오류 처리 로직 추가
-                handleSaveBlockError(contentSeq);
                 throw new BusinessException(ErrorCode.EXAM_SAVE_FAILED, e);
             }
 
             try {
-                saveTitleSummaryVector(contentSeq, blocks, keywords);
+                addTitleSummaryVector(contentSeq, blocks, keywords, vectorPoints);
+                List<CompletableFuture<Void>> allAcks = new ArrayList<>(vectorAcks);
+                allAcks.add(saveVectors(contentSeq, vectorPoints));
+                CompletableFuture.allOf(allAcks.toArray(new CompletableFuture[0])).join();
+                logger.info("✅ [벡터 저장 확인 완료] contentSeq={}, 대주제 수={}", contentSeq, vectorAcks.size());
             } catch (Exception e) {
-                // saveBlock 실패 시 오류 처리 로직 추가
-                handleSaveBlockError(contentSeq);
                 throw new BusinessException(ErrorCode.VECTOR_SAVE_FAILED, e);
             }
 
@@ -221,8 +370,6 @@ public class RegistrationService {
                         contentMapper.insertContentTags(contentSeq, uniqueTags);
                         logger.info("🏷️ 콘텐츠 태그 저장 완료: {}", uniqueTags);
                     } catch (Exception e) {
-                        // saveBlock 실패 시 오류 처리 로직 추가
-                        handleSaveBlockError(contentSeq);
                         throw new BusinessException(ErrorCode.CONTENT_TAG_INSERT_FAILED, e);
                     }
                 }
@@ -231,8 +378,6 @@ public class RegistrationService {
             return CompletableFuture.completedFuture(null);
         } catch (Exception e) {
             logger.error("❌ ContentBlock 저장 실패", e);
-            // saveBlock 실패 시 오류 처리 로직 추가
-            handleSaveBlockError(contentSeq);
             CompletableFuture<Void> failed = new CompletableFuture<>();
             failed.completeExceptionally(e);
             return failed;
@@ -240,84 +385,145 @@ public class RegistrationService {
     }
 
     /**
-     * saveBlock 실패 시 오류 처리 메서드
-     * 콘텐츠 관련 userContentSeq를 찾아 삭제하고 contentSeq의 delete_yn을 'Y'로 설정
+     * 전체 자막에서 주요 타임라인(대주제)을 추출합니다.
+     * 같은 자막에 대한 결과가 캐시되어 있으면 GPT 호출 없이 재사용합니다.
+     * 스크립트가 구간 토큰 수를 넘으면 겹치는 구간으로 나눠 병렬로 추출한 뒤 병합합니다.
      */
-    private void handleSaveBlockError(long contentSeq) {
-        try {
-            // 1. contentSeq에 해당하는 userContentSeq 조회
-            List<Long> userContentSeqs = contentMapper.selectUserContentSeqsByContentSeq(contentSeq);
-
-            // 2. 조회된 userContentSeq 데이터 삭제
-            if (userContentSeqs != null && !userContentSeqs.isEmpty()) {
-                for (Long userContentSeq : userContentSeqs) {
-                    contentMapper.deleteUserContent(userContentSeq);
-                    logger.info("🗑️ 사용자 콘텐츠 삭제 완료: userContentSeq={}", userContentSeq);
+    @Async
+    protected CompletableFuture<TimeLineWrapper> extractTimeLines(String content, TranscriptIndex transcript) {
+        int totalTokens = TokenCounter.count(content);
+        if (totalTokens <= timelineWindowTokens) {
+            ChatCompletionRequestDTO timelinePrompt = promptFactory.createTimelineyRequest(content);
+            return llmResultCacheService.getOrRequest(timelinePrompt, this::parseTimeLineWrapper);
+        }
+
+        List<TranscriptChunker.Window> windows =
+                TranscriptChunker.split(transcript, timelineWindowTokens, timelineOverlapTokens);
+        logger.info("✂️ 타임라인 구간 분할: totalTokens={}, windows={}", totalTokens, windows.size());
+
+        List<CompletableFuture<TimeLineWrapper>> futures = windows.stream()
+                .map(window -> llmResultCacheService.getOrRequest(
+                        promptFactory.createTimelineyRequest(window.getText()), this::parseTimeLineWrapper))
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> mergeTimeLines(windows, futures.stream().map(CompletableFuture::join).toList()));
+    }
+
+    /**
+     * 구간별 타임라인을 병합합니다.
+     * - 각 구간이 담당하는 시간 범위 안의 타임라인만 사용 (겹친 영역의 중복 제거)
+     * - 정렬 후 최소 간격보다 가까운 경계는 앞의 것만 유지
+     * - 키워드는 여러 구간에서 자주 나온 순서로 상위 몇 개만 사용
+     */
+    private TimeLineWrapper mergeTimeLines(List<TranscriptChunker.Window> windows, List<TimeLineWrapper> results) {
+        List<Integer> points = new ArrayList<>();
+        Map<String, Integer> keywordCounts = new LinkedHashMap<>();
+
+        for (int i = 0; i < windows.size(); i++) {
+            TranscriptChunker.Window window = windows.get(i);
+            TimeLineWrapper result = results.get(i);
+
+            if (result.getTimeline() != null) {
+                for (TimeLine timeLine : result.getTimeline()) {
+                    try {
+                        int seconds = ScriptUtils.toSeconds(String.valueOf(timeLine.getTime()).trim());
+                        if (seconds >= window.getOwnedFromSeconds() && seconds < window.getOwnedUntilSeconds()) {
+                            points.add(seconds);
+                        }
+                    } catch (NumberFormatException e) {
+                        logger.warn("⚠️ 잘못된 타임라인 값 무시: {}", timeLine.getTime());
+                    }
                 }
             }
+            if (result.getKeywords() != null) {
+                result.getKeywords().forEach(keyword -> keywordCounts.merge(keyword, 1, Integer::sum));
+            }
+        }
 
-            // 3. contentSeq에 해당하는 레코드의 delete_yn 값을 'Y'로 변경
-            contentMapper.updateDeleteYnByContentSeq(contentSeq, "Y");
-            logger.info("🗑️ 콘텐츠 삭제 처리 완료: contentSeq={}", contentSeq);
-        } catch (Exception ex) {
-            logger.error("❌ saveBlock 오류 처리 중 추가 예외 발생: {}", ex.getMessage(), ex);
+        Collections.sort(points);
+        List<TimeLine> timeline = new ArrayList<>();
+        int last = Integer.MIN_VALUE;
+        for (int seconds : points) {
+            if (!timeline.isEmpty() && seconds - last < timelineMinGapSeconds) continue;
+            TimeLine timeLine = new TimeLine();
+            timeLine.setTime(String.valueOf(seconds));
+            timeline.add(timeLine);
+            last = seconds;
         }
+        if (timeline.isEmpty()) {
+            TimeLine first = new TimeLine();
+            first.setTime("0");
+            timeline.add(first);
+        }
+
+        // 등장 구간 수 내림차순 (같으면 먼저 나온 순서 유지)
+        List<String> keywords = keywordCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(MAX_TIMELINE_KEYWORDS)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        TimeLineWrapper merged = new TimeLineWrapper();
+        merged.setTimeline(timeline);
+        merged.setKeywords(keywords);
+        logger.info("🧩 구간 타임라인 병합 완료: points={}, keywords={}", timeline.size(), keywords);
+        return merged;
     }
 
     /**
-     * 전체 자막에서 주요 타임라인(대주제)을 추출합니다.
+     * GPT 타임라인 응답을 TimeLineWrapper로 파싱합니다.
      */
-    @Async
-    protected CompletableFuture<TimeLineWrapper> extractTimeLines(String content) {
-        ChatCompletionRequestDTO timelinePrompt = promptFactory.createTimelineyRequest(content);
-
-        return openAiClient.getChatCompletionAsync(timelinePrompt)
-            .thenApply(response -> {
-                try {
-                    ObjectMapper mapper = new ObjectMapper();
+    private TimeLineWrapper parseTimeLineWrapper(String response) {
+        try {
+            ObjectMapper mapper = new ObjectMapper();
 
-                    // ✅ 실제 GPT 응답 그대로 로깅
-                    logger.info("📨 GPT 원 응답:\n{}", response);
+            // ✅ 실제 GPT 응답 그대로 로깅
+            logger.info("📨 GPT 원 응답:\n{}", response);
 
-                    // ✅ 안전하게 가장 바깥 JSON 블록 추출
-                    String cleaned = ScriptUtils.extractJsonObject(response);
+            // ✅ 안전하게 가장 바깥 JSON 블록 추출
+            String cleaned = ScriptUtils.extractJsonObject(response);
 
-                    // ✅ 배열이면 리스트로 파싱 후 첫 개만 사용
-                    if (cleaned.startsWith("[")) {
-                        List<TimeLineWrapper> list = mapper.readValue(
-                            cleaned,
-                            new TypeReference<List<TimeLineWrapper>>() {}
-                        );
-                        if (list.isEmpty()) throw new RuntimeException("타임라인 응답이 비어 있음");
-                        return list.get(0);
-                    } else {
-                        TimeLineWrapper wrapper = mapper.readValue(cleaned, TimeLineWrapper.class);
-                        logger.info("🧩 추출된 키워드: {}", wrapper.getKeywords());
-                        return wrapper;
-                    }
+            // ✅ 배열이면 리스트로 파싱 후 첫 개만 사용
+            if (cleaned.startsWith("[")) {
+                List<TimeLineWrapper> list = mapper.readValue(
+                    cleaned,
+                    new TypeReference<List<TimeLineWrapper>>() {}
+                );
+                if (list.isEmpty()) throw new RuntimeException("타임라인 응답이 비어 있음");
+                return list.get(0);
+            } else {
+                TimeLineWrapper wrapper = mapper.readValue(cleaned, TimeLineWrapper.class);
+                logger.info("🧩 추출된 키워드: {}", wrapper.getKeywords());
+                return wrapper;
+            }
 
-                } catch (Exception e) {
-                    logger.error("❌ 타임라인 파싱 실패 (raw):\n{}", response, e);
-                    throw new RuntimeException("타임라인 파싱 실패", e);
-                }
-            });
+        } catch (Exception e) {
+            logger.error("❌ 타임라인 파싱 실패 (raw):\n{}", response, e);
+            throw new RuntimeException("타임라인 파싱 실패", e);
+        }
     }
 
 
 
     /**
-     * 각 대주제별 자막 텍스트를 요약하여 ContentBlock 리스트로 반환합니다.
+     * 각 대주제별 자막 텍스트를 요약합니다.
+     * 대주제 요약이 도착하는 즉시 해당 대주제의 섹션 저장과 벡터화/벡터 저장을 시작하고(파이프라인),
+     * 파싱된 블록(block 이벤트)과 대주제별 완료 진행 상황을 SSE로 전송합니다. 결과는 대주제 순서대로 반환합니다.
      */
     @Async
-    protected CompletableFuture<List<ContentBlock>> summarizeByChunksWithTaskId(String taskId, List<TimeLine> topics, List<String> scriptLines) {
-        List<CompletableFuture<List<ContentBlock>>> futures = new ArrayList<>();
+    protected CompletableFuture<List<TopicResult>> summarizeByChunksWithTaskId(String taskId, long contentSeq, List<TimeLine> topics, TranscriptIndex transcript) {
+        List<CompletableFuture<TopicResult>> futures = new ArrayList<>();
         int totalTopics = topics.size();
+        AtomicInteger completedTopics = new AtomicInteger();
+        Map<String, CompletableFuture<Long>> levelToSummarySeq = new ConcurrentHashMap<>();
+        AtomicBoolean partialPublished = new AtomicBoolean();
 
         for (int i = 0; i < topics.size(); i++) {
             final int topicIndex = i;
             String start = topics.get(i).getTime();
             String end = (i < topics.size() - 1) ? topics.get(i + 1).getTime() : "99999";
-            String rawText = ScriptUtils.extractChunkText(scriptLines, start, end);
+            String rawText = transcript.sliceText(start, end);
 
             if (rawText.strip().isEmpty()) {
                 logger.warn("⚠️ {}~{} 범위에 자막이 없습니다. 건너뜀", start, end);
@@ -333,9 +539,19 @@ public class RegistrationService {
             ));
 
             ChatCompletionRequestDTO summaryPrompt = promptFactory.createSummaryRequest(rawText);
-            CompletableFuture<List<ContentBlock>> future = openAiClient
-                .getChatCompletionAsync(summaryPrompt)
-                .thenApplyAsync(JsonParser::parseToContentBlockList);
+            CompletableFuture<TopicResult> future = llmResultCacheService
+                .getOrRequest(summaryPrompt, JsonParser::parseToContentBlockList)
+                .thenApplyAsync(blocks -> {
+                    TopicResult topic = processTopic(contentSeq, topicIndex, blocks, end, transcript);
+                    saveTopicSections(contentSeq, topic, levelToSummarySeq);
+                    if (partialPublished.compareAndSet(false, true)) {
+                        contentMapper.updateProcessStatusByContentSeq(contentSeq, PROCESS_STATUS_PARTIAL);
+                        logger.info("📖 부분 요약 조회 가능 상태로 변경: contentSeq={}", contentSeq);
+                    }
+                    topic.getBlocks().forEach(block -> sendBlock(taskId, contentSeq, topic.getIndex(), block));
+                    sendTopicCompleted(taskId, topic, completedTopics.incrementAndGet(), totalTopics);
+                    return topic;
+                }, llmExecutor);
 
             futures.add(future);
         }
@@ -343,40 +559,78 @@ public class RegistrationService {
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
             .thenApply(v -> futures.stream()
                 .map(CompletableFuture::join)
-                .flatMap(List::stream)
                 .collect(Collectors.toList())
             );
     }
+
+    /**
+     * 대주제 하나의 요약 결과로 Easy 요약 벡터를 만들어 벡터 저장을 시작합니다.
+     * 저장 완료는 기다리지 않고 ack를 TopicResult에 담아 커밋 단계에서 확인합니다.
+     */
+    private TopicResult processTopic(long contentSeq, int topicIndex, List<ContentBlock> blocks, String topicEnd, TranscriptIndex transcript) {
+        List<VectorPoint> vectorPoints = new ArrayList<>();
+
+        for (int i = 0; i < blocks.size(); i++) {
+            ContentBlock block = blocks.get(i);
+            String endTime = (i < blocks.size() - 1 && blocks.get(i + 1).getTime() != null)
+                    ? blocks.get(i + 1).getTime()
+                    : topicEnd;
+            addScriptVector(block, endTime, contentSeq, transcript, vectorPoints);
+        }
+
+        CompletableFuture<Void> vectorAck;
+        try {
+            vectorAck = saveVectors(contentSeq, vectorPoints);
+        } catch (Exception e) {
+            logger.error("❌ 대주제 벡터 저장 시작 실패 - contentSeq={}, topicIndex={}", contentSeq, topicIndex, e);
+            vectorAck = CompletableFuture.failedFuture(e);
+        }
+        return new TopicResult(topicIndex, blocks, vectorAck);
+    }
     
     // ============================================
     // BLOCK 처리 로직
     // ============================================
 
     /**
-     * Easy/High 요약 저장 및 Easy 요약 벡터화를 처리합니다.
+     * Easy/High 요약을 섹션 저장 대상에 추가합니다.
      */
-    private void handleSummary(
+    private void handleSummary(ContentBlock block, int startTime, Map<String, List<SectionDTO>> levelToSections) {
+        String easy = block.getSummary_Easy();
+        String high = block.getSummary_High();
+
+        if (easy != null && !easy.isBlank()) {
+            addSection("E", block.getTitle(), startTime, easy, levelToSections);
+        }
+        if (high != null && !high.isBlank()) {
+            addSection("H", block.getTitle(), startTime, high, levelToSections);
+        }
+    }
+
+    /**
+     * Easy 요약을 벡터화 대상(SCRIPT 컬렉션)에 추가합니다.
+     */
+    private void addScriptVector(
     	    ContentBlock block,
-    	    int startTime,
     	    String endTime,
     	    long contentSeq,
-    	    List<String> scriptLines,
-    	    Map<String, List<SectionDTO>> levelToSections
+    	    TranscriptIndex transcript,
+    	    List<VectorPoint> vectorPoints
     	) {
     	    String easy = block.getSummary_Easy();
-    	    String high = block.getSummary_High();
+    	    int startTime = Integer.parseInt(block.getTime());
 
     	    if (easy != null && !easy.isBlank()) {
-    	        addSection("E", block.getTitle(), startTime, easy, levelToSections);
-
-    	        logger.info("📌 saveVectorForBlock 호출 - contentSeq={}, startTime={}, endTime={}, summaryEasy.length={}",
+    	        logger.info("📌 벡터 저장 대상 추가 - contentSeq={}, startTime={}, endTime={}, summaryEasy.length={}",
     	                contentSeq, startTime, endTime, easy.length());
 
-    	        saveVectorForBlock(contentSeq, startTime, easy, scriptLines, block.getTime(), endTime);
-    	    }
-
-    	    if (high != null && !high.isBlank()) {
-    	        addSection("H", block.getTitle(), startTime, high, levelToSections);
+    	        String chunk = transcript.sliceText(block.getTime(), endTime);
+    	        vectorPoints.add(VectorPoint.builder()
+    	                .collection(QdrantCollections.SCRIPT)
+    	                .id(contentSeq * 100000 + startTime)
+    	                .text(easy)
+    	                .payload(Map.of("contentSeq", contentSeq, "content", chunk))
+    	                .build());
     	    }
     	}
 
@@ -394,41 +648,30 @@ public class RegistrationService {
     
 
     /**
-     * Easy 요약 텍스트를 벡터로 변환하여 벡터 DB에 저장합니다.
+     * 수집된 벡터 저장 대상(Easy 요약, 소주제 타이틀)을 한 번의 배치 임베딩으로 벡터화하여 쓰기 버퍼에 넣습니다.
+     * 반환된 future는 쓰기 버퍼의 저장 완료(ack) 시 완료되며, 재시도 후에도 실패하면 예외로 완료됩니다.
      */
-    private void saveVectorForBlock(
-    	    long contentSeq,
-    	    int startTime,
-    	    String text,
-    	    List<String> scriptLines,
-    	    String blockStartTime,
-    	    String blockEndTime 
-    	) {
-        try {
-            logger.info("📥 [벡터 저장 시작] contentSeq={}, startTime={}, blockStartTime={}, blockEndTime={}, text.length={}",
-                    contentSeq,
-                    startTime,
-                    blockStartTime,
-                    blockEndTime,
-                    text != null ? text.length() : "null");
-            
-            List<Float> vector = embeddingService.embed(text);
-            String chunk = ScriptUtils.extractChunkText(scriptLines, blockStartTime, blockEndTime);
-
-            Map<String, Object> payload = Map.of(
-                "contentSeq", contentSeq,
-                "content", chunk
-            );
-
-            ragService.saveToVectorDb(
-                QdrantCollections.SCRIPT,
-                contentSeq * 100000 + startTime,
-                vector,
-                payload
-            );
-        } catch (Exception e) {
-            logger.error("❌ Qdrant 저장 중 오류 - summary_easy: {}", text, e);
+    private CompletableFuture<Void> saveVectors(long contentSeq, List<VectorPoint> vectorPoints) {
+        if (vectorPoints.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        logger.info("📥 [벡터 저장 시작] contentSeq={}, 대상 수={}", contentSeq, vectorPoints.size());
+
+        List<Vector> vectors = embeddingService.embedAll(
+                vectorPoints.stream().map(VectorPoint::getText).toList());
+
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        for (int i = 0; i < vectorPoints.size(); i++) {
+            VectorPoint point = vectorPoints.get(i);
+            acks.add(ragService.saveToVectorDb(
+                point.getCollection(),
+                point.getId(),
+                vectors.get(i),
+                point.getPayload()
+            ));
         }
+
+        return CompletableFuture.allOf(acks.toArray(new CompletableFuture[0]))
+            .thenRun(() -> logger.info("✅ [벡터 저장 완료] contentSeq={}, 대상 수={}", contentSeq, vectorPoints.size()));
     }
 
     /**
@@ -467,64 +710,84 @@ public class RegistrationService {
     
     
     /**
-     * 저장할 요약 정보를 SummaryService를 통해 저장합니다.
+     * 대주제 하나의 요약 섹션을 레벨별 요약에 추가 저장합니다.
+     * 레벨별 요약(summarySeq)은 해당 레벨의 첫 섹션이 저장될 때 한 번만 생성됩니다.
      */
-    private void saveSummaries(long contentSeq, Map<String, List<SectionDTO>> sectionMap) {
-        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        for (var entry : sectionMap.entrySet()) {
-            SummaryDTO summary = new SummaryDTO();
-            summary.setContentSeq(contentSeq);
-            summary.setLevel(entry.getKey());
-            summary.setIndate(now);
-            summaryService.saveSummaryWithSections(summary, entry.getValue());
+    private void saveTopicSections(long contentSeq, TopicResult topic, Map<String, CompletableFuture<Long>> levelToSummarySeq) {
+        Map<String, List<SectionDTO>> sectionMap = new HashMap<>();
+        for (ContentBlock block : topic.getBlocks()) {
+            handleSummary(block, Integer.parseInt(block.getTime()), sectionMap);
+        }
+
+        try {
+            for (var entry : sectionMap.entrySet()) {
+                long summarySeq = getOrCreateSummary(contentSeq, entry.getKey(), levelToSummarySeq);
+                summaryService.saveSections(summarySeq, entry.getValue());
+            }
+        } catch (Exception e) {
+            logger.error("❌ 대주제 섹션 저장 실패 - contentSeq={}, topicIndex={}", contentSeq, topic.getIndex(), e);
+            throw new BusinessException(ErrorCode.SUMMARY_INSERT_FAILED, e);
         }
     }
 
 
     /**
-     * 전체 소주제 타이틀을 문자열로 연결하고 벡터화하여 저장합니다.
-     * 저장 위치: QdrantCollections.CONTENT (추천 시스템 전용 벡터 컬렉션)
+     * 레벨별 요약을 조회하거나, 처음 요청한 대주제에서 한 번만 생성합니다.
+     * 맵에는 future만 먼저 등록하고 DB insert는 맵 밖에서 실행하므로, 다른 대주제는 락 대신 결과를 기다리고
+     * 생성이 실패하면 재시도 경쟁 없이 같은 예외로 실패합니다.
      */
-    private void saveTitleSummaryVector(long contentSeq, List<ContentBlock> blocks, List<String> keywords) {
+    private long getOrCreateSummary(long contentSeq, String level, Map<String, CompletableFuture<Long>> levelToSummarySeq) {
+        CompletableFuture<Long> created = new CompletableFuture<>();
+        CompletableFuture<Long> existing = levelToSummarySeq.putIfAbsent(level, created);
+        if (existing != null) {
+            return existing.join();
+        }
         try {
-            String joinedTitles = blocks.stream()
-                .map(ContentBlock::getTitle)
-                .filter(Objects::nonNull)
-                .filter(t -> !t.isBlank())
-                .collect(Collectors.joining(" | "));
-
-            if (!joinedTitles.isBlank()) {
-                List<Float> vector = embeddingService.embed(joinedTitles);
-
-                Map<String, Object> payload = new HashMap<>();
-                payload.put("contentSeq", contentSeq);
-
-                // ✅ 키워드도 payload에 저장
-                if (keywords != null && !keywords.isEmpty()) {
-                    List<String> cleanedKeywords = keywords.stream()
-                            .map(String::trim)
-                            .filter(k -> !k.isBlank())
-                            .distinct()
-                            .collect(Collectors.toList());
-
-                    if (!cleanedKeywords.isEmpty()) {
-                        payload.put("keywords", cleanedKeywords);
-                        logger.info("🏷️ 저장할 키워드: {}", cleanedKeywords);
-                    }
-                }
-
-                ragService.saveToVectorDb(
-                    QdrantCollections.CONTENT,
-                    contentSeq * 100000L + 1L,
-                    vector,
-                    payload
-                );
+            created.complete(summaryService.createSummary(contentSeq, level,
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))));
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+        }
+        return created.join();
+    }
 
-                logger.info("🧠 전체 소주제 타이틀 벡터 저장 완료: {}", joinedTitles);
+    /**
+     * 전체 소주제 타이틀을 문자열로 연결하여 벡터 저장 대상에 추가합니다.
+     * 저장 위치: QdrantCollections.CONTENT (추천 시스템 전용 벡터 컬렉션)
+     */
+    private void addTitleSummaryVector(long contentSeq, List<ContentBlock> blocks, List<String> keywords, List<VectorPoint> vectorPoints) {
+        String joinedTitles = blocks.stream()
+            .map(ContentBlock::getTitle)
+            .filter(Objects::nonNull)
+            .filter(t -> !t.isBlank())
+            .collect(Collectors.joining(" | "));
+
+        if (joinedTitles.isBlank()) return;
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("contentSeq", contentSeq);
+
+        // ✅ 키워드도 payload에 저장
+        if (keywords != null && !keywords.isEmpty()) {
+            List<String> cleanedKeywords = keywords.stream()
+                    .map(String::trim)
+                    .filter(k -> !k.isBlank())
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            if (!cleanedKeywords.isEmpty()) {
+                payload.put("keywords", cleanedKeywords);
+                logger.info("🏷️ 저장할 키워드: {}", cleanedKeywords);
             }
-        } catch (Exception e) {
-            logger.error("❌ 전체 소주제 타이틀 벡터 저장 중 오류", e);
         }
+
+        vectorPoints.add(VectorPoint.builder()
+            .collection(QdrantCollections.CONTENT)
+            .id(contentSeq * 100000L + 1L)
+            .text(joinedTitles)
+            .payload(payload)
+            .build());
+        logger.info("🧠 전체 소주제 타이틀 벡터 저장 대상 추가: {}", joinedTitles);
     }
     // ============================================
     // SSE 유틸리티 및 상태 전송
@@ -587,6 +850,32 @@ public class RegistrationService {
     }
 
 
+    /**
+     * SSE - 대주제 하나의 요약/벡터화 시작 완료 전송
+     */
+    private void sendTopicCompleted(String taskId, TopicResult topic, int completed, int totalTopics) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("message", "주제 " + completed + "/" + totalTopics + " 요약 완료");
+        data.put("timestamp", System.currentTimeMillis());
+        data.put("topicIndex", topic.getIndex() + 1);
+        data.put("blockCount", topic.getBlocks().size());
+        data.put("completedTopics", completed);
+        data.put("totalTopics", totalTopics);
+        sendSseEvent(taskId, "progress", data);
+    }
+
+    /**
+     * SSE - 파싱/저장된 요약 블록 하나를 즉시 전송
+     */
+    private void sendBlock(String taskId, long contentSeq, int topicIndex, ContentBlock block) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("contentSeq", contentSeq);
+        data.put("topicIndex", topicIndex + 1);
+        data.put("block", block);
+        data.put("timestamp", System.currentTimeMillis());
+        sendSseEvent(taskId, "block", data);
+    }
+
     /**
      * SSE - 결과 데이터 전송
      */
@@ -603,9 +892,12 @@ public class RegistrationService {
      * SSE - 완료 상태 전송 및 연결 해제
      */
     private void sendComplete(String taskId) {
+        // 합류한 구독 작업까지 연결한 뒤 종료 이벤트 발행
+        registrationSubscriberService.closeRegistration(taskId);
         // SseEmitterRepository의 complete 메서드 직접 호출
         // (이 메서드는 이벤트 전송 후 remove까지 수행)
         sseEmitterRepository.complete(taskId);
+        registrationSubscriberService.release(taskId);
     }
 
 
@@ -615,18 +907,20 @@ public class RegistrationService {
     private void sendError(String taskId, String errorMessage) {
         // SseEmitterRepository의 completeWithError 메서드 직접 호출
         // (이 메서드는 오류 이벤트 전송 후 오류와 함께 연결을 종료함)
+        registrationSubscriberService.closeRegistration(taskId);
         sseEmitterRepository.completeWithError(taskId, errorMessage);
+        registrationSubscriberService.release(taskId);
     }
 
     /**
      * 실제 SSE 전송 로직
+     * 클라이언트가 다른 인스턴스에 연결되어 있을 수 있으므로 연결 여부와 관계없이 발행합니다.
+     * (연결된 인스턴스가 전달하고, 모든 인스턴스가 재전송 버퍼에 보관)
      */
     private void sendSseEvent(String taskId, String eventName, Map<String, Object> data) {
-        if (sseEmitterRepository.exists(taskId)) {
-            sseEmitterRepository.sendToClient(taskId, eventName, data);
-        } else {
-            logger.warn("⚠️ SSE 클라이언트가 연결되어 있지 않음: taskId={}, event={}", taskId, eventName);
-        }
+        // 같은 영상 등록에 새로 합류한 요청이 있으면 구독 작업으로 연결
+        registrationSubscriberService.refresh(taskId);
+        sseEmitterRepository.sendToClient(taskId, eventName, data);
     }
 
     /**
@@ -639,4 +933,15 @@ public class RegistrationService {
         }
         return "99999";
     }
+
+    /**
+     * 대주제 하나의 파이프라인 처리 결과 (요약 블록 + 벡터 저장 ack)
+     */
+    @Getter
+    @AllArgsConstructor
+    protected static class TopicResult {
+        private final int index;
+        private final List<ContentBlock> blocks;
+        private final CompletableFuture<Void> vectorAck;
+    }
 }
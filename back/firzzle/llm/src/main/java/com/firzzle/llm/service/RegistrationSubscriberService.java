@@ -0,0 +1,128 @@
+package com.firzzle.llm.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.firzzle.llm.dto.RegistrationSubscriberDTO;
+import com.firzzle.llm.dto.UserContentDTO;
+import com.firzzle.llm.mapper.ContentRegistrationMapper;
+import com.firzzle.llm.mapper.UserContentMapper;
+import com.firzzle.llm.mapper.UserMapper;
+import com.firzzle.llm.sse.SseEmitterRepository;
+import com.firzzle.llm.util.TimeUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 영상의 진행 중인 등록 작업에 합류한 요청(구독 작업)을 관리합니다.
+ * - stt 서버는 영상별로 하나의 대표 작업만 실행하고, 나머지 요청은 구독 요청으로 기록합니다.
+ * - 대표 작업의 진행 이벤트를 발행할 때 구독 요청을 주기적으로 확인해 SSE 구독과 사용자 콘텐츠를 연결합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegistrationSubscriberService {
+
+    private final ContentRegistrationMapper registrationMapper;
+    private final UserMapper userMapper;
+    private final UserContentMapper userContentMapper;
+    private final SseEmitterRepository sseEmitterRepository;
+
+    // 구독 요청 확인 최소 간격 (밀리초)
+    @Value("${app.registration.subscriber-refresh-interval:2000}")
+    private long refreshInterval;
+
+    // 대표 taskId별 마지막 구독 요청 확인 시각
+    private final Map<String, Long> lastRefreshedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 새로 합류한 구독 요청이 있으면 연결합니다. (최소 간격 내 반복 호출은 무시)
+     */
+    public void refresh(String leaderTaskId) {
+        long now = System.currentTimeMillis();
+        Long last = lastRefreshedAt.get(leaderTaskId);
+        if (last != null && now - last < refreshInterval) {
+            return;
+        }
+        lastRefreshedAt.put(leaderTaskId, now);
+        attachSubscribers(leaderTaskId, null);
+    }
+
+    /**
+     * 진행 중 등록을 해제해 더 이상 합류를 받지 않고, 그때까지 합류한 구독 요청을 모두 연결합니다.
+     * 대표 작업의 종료 이벤트 발행 직전에 호출합니다.
+     */
+    public void closeRegistration(String leaderTaskId) {
+        try {
+            Long contentSeq = registrationMapper.selectContentSeqByTaskId(leaderTaskId);
+            registrationMapper.deleteRegistration(leaderTaskId);
+            attachSubscribers(leaderTaskId, contentSeq);
+        } catch (Exception e) {
+            log.warn("⚠️ 진행 중 등록 해제 실패: taskId={}, error={}", leaderTaskId, e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 요청을 정리합니다. 대표 작업의 종료 이벤트 발행 후 호출합니다.
+     */
+    public void release(String leaderTaskId) {
+        sseEmitterRepository.unfollow(leaderTaskId);
+        lastRefreshedAt.remove(leaderTaskId);
+        try {
+            registrationMapper.deleteSubscribers(leaderTaskId);
+        } catch (Exception e) {
+            log.warn("⚠️ 구독 요청 정리 실패: taskId={}, error={}", leaderTaskId, e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 요청을 SSE 구독으로 연결하고, 콘텐츠가 생성되었으면 사용자 콘텐츠를 만들어 줍니다.
+     */
+    private void attachSubscribers(String leaderTaskId, Long contentSeq) {
+        try {
+            List<RegistrationSubscriberDTO> subscribers = registrationMapper.selectSubscribers(leaderTaskId);
+            if (subscribers.isEmpty()) return;
+
+            if (contentSeq == null) {
+                contentSeq = registrationMapper.selectContentSeqByTaskId(leaderTaskId);
+            }
+
+            for (RegistrationSubscriberDTO subscriber : subscribers) {
+                if (subscriber.getUserContentSeq() == null && contentSeq != null) {
+                    Long userContentSeq = createUserContent(subscriber.getUuid(), contentSeq);
+                    if (userContentSeq != null) {
+                        registrationMapper.updateSubscriberUserContentSeq(subscriber.getSubscriberSeq(), userContentSeq);
+                        subscriber.setUserContentSeq(userContentSeq);
+                    }
+                }
+                if (sseEmitterRepository.follow(leaderTaskId, subscriber.getTaskId())) {
+                    log.info("🔗 등록 작업 합류: leader={}, taskId={}, userContentSeq={}",
+                            leaderTaskId, subscriber.getTaskId(), subscriber.getUserContentSeq());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 구독 요청 연결 실패: taskId={}, error={}", leaderTaskId, e.getMessage());
+        }
+    }
+
+    private Long createUserContent(String uuid, Long contentSeq) {
+        Long userSeq = userMapper.selectUserSeqByUuid(uuid);
+        if (userSeq == null) {
+            log.warn("⚠️ 구독 요청 사용자를 찾을 수 없음: uuid={}", uuid);
+            return null;
+        }
+
+        UserContentDTO userContent = new UserContentDTO();
+        userContent.setUserSeq(userSeq);
+        userContent.setContentSeq(contentSeq);
+        userContent.setLastAccessedAt(TimeUtil.getCurrentTimestamp14());
+        userContent.setIndate(TimeUtil.getCurrentTimestamp14());
+        userContentMapper.insertUserContent(userContent);
+        return userContent.getUserContentSeq();
+    }
+}
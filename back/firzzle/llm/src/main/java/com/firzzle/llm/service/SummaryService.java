@@ -47,4 +47,41 @@ public class SummaryService {
             throw new RuntimeException("요약 및 섹션 저장 중 오류 발생", e);
         }
     }
+
+    /**
+     * 요약(레벨) 정보만 먼저 저장하고 summarySeq를 반환합니다.
+     * 섹션은 대주제 요약이 끝날 때마다 saveSections로 추가 저장합니다.
+     */
+    @Transactional
+    public long createSummary(long contentSeq, String level, String indate) {
+        SummaryDTO summary = new SummaryDTO();
+        summary.setContentSeq(contentSeq);
+        summary.setLevel(level);
+        summary.setIndate(indate);
+        summaryMapper.insertSummary(summary);
+        logger.info("📥 요약 생성 완료: contentSeq={}, level={}, summarySeq={}", contentSeq, level, summary.getSummarySeq());
+        return summary.getSummarySeq();
+    }
+
+    /**
+     * 이미 생성된 요약에 섹션을 추가 저장합니다.
+     */
+    @Transactional
+    public void saveSections(long summarySeq, List<SectionDTO> sections) {
+        if (sections == null || sections.isEmpty()) return;
+        for (SectionDTO section : sections) {
+            section.setSummarySeq(summarySeq);
+        }
+        summaryMapper.insertSections(sections);
+        logger.info("✅ 섹션 {}개 추가 저장 완료 (summarySeq={})", sections.size(), summarySeq);
+    }
+
+    /**
+     * 콘텐츠의 요약과 섹션을 삭제합니다. (재처리 전 부분 결과 정리)
+     */
+    @Transactional
+    public void deleteByContentSeq(long contentSeq) {
+        summaryMapper.deleteSectionsByContentSeq(contentSeq);
+        summaryMapper.deleteSummariesByContentSeq(contentSeq);
+    }
 }
@@ -3,18 +3,30 @@ package com.firzzle.llm.sse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.firzzle.llm.kafka.producer.SseEventProducer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SSE 이미터 저장소
+ * - 하트비트는 연결마다 스레드를 만들지 않고, 하나의 스케줄러가 주기마다 전체 연결을 순회하며 전송합니다.
+ * - 클러스터 모드에서는 이벤트를 Kafka로 한 번 발행하고, 클라이언트가 연결된 인스턴스가 전달합니다.
+ * - 모든 이벤트는 재전송 버퍼에 보관되어 재연결 시 Last-Event-ID 이후 이벤트를 다시 보냅니다.
+ * - 이벤트 id는 taskId 단위로 계속 증가합니다. 다른 인스턴스가 이어서 발행하거나(재시도) 종료 후 다시 발행해도
+ *   재전송 버퍼의 마지막 id와 재시도 메시지에 담긴 마지막 id 이후부터 부여합니다.
+ * - 같은 영상을 동시에 등록한 요청은 대표 작업(taskId)의 이벤트를 구독 작업 taskId로도 복제해 발행합니다.
  */
 @Component
 public class SseEmitterRepository {
@@ -29,79 +41,134 @@ public class SseEmitterRepository {
     @Value("${app.sse.heartbeat-interval:30000}")
     private long heartbeatInterval;
 
+    @Value("${app.sse.cluster.enabled:true}")
+    private boolean clusterEnabled;
+
+    // taskId별 이벤트 id 시퀀스 (이벤트를 발행하는 인스턴스에서 관리, 재전송 버퍼/재시도 메시지의 마지막 id보다 항상 큼)
+    private final Map<String, AtomicLong> eventSequences = new ConcurrentHashMap<>();
+
+    // taskId별 마지막으로 전달한 이벤트 id (재전송과 실시간 전달의 중복 방지)
+    private final Map<String, Long> lastDeliveredIds = new ConcurrentHashMap<>();
+
+    // 대표 taskId -> 진행 이벤트를 함께 받는 구독 taskId 목록 (이벤트를 발행하는 인스턴스에서 관리)
+    private final Map<String, Set<String>> followers = new ConcurrentHashMap<>();
+
+    private final SseEventProducer sseEventProducer;
+    private final SseReplayBuffer replayBuffer;
+
+    // 마지막 하트비트 순회 완료 시각
+    private volatile long lastHeartbeatAt = System.currentTimeMillis();
+
+    public SseEmitterRepository(MeterRegistry meterRegistry, SseEventProducer sseEventProducer,
+                                SseReplayBuffer replayBuffer) {
+        this.sseEventProducer = sseEventProducer;
+        this.replayBuffer = replayBuffer;
+        Gauge.builder("llm.sse.emitters.active", EMITTERS, Map::size).register(meterRegistry);
+        Gauge.builder("llm.sse.heartbeat.lag", this, SseEmitterRepository::getHeartbeatLag)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
     /**
      * 새 SSE 이미터 생성 및 등록
      */
     public SseEmitter create(String taskId) {
+        return create(taskId, null);
+    }
+
+    /**
+     * 새 SSE 이미터 생성 및 등록 후, lastEventId 이후의 보관된 이벤트를 재전송합니다.
+     * (lastEventId가 없으면 보관 중인 전체 이벤트를 재전송)
+     */
+    public SseEmitter create(String taskId, Long lastEventId) {
         // 이전 연결이 있으면 제거
         remove(taskId);
 
         // 새 이미터 생성
         SseEmitter emitter = new SseEmitter(timeout);
 
-        // 자동 제거를 위한 콜백 등록
+        // 자동 제거를 위한 콜백 등록 (재연결로 교체된 새 이미터는 제거하지 않도록 자기 자신만 제거)
         emitter.onCompletion(() -> {
             logger.debug("SSE 연결 완료: taskId={}", taskId);
-            remove(taskId);
+            if (EMITTERS.remove(taskId, emitter)) {
+                lastDeliveredIds.remove(taskId);
+            }
         });
 
         emitter.onTimeout(() -> {
             logger.debug("SSE 연결 타임아웃: taskId={}", taskId);
-            remove(taskId);
+            remove(taskId, emitter);
         });
 
         emitter.onError(e -> {
             logger.error("SSE 연결 오류: taskId={}, error={}", taskId, e.getMessage());
-            remove(taskId);
+            remove(taskId, emitter);
         });
 
-        // 맵에 등록
-        EMITTERS.put(taskId, emitter);
-        logger.info("SSE 이미터 등록: taskId={}, 현재 활성 연결 수: {}", taskId, EMITTERS.size());
+        // 연결 유지를 위한 초기 이벤트 전송 및 재전송 (등록과 재전송 사이에 도착한 실시간 이벤트는 id로 중복 제거)
+        synchronized (emitter) {
+            lastDeliveredIds.put(taskId, lastEventId != null ? lastEventId : 0L);
+            EMITTERS.put(taskId, emitter);
+            logger.info("SSE 이미터 등록: taskId={}, 현재 활성 연결 수: {}", taskId, EMITTERS.size());
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("connect")
+                        .data(Map.of(
+                                "message", "요약 작업 스트림에 연결되었습니다.",
+                                "taskId", taskId,
+                                "timestamp", System.currentTimeMillis()
+                        )));
 
-        // 하트비트 설정
-        scheduleHeartbeat(taskId, emitter);
+                logger.debug("SSE 초기 이벤트 전송 성공: taskId={}", taskId);
+            } catch (IOException e) {
+                logger.error("초기 이벤트 전송 실패: taskId={}, error={}", taskId, e.getMessage());
+                remove(taskId, emitter);
+                return emitter;
+            }
 
-        // 연결 유지를 위한 초기 이벤트 전송
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data(Map.of(
-                            "message", "요약 작업 스트림에 연결되었습니다.",
-                            "taskId", taskId,
-                            "timestamp", System.currentTimeMillis()
-                    )));
-
-            logger.debug("SSE 초기 이벤트 전송 성공: taskId={}", taskId);
-        } catch (IOException e) {
-            logger.error("초기 이벤트 전송 실패: taskId={}, error={}", taskId, e.getMessage());
-            remove(taskId);
+            List<SseEvent> missed = replayBuffer.eventsAfter(taskId, lastEventId);
+            if (!missed.isEmpty()) {
+                logger.info("SSE 이벤트 재전송: taskId={}, lastEventId={}, 재전송 수={}", taskId, lastEventId, missed.size());
+            }
+            for (SseEvent event : missed) {
+                sendToEmitter(emitter, event);
+            }
         }
 
         return emitter;
     }
 
     /**
-     * 하트비트 스케줄링
+     * 하트비트 전송
+     * 하나의 스케줄러 스레드가 주기마다 모든 활성 연결을 순회하며, 전송에 실패한 연결은 정리합니다.
      */
-    private void scheduleHeartbeat(String taskId, SseEmitter emitter) {
-        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-        executor.scheduleAtFixedRate(() -> {
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval:30000}", initialDelayString = "${app.sse.heartbeat-interval:30000}")
+    public void sendHeartbeats() {
+        int failed = 0;
+        for (Map.Entry<String, SseEmitter> entry : EMITTERS.entrySet()) {
+            SseEmitter emitter = entry.getValue();
             try {
-                if (EMITTERS.containsKey(taskId)) {
+                // 브로드캐스트 컨슈머의 이벤트 전송과 섞이지 않도록 같은 락 사용
+                synchronized (emitter) {
                     emitter.send(SseEmitter.event()
                             .name("heartbeat")
                             .data(""));
-                    logger.trace("하트비트 전송: taskId={}", taskId);
-                } else {
-                    executor.shutdown();
                 }
-            } catch (IOException e) {
-                logger.error("하트비트 전송 실패: taskId={}, error={}", taskId, e.getMessage());
-                EMITTERS.remove(taskId);
-                executor.shutdown();
+            } catch (Exception e) {
+                logger.error("하트비트 전송 실패: taskId={}, error={}", entry.getKey(), e.getMessage());
+                remove(entry.getKey(), emitter);
+                failed++;
             }
-        }, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS);
+        }
+        lastHeartbeatAt = System.currentTimeMillis();
+        logger.trace("하트비트 전송 완료: 활성 연결 수={}, 실패={}", EMITTERS.size(), failed);
+    }
+
+    /**
+     * 하트비트 지연 (마지막 순회 완료 후 경과 시간 - 하트비트 주기, 밀리초)
+     */
+    private double getHeartbeatLag() {
+        return Math.max(0, System.currentTimeMillis() - lastHeartbeatAt - heartbeatInterval);
     }
 
     /**
@@ -110,6 +177,18 @@ public class SseEmitterRepository {
     public void remove(String taskId) {
         SseEmitter emitter = EMITTERS.remove(taskId);
         if (emitter != null) {
+            lastDeliveredIds.remove(taskId);
+            emitter.complete();
+            logger.debug("SSE 이미터 제거됨: taskId={}, 남은 연결 수: {}", taskId, EMITTERS.size());
+        }
+    }
+
+    /**
+     * 특정 taskId에 등록된 이미터가 주어진 이미터일 때만 제거
+     */
+    private void remove(String taskId, SseEmitter emitter) {
+        if (EMITTERS.remove(taskId, emitter)) {
+            lastDeliveredIds.remove(taskId);
             emitter.complete();
             logger.debug("SSE 이미터 제거됨: taskId={}, 남은 연결 수: {}", taskId, EMITTERS.size());
         }
@@ -117,60 +196,173 @@ public class SseEmitterRepository {
 
     /**
      * 특정 taskId에 이벤트 전송
+     * 클러스터 모드에서는 Kafka로 발행하고, 클라이언트가 연결된 인스턴스가 전달합니다.
      */
     public void sendToClient(String taskId, String eventName, Object data) {
-        SseEmitter emitter = EMITTERS.get(taskId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
-                logger.debug("이벤트 전송 성공: taskId={}, event={}", taskId, eventName);
-            } catch (IOException e) {
-                logger.error("이벤트 전송 실패: taskId={}, event={}, error={}",
-                        taskId, eventName, e.getMessage());
-                remove(taskId);
-            }
-        } else {
-            logger.warn("이벤트 전송 대상 없음: taskId={}, event={}", taskId, eventName);
-        }
+        publish(taskId, eventName, data, SseEvent.TYPE_EVENT);
     }
 
     /**
      * 특정 taskId의 연결 완료
      */
     public void complete(String taskId) {
-        sendToClient(taskId, "complete", Map.of(
+        publish(taskId, "complete", Map.of(
                 "message", "요약 작업이 완료되었습니다.",
                 "timestamp", System.currentTimeMillis()
-        ));
-        remove(taskId);
+        ), SseEvent.TYPE_COMPLETE);
     }
 
     /**
      * 특정 taskId에 오류 이벤트 전송 후 연결 종료
      */
     public void completeWithError(String taskId, String errorMessage) {
-        SseEmitter emitter = EMITTERS.get(taskId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("error")
-                        .data(Map.of(
-                                "message", errorMessage,
-                                "timestamp", System.currentTimeMillis()
-                        )));
+        publish(taskId, "error", Map.of(
+                "message", errorMessage,
+                "timestamp", System.currentTimeMillis()
+        ), SseEvent.TYPE_ERROR);
+    }
 
-                emitter.completeWithError(new RuntimeException(errorMessage));
-                logger.error("오류와 함께 SSE 연결 종료: taskId={}, error={}", taskId, errorMessage);
-            } catch (IOException e) {
-                logger.error("오류 이벤트 전송 실패: taskId={}, error={}", taskId, e.getMessage());
-            } finally {
-                remove(taskId);
+    /**
+     * 대표 작업의 진행 이벤트를 구독 작업에도 전달하도록 등록합니다.
+     * 새로 등록된 구독 작업에는 지금까지 보관된 대표 작업의 이벤트를 먼저 복제해 보냅니다.
+     *
+     * @return 새로 등록되었으면 true
+     */
+    public boolean follow(String leaderTaskId, String followerTaskId) {
+        if (leaderTaskId.equals(followerTaskId)) return false;
+        if (!followers.computeIfAbsent(leaderTaskId, k -> ConcurrentHashMap.newKeySet()).add(followerTaskId)) {
+            return false;
+        }
+        for (SseEvent event : replayBuffer.eventsAfter(leaderTaskId, null)) {
+            publishSingle(followerTaskId, event.getName(), event.getData(), event.getType());
+        }
+        logger.info("SSE 구독 작업 등록: leader={}, follower={}", leaderTaskId, followerTaskId);
+        return true;
+    }
+
+    /**
+     * 대표 작업의 구독 작업 목록을 해제합니다. (종료 이벤트 발행 후 호출)
+     */
+    public void unfollow(String leaderTaskId) {
+        followers.remove(leaderTaskId);
+    }
+
+    /**
+     * taskId에 발행된 마지막 이벤트 id (이 인스턴스 발행분과 Kafka로 수신한 다른 인스턴스 발행분 중 큰 값)
+     * 재시도 메시지에 담아 다음 시도를 처리하는 인스턴스가 이어서 id를 부여하도록 합니다.
+     */
+    public long lastEventId(String taskId) {
+        AtomicLong sequence = eventSequences.get(taskId);
+        return Math.max(sequence != null ? sequence.get() : 0L, replayBuffer.lastEventId(taskId));
+    }
+
+    /**
+     * 이전 시도에서 발행된 마지막 이벤트 id 이후부터 id를 부여하도록 시퀀스를 올립니다.
+     */
+    public void seedEventId(String taskId, long lastEventId) {
+        if (lastEventId <= 0) return;
+        eventSequences.computeIfAbsent(taskId, k -> new AtomicLong()).accumulateAndGet(lastEventId, Math::max);
+    }
+
+    /**
+     * 다음 이벤트 id (재전송 버퍼에 있는 다른 인스턴스 발행분보다 항상 큼)
+     */
+    private long nextEventId(String taskId) {
+        long buffered = replayBuffer.lastEventId(taskId);
+        return eventSequences.computeIfAbsent(taskId, k -> new AtomicLong())
+                .updateAndGet(current -> Math.max(current, buffered) + 1);
+    }
+
+    /**
+     * 이벤트를 발행하고, 구독 작업이 있으면 같은 이벤트를 구독 taskId로도 발행합니다.
+     */
+    private void publish(String taskId, String eventName, Object data, String type) {
+        publishSingle(taskId, eventName, data, type);
+        Set<String> taskFollowers = followers.get(taskId);
+        if (taskFollowers != null) {
+            for (String follower : taskFollowers) {
+                publishSingle(follower, eventName, data, type);
             }
         }
     }
 
+    /**
+     * 이벤트 id를 부여하고 발행합니다. (클러스터 모드: Kafka, 단일 모드: 직접 전달)
+     */
+    private void publishSingle(String taskId, String eventName, Object data, String type) {
+        SseEvent event = SseEvent.builder()
+                .taskId(taskId)
+                .id(nextEventId(taskId))
+                .name(eventName)
+                .data(data)
+                .type(type)
+                .build();
+        if (event.isTerminal()) {
+            eventSequences.remove(taskId);
+        }
+
+        if (clusterEnabled) {
+            try {
+                sseEventProducer.send(event);
+                return;
+            } catch (Exception e) {
+                logger.error("SSE 이벤트 발행 실패, 로컬 전달로 대체: taskId={}, event={}, error={}", taskId, eventName, e.getMessage());
+            }
+        }
+        deliver(event);
+    }
+
+    /**
+     * 발행된 이벤트를 재전송 버퍼에 보관하고, 이 인스턴스에 연결된 클라이언트가 있으면 전달합니다.
+     */
+    public void deliver(SseEvent event) {
+        String taskId = event.getTaskId();
+        replayBuffer.append(event);
+
+        SseEmitter emitter = EMITTERS.get(taskId);
+        if (emitter == null) {
+            logger.debug("이 인스턴스에 연결된 SSE 클라이언트 없음: taskId={}, event={}", taskId, event.getName());
+            return;
+        }
+        synchronized (emitter) {
+            sendToEmitter(emitter, event);
+        }
+    }
+
+    /**
+     * 이미터에 이벤트를 전송합니다. 이미 전달한 id는 건너뛰며, 종료 이벤트면 연결을 닫습니다.
+     * (호출 측에서 emitter 단위로 동기화)
+     */
+    private void sendToEmitter(SseEmitter emitter, SseEvent event) {
+        String taskId = event.getTaskId();
+        Long lastDelivered = lastDeliveredIds.get(taskId);
+        if (lastDelivered != null && event.getId() <= lastDelivered) {
+            return;
+        }
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name(event.getName())
+                    .data(event.getData()));
+            lastDeliveredIds.put(taskId, event.getId());
+            logger.debug("이벤트 전송 성공: taskId={}, id={}, event={}", taskId, event.getId(), event.getName());
+        } catch (IOException e) {
+            logger.error("이벤트 전송 실패: taskId={}, event={}, error={}", taskId, event.getName(), e.getMessage());
+            remove(taskId, emitter);
+            return;
+        }
+
+        if (SseEvent.TYPE_ERROR.equals(event.getType())) {
+            EMITTERS.remove(taskId, emitter);
+            lastDeliveredIds.remove(taskId);
+            emitter.completeWithError(new RuntimeException(String.valueOf(event.getData())));
+            logger.error("오류와 함께 SSE 연결 종료: taskId={}", taskId);
+        } else if (SseEvent.TYPE_COMPLETE.equals(event.getType())) {
+            remove(taskId, emitter);
+        }
+    }
+
     /**
      * 특정 taskId의 연결 존재 여부 확인
      */
@@ -0,0 +1,38 @@
+package com.firzzle.llm.sse;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스 간에 전달되는 SSE 이벤트
+ * - id는 taskId 단위로 증가하며 SSE id 필드(Last-Event-ID 재전송 기준)로 사용됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseEvent {
+
+    // 일반 이벤트 / 완료 후 연결 종료 / 오류 후 연결 종료
+    public static final String TYPE_EVENT = "EVENT";
+    public static final String TYPE_COMPLETE = "COMPLETE";
+    public static final String TYPE_ERROR = "ERROR";
+    // 콘텐츠 캐시 무효화 전파 (taskId 없음, data = contentSeq)
+    public static final String TYPE_CACHE_EVICT = "CACHE_EVICT";
+
+    private String taskId;
+    private long id;
+    private String name;
+    private Object data;
+    private String type;
+
+    // Kafka로 전달되는 JSON에 포함하지 않음 (type으로 판단)
+    @JsonIgnore
+    public boolean isTerminal() {
+        return TYPE_COMPLETE.equals(type) || TYPE_ERROR.equals(type);
+    }
+}
@@ -0,0 +1,94 @@
+package com.firzzle.llm.sse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * taskId별 최근 SSE 이벤트 재전송 버퍼
+ * - 재연결한 클라이언트에게 Last-Event-ID 이후의 이벤트를 다시 보내기 위해 짧은 기간 보관합니다.
+ */
+@Component
+public class SseReplayBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(SseReplayBuffer.class);
+
+    private final Map<String, TaskEvents> buffers = new ConcurrentHashMap<>();
+
+    @Value("${app.sse.replay.max-events:200}")
+    private int maxEvents;
+
+    @Value("${app.sse.replay.ttl:600000}")
+    private long ttl;
+
+    /**
+     * 이벤트를 버퍼에 추가합니다. (최대 개수를 넘으면 오래된 이벤트부터 제거)
+     */
+    public void append(SseEvent event) {
+        TaskEvents taskEvents = buffers.computeIfAbsent(event.getTaskId(), k -> new TaskEvents());
+        synchronized (taskEvents) {
+            taskEvents.events.addLast(event);
+            while (taskEvents.events.size() > maxEvents) {
+                taskEvents.events.removeFirst();
+            }
+            taskEvents.lastUpdatedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * lastEventId 이후의 이벤트를 순서대로 반환합니다. (lastEventId가 없으면 보관 중인 전체 이벤트)
+     */
+    public List<SseEvent> eventsAfter(String taskId, Long lastEventId) {
+        TaskEvents taskEvents = buffers.get(taskId);
+        if (taskEvents == null) return List.of();
+
+        List<SseEvent> result = new ArrayList<>();
+        synchronized (taskEvents) {
+            for (SseEvent event : taskEvents.events) {
+                if (lastEventId == null || event.getId() > lastEventId) {
+                    result.add(event);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 보관 중인 마지막 이벤트 id (없으면 0)
+     */
+    public long lastEventId(String taskId) {
+        TaskEvents taskEvents = buffers.get(taskId);
+        if (taskEvents == null) return 0L;
+        synchronized (taskEvents) {
+            SseEvent last = taskEvents.events.peekLast();
+            return last != null ? last.getId() : 0L;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 taskId의 이벤트를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.sse.replay.sweep-interval:60000}")
+    public void evictExpired() {
+        long expiredBefore = System.currentTimeMillis() - ttl;
+        int before = buffers.size();
+        buffers.entrySet().removeIf(entry -> entry.getValue().lastUpdatedAt < expiredBefore);
+        int evicted = before - buffers.size();
+        if (evicted > 0) {
+            logger.debug("SSE 재전송 버퍼 정리: {}개 task 제거, 남은 task 수: {}", evicted, buffers.size());
+        }
+    }
+
+    private static class TaskEvents {
+        private final Deque<SseEvent> events = new ArrayDeque<>();
+        private volatile long lastUpdatedAt = System.currentTimeMillis();
+    }
+}
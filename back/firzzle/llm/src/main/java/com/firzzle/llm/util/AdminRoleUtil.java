@@ -0,0 +1,16 @@
+package com.firzzle.llm.util;
+
+import com.firzzle.common.exception.BusinessException;
+import com.firzzle.common.exception.ErrorCode;
+
+public class AdminRoleUtil {
+
+    private static final String ADMIN_ROLE = "admin";
+
+    // 게이트웨이가 전달한 X-User-Role 헤더가 관리자가 아니면 접근 거부
+    public static void requireAdmin(String role) {
+        if (role == null || !ADMIN_ROLE.equalsIgnoreCase(role.trim())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "관리자 권한이 필요합니다.");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.firzzle.llm.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 콘텐츠 하나의 스크립트 구간(문서)에 대한 BM25 키워드 색인
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 동시에 검색해도 안전
+ * - 토큰화는 {@link KoreanNgramTokenizer}를 사용
+ */
+public class Bm25Index {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final String id;
+        private final String content;
+        private final double score;
+    }
+
+    private final String[] ids;
+    private final String[] contents;
+    private final int[] docLengths;
+    private final double avgDocLength;
+    // 토큰 -> (문서 번호, 등장 횟수) 목록
+    private final Map<String, int[][]> postings;
+
+    private Bm25Index(String[] ids, String[] contents, int[] docLengths, double avgDocLength, Map<String, int[][]> postings) {
+        this.ids = ids;
+        this.contents = contents;
+        this.docLengths = docLengths;
+        this.avgDocLength = avgDocLength;
+        this.postings = postings;
+    }
+
+    /**
+     * @param documents 문서 ID -> 본문
+     */
+    public static Bm25Index build(Map<String, String> documents) {
+        int size = documents.size();
+        String[] ids = new String[size];
+        String[] contents = new String[size];
+        int[] docLengths = new int[size];
+        Map<String, Map<Integer, Integer>> counts = new HashMap<>();
+        long totalLength = 0;
+
+        int doc = 0;
+        for (Map.Entry<String, String> entry : documents.entrySet()) {
+            ids[doc] = entry.getKey();
+            contents[doc] = entry.getValue();
+            List<String> tokens = KoreanNgramTokenizer.tokenize(entry.getValue());
+            docLengths[doc] = tokens.size();
+            totalLength += tokens.size();
+            for (String token : tokens) {
+                counts.computeIfAbsent(token, k -> new HashMap<>()).merge(doc, 1, Integer::sum);
+            }
+            doc++;
+        }
+
+        Map<String, int[][]> postings = new HashMap<>(counts.size() * 2);
+        counts.forEach((token, tf) -> {
+            int[][] list = new int[tf.size()][];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> e : tf.entrySet()) {
+                list[i++] = new int[] { e.getKey(), e.getValue() };
+            }
+            postings.put(token, list);
+        });
+
+        double avg = size == 0 ? 0 : (double) totalLength / size;
+        return new Bm25Index(ids, contents, docLengths, avg, postings);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 질문과 키워드가 겹치는 문서를 BM25 점수 내림차순으로 반환합니다. (점수 0인 문서 제외)
+     */
+    public List<Hit> search(String query, int limit) {
+        List<Hit> hits = new ArrayList<>();
+        if (ids.length == 0 || limit <= 0) return hits;
+
+        double[] scores = new double[ids.length];
+        boolean matched = false;
+        for (String token : new LinkedHashSet<>(KoreanNgramTokenizer.tokenize(query))) {
+            int[][] list = postings.get(token);
+            if (list == null) continue;
+
+            double idf = Math.log(1 + (ids.length - list.length + 0.5) / (list.length + 0.5));
+            for (int[] posting : list) {
+                int doc = posting[0];
+                int tf = posting[1];
+                double norm = K1 * (1 - B + B * docLengths[doc] / avgDocLength);
+                scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+            matched = true;
+        }
+        if (!matched) return hits;
+
+        PriorityQueue<Integer> top = new PriorityQueue<>((a, b) -> Double.compare(scores[a], scores[b]));
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] <= 0) continue;
+            top.offer(doc);
+            if (top.size() > limit) top.poll();
+        }
+        while (!top.isEmpty()) {
+            int doc = top.poll();
+            hits.add(0, new Hit(ids[doc], contents[doc], scores[doc]));
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,419 @@
+package com.firzzle.llm.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 코사인 유사도 기반 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 색인
+ * - 벡터는 정규화하여 저장하고 내적으로 유사도를 계산 (Qdrant Cosine 거리와 같은 점수)
+ * - 같은 키로 다시 추가하면 이전 노드는 삭제 표시 후 새 노드로 교체
+ * - 삭제는 표시만 하고 그래프 탐색 경로로는 계속 사용하며, 삭제된 노드가 살아있는 노드보다 많아지면 재구성
+ * - 검색은 읽기 락, 추가/삭제는 쓰기 락으로 보호
+ */
+public class HnswIndex {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Object key;
+        private final double score;
+    }
+
+    private static class Node {
+        private final Object key;
+        private final float[] vector;
+        private final int[][] links;
+        private final int[] linkCounts;
+        private boolean deleted;
+
+        Node(Object key, float[] vector, int level, int m) {
+            this.key = key;
+            this.vector = vector;
+            this.links = new int[level + 1][];
+            this.linkCounts = new int[level + 1];
+            for (int lc = 0; lc <= level; lc++) {
+                links[lc] = new int[(lc == 0 ? m * 2 : m) + 1];
+            }
+        }
+
+        int level() {
+            return links.length - 1;
+        }
+    }
+
+    private static class Scored {
+        private final int node;
+        private final float score;
+
+        Scored(int node, float score) {
+            this.node = node;
+            this.score = score;
+        }
+    }
+
+    private static final Comparator<Scored> BY_SCORE = Comparator.comparingDouble(s -> s.score);
+
+    private final int m;
+    private final int efConstruction;
+    private final double levelMultiplier;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Object, Integer> nodeByKey = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int dimension = -1;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount = 0;
+
+    /**
+     * @param m              노드당 연결 수 (0층은 2배)
+     * @param efConstruction 추가 시 탐색할 후보 수
+     */
+    public HnswIndex(int m, int efConstruction) {
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터를 추가합니다. 같은 키가 있으면 교체합니다.
+     */
+    public void add(Object key, float[] vector) {
+        float[] normalized = normalize(vector);
+
+        lock.writeLock().lock();
+        try {
+            if (dimension == -1) {
+                dimension = normalized.length;
+            } else if (dimension != normalized.length) {
+                throw new IllegalArgumentException("벡터 차원 불일치: " + normalized.length + " != " + dimension);
+            }
+
+            markDeleted(key);
+            insert(key, normalized);
+
+            if (deletedCount > nodeByKey.size()) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키에 해당하는 벡터를 삭제합니다.
+     */
+    public boolean remove(Object key) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = markDeleted(key);
+            if (removed && deletedCount > nodeByKey.size()) {
+                rebuild();
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 (정규화된) 벡터의 복사본을 반환합니다.
+     */
+    public float[] vector(Object key) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByKey.get(key);
+            return node == null ? null : nodes.get(node).vector.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 근사 최근접 이웃 검색
+     *
+     * @param query  검색 벡터
+     * @param limit  반환할 최대 결과 수
+     * @param ef     0층 탐색 후보 수 (클수록 정확하고 느림, limit보다 작으면 limit 사용)
+     * @param accept 결과에 포함할 키 조건 (null이면 전체)
+     * @return 유사도 내림차순 결과
+     */
+    public List<Hit> search(float[] query, int limit, int ef, Predicate<Object> accept) {
+        float[] q = normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == -1 || limit <= 0) return new ArrayList<>();
+            checkDimension(q);
+
+            int ep = entryPoint;
+            for (int lc = maxLevel; lc > 0; lc--) {
+                ep = greedyClosest(q, ep, lc);
+            }
+
+            List<Scored> found = searchLayer(q, List.of(new Scored(ep, dot(q, nodes.get(ep).vector))),
+                    Math.max(ef, limit), 0, node -> {
+                        Node n = nodes.get(node);
+                        return !n.deleted && (accept == null || accept.test(n.key));
+                    });
+
+            List<Hit> hits = new ArrayList<>(Math.min(limit, found.size()));
+            for (int i = 0; i < found.size() && i < limit; i++) {
+                Scored s = found.get(i);
+                hits.add(new Hit(nodes.get(s.node).key, s.score));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 키들만 대상으로 전수 비교하는 정확한 검색 (필터 결과가 적을 때 사용)
+     */
+    public List<Hit> exactSearch(float[] query, int limit, Collection<?> keys) {
+        float[] q = normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (limit <= 0 || keys.isEmpty() || dimension == -1) return new ArrayList<>();
+            checkDimension(q);
+
+            PriorityQueue<Scored> top = new PriorityQueue<>(BY_SCORE);
+            for (Object key : keys) {
+                Integer node = nodeByKey.get(key);
+                if (node == null) continue;
+                top.offer(new Scored(node, dot(q, nodes.get(node).vector)));
+                if (top.size() > limit) top.poll();
+            }
+            return toHits(top);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 벡터를 전수 비교하는 정확한 검색 (근사 검색 정확도 확인용)
+     */
+    public List<Hit> bruteForceSearch(float[] query, int limit, Predicate<Object> accept) {
+        lock.readLock().lock();
+        try {
+            List<Object> keys = new ArrayList<>();
+            for (Object key : nodeByKey.keySet()) {
+                if (accept == null || accept.test(key)) keys.add(key);
+            }
+            return exactSearch(query, limit, keys);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Object key, float[] vector) {
+        int level = (int) Math.floor(-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * levelMultiplier);
+        int id = nodes.size();
+        Node node = new Node(key, vector, level, m);
+        nodes.add(node);
+        nodeByKey.put(key, id);
+
+        if (entryPoint == -1) {
+            entryPoint = id;
+            maxLevel = level;
+            return;
+        }
+
+        int ep = entryPoint;
+        for (int lc = maxLevel; lc > level; lc--) {
+            ep = greedyClosest(vector, ep, lc);
+        }
+
+        List<Scored> entries = List.of(new Scored(ep, dot(vector, nodes.get(ep).vector)));
+        for (int lc = Math.min(level, maxLevel); lc >= 0; lc--) {
+            List<Scored> candidates = searchLayer(vector, entries, efConstruction, lc, null);
+            int maxLinks = lc == 0 ? m * 2 : m;
+
+            for (int i = 0; i < candidates.size() && i < m; i++) {
+                int neighbor = candidates.get(i).node;
+                addLink(node, lc, neighbor, maxLinks);
+                addLink(nodes.get(neighbor), lc, id, maxLinks);
+            }
+            entries = candidates;
+        }
+
+        if (level > maxLevel) {
+            entryPoint = id;
+            maxLevel = level;
+        }
+    }
+
+    /**
+     * 연결을 추가하고, 최대 연결 수를 넘으면 유사도가 가장 낮은 연결을 제거합니다.
+     */
+    private void addLink(Node from, int layer, int to, int maxLinks) {
+        int[] links = from.links[layer];
+        int count = from.linkCounts[layer];
+        links[count++] = to;
+
+        if (count > maxLinks) {
+            int worst = 0;
+            float worstScore = Float.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                float score = dot(from.vector, nodes.get(links[i]).vector);
+                if (score < worstScore) {
+                    worstScore = score;
+                    worst = i;
+                }
+            }
+            links[worst] = links[--count];
+        }
+        from.linkCounts[layer] = count;
+    }
+
+    /**
+     * 상위 층에서 가장 가까운 노드를 탐욕적으로 찾습니다.
+     */
+    private int greedyClosest(float[] q, int start, int layer) {
+        int current = start;
+        float currentScore = dot(q, nodes.get(current).vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node node = nodes.get(current);
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                float score = dot(q, nodes.get(neighbor).vector);
+                if (score > currentScore) {
+                    current = neighbor;
+                    currentScore = score;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층에서 ef개의 후보를 유지하며 탐색합니다.
+     * 삭제되었거나 조건에 맞지 않는 노드도 탐색 경로로는 사용하고, 결과에는 accept를 통과한 노드만 담습니다.
+     *
+     * @return 유사도 내림차순 결과
+     */
+    private List<Scored> searchLayer(float[] q, List<Scored> entries, int ef, int layer, IntPredicate accept) {
+        boolean[] visited = new boolean[nodes.size()];
+        PriorityQueue<Scored> candidates = new PriorityQueue<>(BY_SCORE.reversed());
+        PriorityQueue<Scored> results = new PriorityQueue<>(BY_SCORE);
+
+        for (Scored entry : entries) {
+            visited[entry.node] = true;
+            candidates.offer(entry);
+            if (accept == null || accept.test(entry.node)) results.offer(entry);
+        }
+        while (results.size() > ef) results.poll();
+
+        while (!candidates.isEmpty()) {
+            Scored current = candidates.poll();
+            if (results.size() >= ef && current.score < results.peek().score) break;
+
+            Node node = nodes.get(current.node);
+            if (node.level() < layer) continue;
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                if (visited[neighbor]) continue;
+                visited[neighbor] = true;
+
+                float score = dot(q, nodes.get(neighbor).vector);
+                if (results.size() < ef || score > results.peek().score) {
+                    Scored scored = new Scored(neighbor, score);
+                    candidates.offer(scored);
+                    if (accept == null || accept.test(neighbor)) {
+                        results.offer(scored);
+                        if (results.size() > ef) results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Scored> sorted = new ArrayList<>(results);
+        sorted.sort(BY_SCORE.reversed());
+        return sorted;
+    }
+
+    private boolean markDeleted(Object key) {
+        Integer old = nodeByKey.remove(key);
+        if (old == null) return false;
+        nodes.get(old).deleted = true;
+        deletedCount++;
+        return true;
+    }
+
+    /**
+     * 삭제 표시된 노드를 제외하고 그래프를 다시 만듭니다.
+     */
+    private void rebuild() {
+        List<Node> alive = new ArrayList<>();
+        for (Node node : nodes) {
+            if (!node.deleted) alive.add(node);
+        }
+        nodes.clear();
+        nodeByKey.clear();
+        entryPoint = -1;
+        maxLevel = -1;
+        deletedCount = 0;
+        for (Node node : alive) {
+            insert(node.key, node.vector);
+        }
+    }
+
+    private List<Hit> toHits(PriorityQueue<Scored> top) {
+        Hit[] hits = new Hit[top.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            Scored s = top.poll();
+            hits[i] = new Hit(nodes.get(s.node).key, s.score);
+        }
+        return new ArrayList<>(Arrays.asList(hits));
+    }
+
+    private void checkDimension(float[] q) {
+        if (q.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원 불일치: " + q.length + " != " + dimension);
+        }
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) norm += v * v;
+        float[] normalized = new float[vector.length];
+        if (norm == 0) return normalized;
+        float inv = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) normalized[i] = vector[i] * inv;
+        return normalized;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+}
@@ -0,0 +1,37 @@
+package com.firzzle.llm.util;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+public class KafkaHeaderUtil {
+
+    // 마지막 헤더 값을 문자열로 반환 (없으면 null)
+    public static String getString(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    // 마지막 헤더 값을 정수로 반환 (없거나 형식이 잘못되면 기본값)
+    public static int getInt(ConsumerRecord<?, ?> record, String name, int defaultValue) {
+        String value = getString(record, name);
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    // 마지막 헤더 값을 long으로 반환 (없거나 형식이 잘못되면 기본값)
+    public static long getLong(ConsumerRecord<?, ?> record, String name, long defaultValue) {
+        String value = getString(record, name);
+        if (value == null) return defaultValue;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.firzzle.llm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 형태소 분석기 없이 사용하는 한국어 키워드 검색용 토크나이저
+ * - 한글 연속 구간은 글자 bigram으로 나눔 (조사/어미가 붙어도 어간 부분이 일치하도록, 한 글자 구간은 그대로)
+ * - 영문/숫자 연속 구간은 소문자 단어 하나로 유지 (공식 이름, 약어 등 정확히 일치해야 하는 용어)
+ * - 그 외 문자(공백, 기호 등)는 구분자로 사용
+ */
+public class KoreanNgramTokenizer {
+
+    private static final int OTHER = 0;
+    private static final int HANGUL = 1;
+    private static final int ALNUM = 2;
+
+    private KoreanNgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        int length = text.length();
+        int runStart = 0;
+        int runType = OTHER;
+
+        for (int i = 0; i <= length; i++) {
+            int type = i < length ? typeOf(text.charAt(i)) : OTHER;
+            if (type == runType) continue;
+
+            emit(text, runStart, i, runType, tokens);
+            runStart = i;
+            runType = type;
+        }
+        return tokens;
+    }
+
+    private static void emit(String text, int start, int end, int type, List<String> tokens) {
+        if (type == HANGUL) {
+            if (end - start == 1) {
+                tokens.add(text.substring(start, end));
+                return;
+            }
+            for (int i = start; i + 1 < end; i++) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        } else if (type == ALNUM) {
+            tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static int typeOf(char c) {
+        if (c >= '\uAC00' && c <= '\uD7A3') return HANGUL;  // 완성형 한글 음절 (가~힣)
+        if (Character.isLetterOrDigit(c)) return ALNUM;
+        return OTHER;
+    }
+}
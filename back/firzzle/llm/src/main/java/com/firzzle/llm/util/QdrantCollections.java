@@ -1,9 +1,35 @@
 package com.firzzle.llm.util;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class QdrantCollections {
     public static final String SCRIPT = "script_vectors";
     public static final String DICTIONARY = "dictionary_vectors";
     public static final String CONTENT = "content_vectors";
     public static final String TEST = "test_vectors";
     public static final String LINKEDIN_PROFILES = "linkedin_profiles";
+
+    public static final List<String> ALL = List.of(SCRIPT, DICTIONARY, CONTENT, TEST, LINKEDIN_PROFILES);
+
+    /**
+     * 컬렉션별 payload 색인 (필드 -> Qdrant field_schema)
+     * 검색 filter에 쓰이는 필드는 색인이 있어야 컬렉션이 커져도 전체 스캔 없이 필터링됩니다.
+     */
+    public static final Map<String, Map<String, String>> PAYLOAD_INDEXES = Map.of(
+        SCRIPT, Map.of("contentSeq", "integer"),
+        DICTIONARY, Map.of(),
+        CONTENT, orderedIndexes("contentSeq", "integer", "keywords", "keyword"),
+        TEST, Map.of(),
+        LINKEDIN_PROFILES, Map.of("profileSeq", "integer")
+    );
+
+    private static Map<String, String> orderedIndexes(String... fieldAndSchema) {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < fieldAndSchema.length; i += 2) {
+            indexes.put(fieldAndSchema[i], fieldAndSchema[i + 1]);
+        }
+        return indexes;
+    }
 }
@@ -45,31 +45,6 @@ public class ScriptUtils {
         return "0";
     }
 
-    // 자막 텍스트 중 start~end 사이의 타임스탬프 라인만 문자열로 추출
-    public static String extractChunkText(List<String> lines, String start, String end) {
-        StringBuilder sb = new StringBuilder();
-        boolean inRange = false;
-
-        for (String line : lines) {
-            String timestamp = ScriptUtils.extractTimestamp(line);
-            if (timestamp == null) continue;
-
-            if (!inRange && ScriptUtils.compareTime(timestamp, start) >= 0) {
-                inRange = true;
-            }
-
-            if (inRange && ScriptUtils.compareTime(timestamp, end) >= 0) {
-                break;
-            }
-
-            if (inRange) {
-                sb.append(line).append("\n");
-            }
-        }
-
-        return sb.toString().trim();
-    }
-
     // LLM 응답 텍스트에서 JSON 배열만 추출 (```json ... ``` 또는 [ ... ] 형태)
     public static String extractJsonObject(String raw) {
         raw = raw.trim();
@@ -2,12 +2,18 @@ package com.firzzle.llm.util;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 public class TimeUtil {
     public static String getCurrentTimestamp14() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
         return LocalDateTime.now().format(formatter);
     }
+
+    public static String getTimestamp14BeforeMillis(long millis) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+        return LocalDateTime.now().minus(millis, ChronoUnit.MILLIS).format(formatter);
+    }
     
     public static String formatSecondsToHHMMSS(String secondsStr) {
         try {
@@ -0,0 +1,24 @@
+package com.firzzle.llm.util;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+
+/**
+ * 로컬 BPE 토크나이저(o200k_base, gpt-4o 계열)로 토큰 수를 계산합니다. (네트워크 호출 없음)
+ */
+public class TokenCounter {
+
+    // 인코딩 사전은 처음 사용할 때 한 번만 로딩
+    private static class Holder {
+        private static final Encoding ENCODING =
+                Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+    }
+
+    public static int count(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return Holder.ENCODING.countTokens(text.toString());
+    }
+}
@@ -0,0 +1,77 @@
+package com.firzzle.llm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 긴 스크립트를 토큰 수 기준의 겹치는 구간(window)으로 나눕니다.
+ * - 줄 단위로 자르므로 한 줄이 두 구간에 걸쳐 잘리지 않습니다.
+ * - 다음 구간은 이전 구간의 끝 overlapTokens 분량을 앞부분에 다시 포함해, 구간 경계의 주제 전환도 문맥과 함께 보게 합니다.
+ * - 각 구간은 겹친 영역의 중간 시각을 경계로 담당 범위(ownedFrom ~ ownedUntil)를 가지며, 결과 병합 시 이 범위 안의 값만 사용합니다.
+ */
+public class TranscriptChunker {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Window {
+        private final String text;
+        private final int tokens;
+        private final int ownedFromSeconds;   // 이 구간이 담당하는 시작 시각 (포함)
+        private final int ownedUntilSeconds;  // 이 구간이 담당하는 끝 시각 (미포함, 마지막 구간은 Integer.MAX_VALUE)
+    }
+
+    /**
+     * @param transcript    스크립트 색인
+     * @param maxTokens     구간 하나의 최대 토큰 수
+     * @param overlapTokens 이웃 구간과 겹치는 토큰 수
+     */
+    public static List<Window> split(TranscriptIndex transcript, int maxTokens, int overlapTokens) {
+        int n = transcript.size();
+        int[] lineTokens = new int[n];
+        for (int i = 0; i < n; i++) {
+            lineTokens[i] = TokenCounter.count(transcript.lineAt(i)) + 1; // 줄바꿈 포함
+        }
+
+        // 줄 범위 [starts[k], ends[k]) 계산
+        List<int[]> ranges = new ArrayList<>();
+        int start = 0;
+        while (start < n) {
+            int end = start;
+            int sum = 0;
+            while (end < n && (end == start || sum + lineTokens[end] <= maxTokens)) {
+                sum += lineTokens[end];
+                end++;
+            }
+            ranges.add(new int[]{start, end, sum});
+            if (end >= n) break;
+
+            int next = end;
+            int overlap = 0;
+            while (next > start + 1 && overlap + lineTokens[next - 1] <= overlapTokens) {
+                overlap += lineTokens[next - 1];
+                next--;
+            }
+            start = next;
+        }
+
+        List<Window> windows = new ArrayList<>(ranges.size());
+        int ownedFrom = 0;
+        for (int k = 0; k < ranges.size(); k++) {
+            int[] range = ranges.get(k);
+            int ownedUntil = Integer.MAX_VALUE;
+            if (k < ranges.size() - 1) {
+                // 겹친 영역(다음 구간 시작 ~ 이 구간 끝)의 중간 시각을 경계로 사용
+                int nextStart = ranges.get(k + 1)[0];
+                int overlapStartSeconds = transcript.secondsAt(nextStart);
+                int overlapEndSeconds = transcript.secondsAt(range[1] - 1);
+                ownedUntil = Math.max(ownedFrom + 1, (overlapStartSeconds + overlapEndSeconds + 1) / 2);
+            }
+            windows.add(new Window(transcript.text(range[0], range[1]), range[2], ownedFrom, ownedUntil));
+            ownedFrom = ownedUntil;
+        }
+        return windows;
+    }
+}
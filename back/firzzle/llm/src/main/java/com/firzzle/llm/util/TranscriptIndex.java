@@ -0,0 +1,181 @@
+package com.firzzle.llm.util;
+
+import java.nio.CharBuffer;
+
+/**
+ * "[초] 텍스트" 줄로 이루어진 스크립트의 시간 구간 색인
+ * - 요청마다 한 번 만들어 두고, 구간 추출은 정렬된 타임스탬프 배열의 이진 탐색(O(log n))으로 처리합니다.
+ * - 줄 단위로 복사하지 않고 원본 스크립트의 위치(offset)만 보관하며, 구간은 원본에 대한 뷰로 반환합니다.
+ * - 구간은 타임스탬프가 start 이상인 첫 줄부터 end 이상인 첫 줄 직전까지입니다.
+ */
+public class TranscriptIndex {
+
+    private final String script;
+    private final int[] seconds;     // 줄별 타임스탬프(초), 대괄호가 없으면 0
+    private final int[] lineStarts;  // 줄 시작 위치 (원본 스크립트 기준)
+    private final int[] lineEnds;    // 줄 끝 위치 (줄바꿈 제외)
+    private final int size;
+    private final boolean sorted;    // 타임스탬프가 줄 순서대로 정렬되어 있는지 (아니면 선형 탐색)
+
+    private TranscriptIndex(String script, int[] seconds, int[] lineStarts, int[] lineEnds, int size, boolean sorted) {
+        this.script = script;
+        this.seconds = seconds;
+        this.lineStarts = lineStarts;
+        this.lineEnds = lineEnds;
+        this.size = size;
+        this.sorted = sorted;
+    }
+
+    /**
+     * 스크립트를 한 번 훑어 색인을 만듭니다.
+     */
+    public static TranscriptIndex of(String script) {
+        int capacity = 16;
+        int[] seconds = new int[capacity];
+        int[] starts = new int[capacity];
+        int[] ends = new int[capacity];
+        int size = 0;
+        boolean sorted = true;
+
+        int length = script.length();
+        int lineStart = 0;
+        while (lineStart <= length) {
+            int lineEnd = script.indexOf('\n', lineStart);
+            if (lineEnd < 0) lineEnd = length;
+
+            if (size == capacity) {
+                capacity *= 2;
+                seconds = java.util.Arrays.copyOf(seconds, capacity);
+                starts = java.util.Arrays.copyOf(starts, capacity);
+                ends = java.util.Arrays.copyOf(ends, capacity);
+            }
+            int ts = parseSeconds(script, lineStart, lineEnd);
+            if (size > 0 && ts < seconds[size - 1]) sorted = false;
+            seconds[size] = ts;
+            starts[size] = lineStart;
+            ends[size] = lineEnd;
+            size++;
+
+            lineStart = lineEnd + 1;
+        }
+
+        // String.split("\n")과 같이 끝의 빈 줄은 제외
+        while (size > 0 && starts[size - 1] == ends[size - 1]) size--;
+
+        return new TranscriptIndex(script, seconds, starts, ends, size, sorted);
+    }
+
+    /**
+     * 줄 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 줄의 타임스탬프(초)
+     */
+    public int secondsAt(int line) {
+        return seconds[line];
+    }
+
+    /**
+     * 줄 내용 (원본에 대한 뷰)
+     */
+    public CharSequence lineAt(int line) {
+        return CharBuffer.wrap(script, lineStarts[line], lineEnds[line]);
+    }
+
+    /**
+     * fromLine 이상 toLine 미만 줄의 원문
+     */
+    public String text(int fromLine, int toLine) {
+        if (fromLine >= toLine) return "";
+        return script.substring(lineStarts[fromLine], lineEnds[toLine - 1]);
+    }
+
+    /**
+     * start 이상 end 미만 구간의 스크립트를 원본에 대한 뷰로 반환합니다. (앞뒤 공백 제외)
+     *
+     * @param start 시작 시각 ("초" 또는 "hh:mm:ss")
+     * @param end   끝 시각 ("초" 또는 "hh:mm:ss")
+     */
+    public CharSequence slice(String start, String end) {
+        return slice(ScriptUtils.toSeconds(start), ScriptUtils.toSeconds(end));
+    }
+
+    /**
+     * start 이상 end 미만 구간의 스크립트 문자열
+     */
+    public String sliceText(String start, String end) {
+        return slice(start, end).toString();
+    }
+
+    /**
+     * 초 단위 구간 뷰
+     */
+    public CharSequence slice(int startSeconds, int endSeconds) {
+        int from = firstAtLeast(startSeconds, 0);
+        if (from >= size) return "";
+        int to = firstAtLeast(endSeconds, from);
+        if (to <= from) return "";
+
+        int begin = lineStarts[from];
+        int finish = lineEnds[to - 1];
+        // String.trim()과 같은 기준으로 앞뒤 공백 제외
+        while (begin < finish && script.charAt(begin) <= ' ') begin++;
+        while (finish > begin && script.charAt(finish - 1) <= ' ') finish--;
+        return CharBuffer.wrap(script, begin, finish);
+    }
+
+    /**
+     * from 이후에서 타임스탬프가 target 이상인 첫 줄의 위치 (없으면 size)
+     */
+    private int firstAtLeast(int target, int from) {
+        if (!sorted) {
+            for (int i = from; i < size; i++) {
+                if (seconds[i] >= target) return i;
+            }
+            return size;
+        }
+
+        int lo = from;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (seconds[mid] < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 줄의 "[초]" 타임스탬프를 파싱합니다. (대괄호가 없으면 0, 숫자가 아니면 ScriptUtils 규칙을 따름)
+     * 대괄호는 줄 안에서만 찾습니다. (대괄호 없는 줄마다 스크립트 끝까지 훑지 않도록)
+     */
+    private static int parseSeconds(String script, int lineStart, int lineEnd) {
+        int open = -1;
+        int close = -1;
+        for (int i = lineStart; i < lineEnd && (open < 0 || close < 0); i++) {
+            char c = script.charAt(i);
+            if (c == '[' && open < 0) open = i;
+            else if (c == ']' && close < 0) close = i;
+        }
+        int begin = open >= 0 ? open + 1 : lineStart;
+        if (close < 0 || close <= begin) return 0;
+
+        int value = 0;
+        for (int i = begin; i < close; i++) {
+            char c = script.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+            } else {
+                return ScriptUtils.toSeconds(script.substring(begin, close).trim());
+            }
+        }
+        return value;
+    }
+}
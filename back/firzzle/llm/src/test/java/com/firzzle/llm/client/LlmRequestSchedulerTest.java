@@ -0,0 +1,123 @@
+package com.firzzle.llm.client;
+
+import com.firzzle.llm.domain.LlmSchedulerProperties;
+import com.firzzle.llm.domain.ModelType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmRequestSchedulerTest {
+
+    private static final String MODEL = "gpt-4o-mini";
+
+    private LlmSchedulerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LlmRequestScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LlmSchedulerProperties();
+        properties.getDefaults().setMaxConcurrency(1);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new LlmRequestScheduler(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void waitsForReleaseWhenConcurrencyIsExhausted() throws Exception {
+        // 준비
+        LlmRequestScheduler.Permit first = scheduler.acquire(ModelType.SUMMARY, MODEL, 100).block();
+
+        // 실행
+        CompletableFuture<LlmRequestScheduler.Permit> second = scheduler.acquire(ModelType.SUMMARY, MODEL, 100).toFuture();
+
+        // 검증: 동시 요청 한도(1) 때문에 대기하다가 release 후 발급
+        assertThat(second).isNotDone();
+        assertThat(meterRegistry.get("llm.scheduler.queue.depth").gauge().value()).isEqualTo(1.0);
+        first.release();
+        assertThat(second.get(1, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void interactiveRequestsAreServedBeforeBatchRequests() throws Exception {
+        // 준비
+        LlmRequestScheduler.Permit holder = scheduler.acquire(ModelType.SUMMARY, MODEL, 100).block();
+        List<ModelType> order = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<LlmRequestScheduler.Permit> batch = scheduler.acquire(ModelType.TIMELINE, MODEL, 100)
+                .doOnNext(p -> order.add(ModelType.TIMELINE)).toFuture();
+        CompletableFuture<LlmRequestScheduler.Permit> chat = scheduler.acquire(ModelType.LEARNINGCHAT, MODEL, 100)
+                .doOnNext(p -> order.add(ModelType.LEARNINGCHAT)).toFuture();
+
+        // 실행
+        holder.release();
+        chat.get(1, TimeUnit.SECONDS).release();
+        batch.get(1, TimeUnit.SECONDS).release();
+
+        // 검증: 나중에 도착한 러닝챗 요청이 먼저 실행
+        assertThat(order).containsExactly(ModelType.LEARNINGCHAT, ModelType.TIMELINE);
+    }
+
+    @Test
+    void rateLimitPausesTheModel() throws Exception {
+        // 준비
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("retry-after-ms", "300");
+        scheduler.pauseOnRateLimit(MODEL, headers, 1);
+
+        // 실행
+        long start = System.nanoTime();
+        scheduler.acquire(ModelType.SUMMARY, MODEL, 100).toFuture().get(2, TimeUnit.SECONDS).release();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 검증
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    void tokenBudgetDelaysRequestsUntilRefilled() throws Exception {
+        // 준비: 분당 600,000 토큰 (밀리초당 10 토큰)
+        properties.getDefaults().setMaxConcurrency(8);
+        properties.getDefaults().setTokensPerMinute(600_000);
+        scheduler.acquire(ModelType.SUMMARY, MODEL, 600_000).block().release();
+
+        // 실행
+        long start = System.nanoTime();
+        scheduler.acquire(ModelType.SUMMARY, MODEL, 2_000).toFuture().get(2, TimeUnit.SECONDS).release();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 검증: 2,000 토큰이 충전될 때까지(약 200ms) 대기
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    void cancelledWaiterLeavesTheQueue() {
+        // 준비
+        LlmRequestScheduler.Permit holder = scheduler.acquire(ModelType.SUMMARY, MODEL, 100).block();
+        Disposable waiting = scheduler.acquire(ModelType.SUMMARY, MODEL, 100).subscribe();
+        assertThat(meterRegistry.get("llm.scheduler.queue.depth").gauge().value()).isEqualTo(1.0);
+
+        // 실행
+        waiting.dispose();
+
+        // 검증
+        assertThat(meterRegistry.get("llm.scheduler.queue.depth").gauge().value()).isZero();
+        holder.release();
+        assertThat(meterRegistry.get("llm.scheduler.in.flight").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package com.firzzle.llm.client;
+
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.domain.VectorPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QdrantWriteBufferTest {
+
+    private static final String COLLECTION = "script_vectors";
+
+    @Mock
+    private VectorDbClient vectorDbClient;
+
+    private QdrantWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new QdrantWriteBuffer(vectorDbClient);
+        ReflectionTestUtils.setField(buffer, "maxPoints", 3);
+        ReflectionTestUtils.setField(buffer, "maxAgeMillis", 60_000L);
+        ReflectionTestUtils.setField(buffer, "maxRetries", 1);
+        ReflectionTestUtils.setField(buffer, "capacity", 10);
+        ReflectionTestUtils.setField(buffer, "enqueueTimeoutMillis", 10L);
+        buffer.init();
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() throws Exception {
+        // 준비
+        when(vectorDbClient.upsertPoints(eq(COLLECTION), anyList())).thenReturn(Mono.empty());
+
+        // 실행
+        CompletableFuture<Void> first = buffer.enqueue(point(1L));
+        CompletableFuture<Void> second = buffer.enqueue(point(2L));
+        verify(vectorDbClient, never()).upsertPoints(anyString(), anyList());
+        CompletableFuture<Void> third = buffer.enqueue(point(3L));
+
+        // 검증: 세 포인트가 한 번의 bulk upsert로 저장되고 모두 ack
+        CompletableFuture.allOf(first, second, third).get(1, TimeUnit.SECONDS);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VectorPoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(vectorDbClient, times(1)).upsertPoints(eq(COLLECTION), captor.capture());
+        assertThat(captor.getValue()).extracting(VectorPoint::getId).containsExactly(1L, 2L, 3L);
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void flushExpiredSendsOldBatch() throws Exception {
+        // 준비
+        ReflectionTestUtils.setField(buffer, "maxAgeMillis", 0L);
+        when(vectorDbClient.upsertPoints(eq(COLLECTION), anyList())).thenReturn(Mono.empty());
+        CompletableFuture<Void> ack = buffer.enqueue(point(1L));
+
+        // 실행
+        buffer.flushExpired();
+
+        // 검증
+        ack.get(1, TimeUnit.SECONDS);
+        verify(vectorDbClient).upsertPoints(eq(COLLECTION), anyList());
+    }
+
+    @Test
+    void failedFlushCompletesAcksExceptionallyAndReleasesCapacity() {
+        // 준비
+        when(vectorDbClient.upsertPoints(eq(COLLECTION), anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("qdrant down")));
+
+        // 실행
+        CompletableFuture<Void> ack = buffer.enqueue(point(1L));
+        buffer.enqueue(point(2L));
+        buffer.enqueue(point(3L));
+
+        // 검증: 재시도 후 최종 실패가 ack로 전달되고 대기 슬롯은 반환
+        assertThatThrownBy(() -> ack.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void enqueueFailsWhenCapacityIsExhausted() {
+        // 준비
+        ReflectionTestUtils.setField(buffer, "capacity", 1);
+        buffer.init();
+        buffer.enqueue(point(1L));
+
+        // 실행
+        CompletableFuture<Void> rejected = buffer.enqueue(point(2L));
+
+        // 검증
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(buffer.getPendingCount()).isEqualTo(1);
+    }
+
+    private VectorPoint point(Long id) {
+        return VectorPoint.builder()
+                .collection(COLLECTION)
+                .id(id)
+                .vector(Vector.wrap(new float[]{1f, 0f}))
+                .payload(Map.of("contentSeq", 1L))
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.firzzle.llm.kafka.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firzzle.llm.dto.LlmRequestDTO;
+import com.firzzle.llm.kafka.consumer.SttConvertedConsumer.PipelineStartException;
+import com.firzzle.llm.kafka.consumer.SttConvertedConsumer.SlotUnavailableException;
+import com.firzzle.llm.kafka.producer.RegistrationRetryProducer;
+import com.firzzle.llm.service.DeadLetterService;
+import com.firzzle.llm.service.RegistrationService;
+import com.firzzle.llm.sse.SseEmitterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SttConvertedConsumerTest {
+
+    private static final String VALID = "{\"userContentSeq\":1,\"contentSeq\":2,\"taskId\":\"task-1\"}";
+    private static final int MAX_IN_FLIGHT = 2;
+
+    @Mock
+    private RegistrationService registrationService;
+
+    @Mock
+    private SseEmitterRepository sseEmitterRepository;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private RegistrationRetryProducer retryProducer;
+
+    @Mock
+    private DeadLetterService deadLetterService;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private SttConvertedConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new SttConvertedConsumer(registrationService, new ObjectMapper(), sseEmitterRepository,
+                listenerRegistry, new SimpleMeterRegistry(), retryProducer, deadLetterService);
+        ReflectionTestUtils.setField(consumer, "maxInFlight", MAX_IN_FLIGHT);
+        ReflectionTestUtils.setField(consumer, "concurrency", 1);
+        consumer.init();
+    }
+
+    @Test
+    void ackWaitsUntilPipelineCompletes() {
+        CompletableFuture<String> pipeline = new CompletableFuture<>();
+        when(registrationService.summarizeContents(any())).thenReturn(pipeline);
+
+        consumer.consume(record(VALID), ack);
+        verify(ack, never()).acknowledge();
+        assertThat(availableSlots()).isEqualTo(MAX_IN_FLIGHT - 1);
+
+        pipeline.complete("done");
+        verify(ack).acknowledge();
+        assertThat(availableSlots()).isEqualTo(MAX_IN_FLIGHT);
+    }
+
+    @Test
+    void noSlotLeftThrowsForRedeliveryWithoutStartingPipeline() {
+        when(registrationService.summarizeContents(any())).thenReturn(new CompletableFuture<>());
+        consumer.consume(record(VALID), ack);
+        consumer.consume(record(VALID), ack);
+
+        assertThatThrownBy(() -> consumer.consume(record(VALID), ack))
+                .isInstanceOf(SlotUnavailableException.class);
+        verify(registrationService, times(MAX_IN_FLIGHT)).summarizeContents(any());
+        verify(ack, never()).acknowledge();
+    }
+
+    @Test
+    void pipelineStartFailureReleasesSlotAndIsRedeliveredNotDeadLettered() {
+        when(registrationService.summarizeContents(any())).thenThrow(new TaskRejectedException("executor full"));
+
+        assertThatThrownBy(() -> consumer.consume(record(VALID), ack))
+                .isInstanceOf(PipelineStartException.class)
+                .hasCauseInstanceOf(TaskRejectedException.class);
+
+        assertThat(availableSlots()).isEqualTo(MAX_IN_FLIGHT);
+        verify(ack, never()).acknowledge();
+        verifyNoInteractions(retryProducer, deadLetterService);
+    }
+
+    @Test
+    void unparseableMessageGoesToDlqAndIsAcked() {
+        consumer.consume(record("{not json"), ack);
+
+        verify(retryProducer).sendToDlq(eq(RegistrationRetryProducer.SOURCE_TOPIC), eq("key"), eq("{not json"), eq(0), anyString());
+        verify(ack).acknowledge();
+        verifyNoInteractions(registrationService);
+    }
+
+    @Test
+    void unparseableMessageIsKeptInTableWhenDlqSendFails() {
+        doThrow(new IllegalStateException("broker down"))
+                .when(retryProducer).sendToDlq(anyString(), any(), anyString(), anyInt(), anyString());
+
+        consumer.consume(record("{not json"), ack);
+
+        verify(deadLetterService).save(eq(RegistrationRetryProducer.SOURCE_TOPIC), eq("key"), eq("{not json"), anyString(), eq(0));
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void transientFailureIsSentToRetryTopicThenAcked() {
+        when(registrationService.summarizeContents(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("openai 503")));
+        when(sseEmitterRepository.lastEventId("task-1")).thenReturn(7L);
+        when(retryProducer.sendToRetryOrDlq("key", VALID, 0, "openai 503", 7L)).thenReturn(true);
+
+        consumer.consume(record(VALID), ack);
+
+        verify(ack).acknowledge();
+        verify(registrationService, never()).markFailed(any(), anyString());
+        assertThat(availableSlots()).isEqualTo(MAX_IN_FLIGHT);
+    }
+
+    @Test
+    void exhaustedRetriesMarkContentFailed() {
+        when(registrationService.summarizeContents(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("openai 503")));
+        ConsumerRecord<String, String> lastAttempt = record(VALID);
+        lastAttempt.headers().add(RegistrationRetryProducer.HEADER_ATTEMPT, "2".getBytes(StandardCharsets.UTF_8));
+        when(retryProducer.sendToRetryOrDlq(eq("key"), eq(VALID), eq(2), anyString(), anyLong())).thenReturn(false);
+
+        consumer.consume(lastAttempt, ack);
+
+        ArgumentCaptor<LlmRequestDTO> failed = ArgumentCaptor.forClass(LlmRequestDTO.class);
+        verify(registrationService).markFailed(failed.capture(), eq("openai 503"));
+        assertThat(failed.getValue().isReprocess()).isTrue();
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void failedMessageIsNotAckedWhenNeitherBrokerNorTableCanKeepIt() {
+        when(registrationService.summarizeContents(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("openai 503")));
+        when(retryProducer.sendToRetryOrDlq(anyString(), anyString(), anyInt(), anyString(), anyLong()))
+                .thenThrow(new IllegalStateException("broker down"));
+        doThrow(new IllegalStateException("db down"))
+                .when(deadLetterService).save(anyString(), anyString(), anyString(), anyString(), anyInt());
+
+        consumer.consume(record(VALID), ack);
+
+        verify(ack, never()).acknowledge();
+        assertThat(availableSlots()).isEqualTo(MAX_IN_FLIGHT);
+    }
+
+    private int availableSlots() {
+        return ((Semaphore) ReflectionTestUtils.getField(consumer, "inFlight")).availablePermits();
+    }
+
+    private static ConsumerRecord<String, String> record(String value) {
+        return new ConsumerRecord<>(RegistrationRetryProducer.SOURCE_TOPIC, 0, 0L, "key", value);
+    }
+}
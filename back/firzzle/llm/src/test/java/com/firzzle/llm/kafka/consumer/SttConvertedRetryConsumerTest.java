@@ -0,0 +1,88 @@
+package com.firzzle.llm.kafka.consumer;
+
+import com.firzzle.llm.kafka.producer.RegistrationRetryProducer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SttConvertedRetryConsumerTest {
+
+    private static final String RETRY_1M = "stt-converted-retry-1m";
+
+    @Mock
+    private RegistrationRetryProducer retryProducer;
+
+    @Mock
+    private Acknowledgment ack;
+
+    @InjectMocks
+    private SttConvertedRetryConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(consumer, "retryTopics", List.of(RETRY_1M, "stt-converted-retry-10m"));
+        ReflectionTestUtils.setField(consumer, "retryDelays", List.of(60_000L, 600_000L));
+    }
+
+    @Test
+    void messageBeforeItsDelayIsNackedWithoutResending() {
+        consumer.consume(retryRecord(System.currentTimeMillis()), ack);
+
+        ArgumentCaptor<Duration> pause = ArgumentCaptor.forClass(Duration.class);
+        verify(ack).nack(pause.capture());
+        // 긴 지연도 max.poll.interval.ms를 넘지 않도록 나누어 대기
+        assertThat(pause.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(30));
+        verifyNoInteractions(retryProducer);
+    }
+
+    @Test
+    void dueMessageIsResentToSourceThenAcked() {
+        consumer.consume(retryRecord(System.currentTimeMillis() - 61_000L), ack);
+
+        verify(retryProducer).sendToSource("key", "{}", 1, 5L);
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void resendFailureIsNackedInsteadOfAcked() {
+        doThrow(new IllegalStateException("broker down"))
+                .when(retryProducer).sendToSource(any(), any(), anyInt(), anyLong());
+
+        consumer.consume(retryRecord(System.currentTimeMillis() - 61_000L), ack);
+
+        verify(ack).nack(any(Duration.class));
+        verify(ack, never()).acknowledge();
+    }
+
+    private static ConsumerRecord<String, String> retryRecord(long timestamp) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(RegistrationRetryProducer.HEADER_ATTEMPT, "1".getBytes(StandardCharsets.UTF_8));
+        headers.add(RegistrationRetryProducer.HEADER_SSE_LAST_EVENT_ID, "5".getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(RETRY_1M, 0, 0L, timestamp, TimestampType.CREATE_TIME,
+                -1, -1, "key", "{}", headers, Optional.empty());
+    }
+}
@@ -0,0 +1,112 @@
+package com.firzzle.llm.service;
+
+import com.firzzle.llm.dto.ContentNeighborDTO;
+import com.firzzle.llm.dto.ContentNeighborRunDTO;
+import com.firzzle.llm.mapper.ContentNeighborMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentNeighborServiceTest {
+
+    private static final Long CONTENT_SEQ = 20L;
+    private static final int TOP_N = 18;
+
+    @Mock
+    private ContentNeighborMapper contentNeighborMapper;
+
+    @InjectMocks
+    private ContentNeighborService contentNeighborService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(contentNeighborService, "topN", TOP_N);
+    }
+
+    @Test
+    void reverseUpdateOnlyTouchesComputedNeighborsAfterLockingTheirRuns() {
+        // 30, 10은 삭제되지 않은 콘텐츠이고, 그중 10만 이웃이 계산되어 있음 (40은 삭제됨)
+        when(contentNeighborMapper.selectActiveContentSeqs(anyList())).thenReturn(List.of(30L, 10L));
+        when(contentNeighborMapper.selectNeighborRunSeqsForUpdate(anyList())).thenReturn(List.of(10L, CONTENT_SEQ));
+
+        contentNeighborService.replaceNeighbors(CONTENT_SEQ,
+                new ArrayList<>(List.of(neighbor(30L, 0.9), neighbor(40L, 0.8), neighbor(10L, 0.7))));
+
+        // 기준/이웃 계산 상태 행을 PK 순서로 먼저 잠그고, 역방향 upsert → trim → 이웃 수 갱신
+        InOrder order = inOrder(contentNeighborMapper);
+        order.verify(contentNeighborMapper).selectNeighborRunSeqsForUpdate(List.of(10L, CONTENT_SEQ, 30L));
+        order.verify(contentNeighborMapper).deleteNeighbors(CONTENT_SEQ);
+        order.verify(contentNeighborMapper).insertNeighbors(anyList());
+        order.verify(contentNeighborMapper).upsertNeighborRun(any());
+        ArgumentCaptor<ContentNeighborDTO> reverse = ArgumentCaptor.forClass(ContentNeighborDTO.class);
+        order.verify(contentNeighborMapper).upsertNeighbor(reverse.capture());
+        order.verify(contentNeighborMapper).trimNeighbors(10L, TOP_N);
+        order.verify(contentNeighborMapper).updateNeighborCount(10L);
+
+        assertThat(reverse.getValue().getContentSeq()).isEqualTo(10L);
+        assertThat(reverse.getValue().getNeighborSeq()).isEqualTo(CONTENT_SEQ);
+        assertThat(reverse.getValue().getScore()).isEqualTo(0.7);
+        verify(contentNeighborMapper, never()).trimNeighbors(eq(30L), any(Integer.class));
+    }
+
+    @Test
+    void deletedNeighborsAreDroppedFromTheStoredListAndCount() {
+        when(contentNeighborMapper.selectActiveContentSeqs(anyList())).thenReturn(List.of(30L));
+        when(contentNeighborMapper.selectNeighborRunSeqsForUpdate(anyList())).thenReturn(List.of());
+
+        contentNeighborService.replaceNeighbors(CONTENT_SEQ,
+                new ArrayList<>(List.of(neighbor(30L, 0.9), neighbor(40L, 0.8))));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ContentNeighborDTO>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(contentNeighborMapper).insertNeighbors(inserted.capture());
+        assertThat(inserted.getValue()).extracting(ContentNeighborDTO::getNeighborSeq).containsExactly(30L);
+        assertThat(inserted.getValue()).allSatisfy(n -> assertThat(n.getIndate()).isNotNull());
+
+        ArgumentCaptor<ContentNeighborRunDTO> run = ArgumentCaptor.forClass(ContentNeighborRunDTO.class);
+        verify(contentNeighborMapper).upsertNeighborRun(run.capture());
+        assertThat(run.getValue().getNeighborCount()).isEqualTo(1);
+        verify(contentNeighborMapper, never()).upsertNeighbor(any());
+    }
+
+    @Test
+    void emptyNeighborListStillRecordsTheRun() {
+        when(contentNeighborMapper.selectNeighborRunSeqsForUpdate(anyList())).thenReturn(List.of());
+
+        contentNeighborService.replaceNeighbors(CONTENT_SEQ, new ArrayList<>());
+
+        verify(contentNeighborMapper).selectNeighborRunSeqsForUpdate(List.of(CONTENT_SEQ));
+        verify(contentNeighborMapper).deleteNeighbors(CONTENT_SEQ);
+        verify(contentNeighborMapper, never()).insertNeighbors(anyList());
+        verify(contentNeighborMapper, never()).updateNeighborCount(anyLong());
+        verify(contentNeighborMapper).upsertNeighborRun(any());
+    }
+
+    private static ContentNeighborDTO neighbor(Long neighborSeq, double score) {
+        return ContentNeighborDTO.builder()
+                .contentSeq(CONTENT_SEQ)
+                .neighborSeq(neighborSeq)
+                .score(score)
+                .build();
+    }
+}
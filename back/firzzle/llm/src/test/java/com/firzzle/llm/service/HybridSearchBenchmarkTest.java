@@ -0,0 +1,119 @@
+package com.firzzle.llm.service;
+
+import com.firzzle.llm.cache.HotVectorCache;
+import com.firzzle.llm.cache.LexicalIndexCache;
+import com.firzzle.llm.client.QdrantWriteBuffer;
+import com.firzzle.llm.client.VectorDbClient;
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.dto.QdrantPointDTO;
+import com.firzzle.llm.util.Bm25Index;
+import com.firzzle.llm.util.QdrantCollections;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 하이브리드 검색(BM25 + RRF) 성능 측정 (./gradlew :llm:benchmark 로 실행, 기본 test 태스크에서는 제외)
+ * - 긴 강의 한 편 분량(구간 2,000개)의 BM25 색인 생성, 키워드 검색, 벡터 결과와의 RRF 병합 시간을 출력
+ */
+@Tag("benchmark")
+class HybridSearchBenchmarkTest {
+
+    private static final int DOCUMENTS = 2_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final String[] WORDS = {
+            "자바", "스트림", "컬렉션", "람다", "인터페이스", "스프링", "트랜잭션", "인덱스", "쿼리", "캐시",
+            "OAuth2", "JWT", "Kafka", "파티션", "컨슈머", "리액터", "비동기", "스레드", "메모리", "가비지"};
+
+    @Test
+    void bm25AndRrf() {
+        Map<String, String> documents = documents(new Random(42));
+        String question = "Kafka 컨슈머 파티션 리밸런싱은 어떻게 동작하나요?";
+
+        // 색인 생성
+        long start = System.nanoTime();
+        Bm25Index index = null;
+        for (int i = 0; i < 10; i++) {
+            index = Bm25Index.build(documents);
+        }
+        double buildMillis = (System.nanoTime() - start) / 1_000_000.0 / 10;
+
+        // 키워드 검색
+        for (int i = 0; i < WARMUP; i++) {
+            index.search(question, 20);
+        }
+        start = System.nanoTime();
+        List<Bm25Index.Hit> hits = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            hits = index.search(question, 20);
+        }
+        double searchMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+        // 벡터 결과(20개)와 RRF 병합까지 포함한 전체 검색
+        RagService ragService = ragService(index);
+        Vector vector = Vector.wrap(new float[]{1f, 0f});
+        for (int i = 0; i < WARMUP; i++) {
+            ragService.searchTopPayloadsByContentSeq(QdrantCollections.CONTENT, question, vector, 1L).block();
+        }
+        start = System.nanoTime();
+        List<String> contents = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            contents = ragService.searchTopPayloadsByContentSeq(QdrantCollections.CONTENT, question, vector, 1L).block();
+        }
+        double hybridMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+        System.out.printf("[benchmark] BM25 build: %d docs, %.2f ms/op%n", DOCUMENTS, buildMillis);
+        System.out.printf("[benchmark] BM25 search: top-20, %.1f us/op%n", searchMicros);
+        System.out.printf("[benchmark] hybrid search (BM25 + RRF): top-5, %.1f us/op%n", hybridMicros);
+        assertThat(hits).hasSize(20);
+        assertThat(contents).hasSize(5);
+    }
+
+    private Map<String, String> documents(Random random) {
+        Map<String, String> documents = new LinkedHashMap<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            StringBuilder text = new StringBuilder("[").append(i * 15).append("] ");
+            for (int w = 0; w < 40; w++) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(w % 3 == 0 ? "를 " : "의 ");
+            }
+            documents.put(String.valueOf(i), text.toString());
+        }
+        return documents;
+    }
+
+    private RagService ragService(Bm25Index index) {
+        VectorDbClient vectorDbClient = mock(VectorDbClient.class);
+        LexicalIndexCache lexicalIndexCache = mock(LexicalIndexCache.class);
+        List<QdrantPointDTO> dense = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            QdrantPointDTO point = new QdrantPointDTO();
+            point.setId(String.valueOf(i * 97 % DOCUMENTS));
+            point.setPayload(Map.of("content", "구간 " + i));
+            dense.add(point);
+        }
+        when(vectorDbClient.searchPoints(anyString(), any())).thenReturn(Mono.just(dense));
+        when(lexicalIndexCache.get(anyLong())).thenReturn(Mono.just(index));
+
+        RagService ragService = new RagService(vectorDbClient, mock(QdrantWriteBuffer.class), lexicalIndexCache,
+                mock(HotVectorCache.class));
+        ReflectionTestUtils.setField(ragService, "hybridEnabled", true);
+        ReflectionTestUtils.setField(ragService, "hybridCandidates", 20);
+        ReflectionTestUtils.setField(ragService, "rrfK", 60);
+        return ragService;
+    }
+}
@@ -0,0 +1,127 @@
+package com.firzzle.llm.service;
+
+import com.firzzle.llm.cache.HotVectorCache;
+import com.firzzle.llm.cache.LexicalIndexCache;
+import com.firzzle.llm.client.QdrantWriteBuffer;
+import com.firzzle.llm.client.VectorDbClient;
+import com.firzzle.llm.domain.Vector;
+import com.firzzle.llm.dto.QdrantPointDTO;
+import com.firzzle.llm.util.Bm25Index;
+import com.firzzle.llm.util.QdrantCollections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RagServiceTest {
+
+    private static final String COLLECTION = QdrantCollections.CONTENT;
+    private static final Long CONTENT_SEQ = 7L;
+    private static final Vector QUESTION_VECTOR = Vector.wrap(new float[]{1f, 0f});
+
+    @Mock
+    private VectorDbClient vectorDbClient;
+
+    @Mock
+    private QdrantWriteBuffer qdrantWriteBuffer;
+
+    @Mock
+    private LexicalIndexCache lexicalIndexCache;
+
+    @Mock
+    private HotVectorCache hotVectorCache;
+
+    @InjectMocks
+    private RagService ragService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ragService, "hybridEnabled", true);
+        ReflectionTestUtils.setField(ragService, "hybridCandidates", 20);
+        ReflectionTestUtils.setField(ragService, "rrfK", 60);
+    }
+
+    @Test
+    void exactTermMissedByVectorSearchIsAddedByKeywordSearch() {
+        // 벡터 검색은 일반적인 구간 6개, 키워드 검색은 OAuth2 구간을 찾음
+        givenVectorHits("1", "2", "3", "4", "5", "6");
+        Map<String, String> documents = new LinkedHashMap<>();
+        documents.put("9", "[300] OAuth2 인증 흐름을 설명합니다");
+        documents.put("1", "[0] 구간 1 내용");
+        when(lexicalIndexCache.get(CONTENT_SEQ)).thenReturn(Mono.just(Bm25Index.build(documents)));
+
+        List<String> contents = search("OAuth2는 어떻게 동작하나요?");
+
+        // 키워드 검색 1위가 RRF로 상위 5개 안에 포함
+        assertThat(contents).hasSize(5).contains("[300] OAuth2 인증 흐름을 설명합니다");
+    }
+
+    @Test
+    void segmentFoundByBothSearchesRanksFirst() {
+        givenVectorHits("1", "2", "3");
+        Map<String, String> documents = new LinkedHashMap<>();
+        documents.put("3", "구간 3 내용");
+        when(lexicalIndexCache.get(CONTENT_SEQ)).thenReturn(Mono.just(Bm25Index.build(documents)));
+
+        List<String> contents = search("구간 3");
+
+        // 두 목록의 RRF 점수가 합산되어 1위, 중복 없이 반환
+        assertThat(contents).containsExactly("구간 3 내용", "구간 1 내용", "구간 2 내용");
+    }
+
+    @Test
+    void keywordSearchFailureFallsBackToVectorResults() {
+        givenVectorHits("1", "2");
+        when(lexicalIndexCache.get(CONTENT_SEQ)).thenReturn(Mono.error(new IllegalStateException("scroll failed")));
+
+        List<String> contents = search("질문");
+
+        assertThat(contents).containsExactly("구간 1 내용", "구간 2 내용");
+    }
+
+    @Test
+    void hybridDisabledUsesVectorSearchOnly() {
+        ReflectionTestUtils.setField(ragService, "hybridEnabled", false);
+        givenVectorHits("1", "2", "3", "4", "5", "6");
+
+        List<String> contents = search("질문");
+
+        assertThat(contents).hasSize(5).startsWith("구간 1 내용");
+        verifyNoInteractions(lexicalIndexCache);
+    }
+
+    private void givenVectorHits(String... ids) {
+        when(vectorDbClient.searchPoints(eq(COLLECTION), any())).thenReturn(Mono.just(points(ids)));
+    }
+
+    private List<String> search(String question) {
+        return ragService.searchTopPayloadsByContentSeq(COLLECTION, question, QUESTION_VECTOR, CONTENT_SEQ).block();
+    }
+
+    private List<QdrantPointDTO> points(String... ids) {
+        List<QdrantPointDTO> points = new ArrayList<>();
+        for (String id : ids) {
+            QdrantPointDTO point = new QdrantPointDTO();
+            point.setId(id);
+            point.setPayload(Map.of("content", "구간 " + id + " 내용"));
+            points.add(point);
+        }
+        return points;
+    }
+}
@@ -0,0 +1,98 @@
+package com.firzzle.llm.service;
+
+import com.firzzle.llm.dto.LlmRequestDTO;
+import com.firzzle.llm.mapper.ContentMapper;
+import com.firzzle.llm.sse.SseEmitterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegistrationServiceClaimCheckTest {
+
+    private static final Long CONTENT_SEQ = 5L;
+    private static final Long SCRIPT_SEQ = 77L;
+
+    @Mock
+    private ContentMapper contentMapper;
+
+    @Mock
+    private SseEmitterRepository sseEmitterRepository;
+
+    @Mock
+    private RegistrationSubscriberService registrationSubscriberService;
+
+    @InjectMocks
+    private RegistrationService registrationService;
+
+    @Test
+    void claimCheckScriptIsLoadedIntoTheRequest() {
+        when(contentMapper.selectContentScript(SCRIPT_SEQ)).thenReturn("[0] 긴 스크립트");
+        LlmRequestDTO request = request(null, SCRIPT_SEQ);
+
+        String script = ReflectionTestUtils.invokeMethod(registrationService, "resolveScript", request);
+
+        assertThat(script).isEqualTo("[0] 긴 스크립트");
+        assertThat(request.getScript()).isEqualTo("[0] 긴 스크립트");
+    }
+
+    @Test
+    void inlineScriptNeverTouchesTheTable() {
+        String script = ReflectionTestUtils.invokeMethod(registrationService, "resolveScript", request("[0] 짧음", null));
+
+        assertThat(script).isEqualTo("[0] 짧음");
+        verifyNoInteractions(contentMapper);
+    }
+
+    @Test
+    void missingScriptMarksContentFailed() {
+        when(contentMapper.selectContentScript(SCRIPT_SEQ)).thenReturn(null);
+        when(contentMapper.selectProcessStatusByContentSeq(CONTENT_SEQ)).thenReturn("P");
+
+        assertThat(registrationService.summarizeContents(request(null, SCRIPT_SEQ))).isCompletedWithValue(null);
+
+        verify(contentMapper).updateProcessStatusByContentSeq(CONTENT_SEQ, RegistrationService.PROCESS_STATUS_FAILED);
+        verify(sseEmitterRepository).completeWithError(anyString(), anyString());
+    }
+
+    @Test
+    void redeliveryAfterCompletionIsSkippedWhenScriptWasAlreadyDeleted() {
+        when(contentMapper.selectContentScript(SCRIPT_SEQ)).thenReturn(null);
+        when(contentMapper.selectProcessStatusByContentSeq(CONTENT_SEQ)).thenReturn("C");
+
+        assertThat(registrationService.summarizeContents(request(null, SCRIPT_SEQ))).isCompletedWithValue(null);
+
+        verify(contentMapper, never()).updateProcessStatusByContentSeq(anyLong(), anyString());
+        verify(sseEmitterRepository).complete("task-1");
+    }
+
+    @Test
+    void scriptRowDeleteFailureIsOnlyLogged() {
+        when(contentMapper.deleteContentScript(SCRIPT_SEQ)).thenThrow(new IllegalStateException("db down"));
+
+        ReflectionTestUtils.invokeMethod(registrationService, "deleteClaimCheckScript", request(null, SCRIPT_SEQ));
+
+        verify(contentMapper).deleteContentScript(SCRIPT_SEQ);
+    }
+
+    private static LlmRequestDTO request(String script, Long scriptSeq) {
+        LlmRequestDTO request = new LlmRequestDTO();
+        request.setContentSeq(CONTENT_SEQ);
+        request.setUserContentSeq(6L);
+        request.setTaskId("task-1");
+        request.setScript(script);
+        request.setScriptSeq(scriptSeq);
+        return request;
+    }
+}
@@ -0,0 +1,198 @@
+package com.firzzle.llm.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firzzle.llm.cache.ContentCacheInvalidator;
+import com.firzzle.llm.kafka.consumer.SseEventConsumer;
+import com.firzzle.llm.kafka.producer.RegistrationRetryProducer;
+import com.firzzle.llm.kafka.producer.SseEventProducer;
+import com.firzzle.llm.util.KafkaHeaderUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.condition.EmbeddedKafkaCondition;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 여러 llm 인스턴스가 Kafka SSE 토픽을 공유할 때 taskId별 이벤트 id가 계속 증가하는지 검증합니다.
+ * (인스턴스마다 고유 groupId로 브로드캐스트 수신, 재시도 메시지 헤더로 마지막 id 전달)
+ */
+@EmbeddedKafka(partitions = 1, topics = {SseEventIdClusterTest.SSE_TOPIC, SseEventIdClusterTest.RETRY_TOPIC})
+class SseEventIdClusterTest {
+
+    static final String SSE_TOPIC = "llm-sse-events";
+    static final String RETRY_TOPIC = "stt-converted-retry-1m";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Instance> instances = new ArrayList<>();
+
+    private EmbeddedKafkaBroker broker;
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @BeforeEach
+    void setUp() {
+        broker = EmbeddedKafkaCondition.getBroker();
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+    }
+
+    @AfterEach
+    void tearDown() {
+        instances.forEach(instance -> instance.container.stop());
+        kafkaTemplate.destroy();
+    }
+
+    @Test
+    void eventIdsKeepIncreasingWhenAnotherInstanceContinuesTheTask() throws Exception {
+        // 준비
+        String taskId = UUID.randomUUID().toString();
+        Instance first = startInstance(new ContainerProperties(SSE_TOPIC));
+        Instance second = startInstance(new ContainerProperties(SSE_TOPIC));
+
+        // 실행: 첫 인스턴스가 발행한 이벤트를 두 번째 인스턴스도 수신한 뒤 이어서 발행
+        first.repository.sendToClient(taskId, "progress", Map.of("step", 1));
+        first.repository.sendToClient(taskId, "progress", Map.of("step", 2));
+        awaitLastEventId(second, taskId, 2);
+        second.repository.sendToClient(taskId, "progress", Map.of("step", 3));
+
+        // 검증
+        awaitLastEventId(first, taskId, 3);
+        assertThat(eventIds(first, taskId)).containsExactly(1L, 2L, 3L);
+        assertThat(eventIds(second, taskId)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void retryHeaderSeedsEventIdsOnAnInstanceThatMissedEarlierEvents() throws Exception {
+        // 준비: 첫 시도가 이벤트 3개를 발행
+        String taskId = UUID.randomUUID().toString();
+        Instance first = startInstance(new ContainerProperties(SSE_TOPIC));
+        for (int step = 1; step <= 3; step++) {
+            first.repository.sendToClient(taskId, "progress", Map.of("step", step));
+        }
+        awaitLastEventId(first, taskId, 3);
+
+        // 실패 시 마지막 이벤트 id를 재시도 메시지 헤더에 담아 전송
+        RegistrationRetryProducer retryProducer = new RegistrationRetryProducer(kafkaTemplate);
+        ReflectionTestUtils.setField(retryProducer, "retryTopics", List.of(RETRY_TOPIC));
+        ReflectionTestUtils.setField(retryProducer, "sendTimeoutMillis", 10_000L);
+        retryProducer.sendToRetryOrDlq(taskId, "{}", 0, "timeout", first.repository.lastEventId(taskId));
+
+        // 이전 이벤트를 받지 못한 새 인스턴스 (현재 토픽 끝 offset부터 소비)
+        Instance late = startInstance(new ContainerProperties(new TopicPartitionOffset(SSE_TOPIC, 0, sseEndOffset())));
+
+        // 실행: 재시도 메시지를 받은 인스턴스가 헤더의 id 이후부터 발행
+        long seed;
+        try (Consumer<String, String> consumer = retryConsumer()) {
+            ConsumerRecord<String, String> retry = KafkaTestUtils.getSingleRecord(consumer, RETRY_TOPIC, Duration.ofSeconds(10));
+            seed = KafkaHeaderUtil.getLong(retry, RegistrationRetryProducer.HEADER_SSE_LAST_EVENT_ID, 0L);
+        }
+        late.repository.seedEventId(taskId, seed);
+        late.repository.sendToClient(taskId, "progress", Map.of("step", 4));
+        late.repository.sendToClient(taskId, "progress", Map.of("step", 5));
+
+        // 검증: 재연결한 클라이언트의 Last-Event-ID(3) 이후 이벤트가 이어지는 id로 전달됨
+        assertThat(seed).isEqualTo(3L);
+        awaitLastEventId(first, taskId, 5);
+        awaitLastEventId(late, taskId, 5);
+        assertThat(eventIds(first, taskId)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(eventIds(late, taskId)).containsExactly(4L, 5L);
+    }
+
+    private Instance startInstance(ContainerProperties containerProperties) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SseReplayBuffer replayBuffer = new SseReplayBuffer();
+        ReflectionTestUtils.setField(replayBuffer, "maxEvents", 200);
+        ReflectionTestUtils.setField(replayBuffer, "ttl", 600_000L);
+
+        SseEventProducer producer = new SseEventProducer(kafkaTemplate, objectMapper);
+        ReflectionTestUtils.setField(producer, "topic", SSE_TOPIC);
+
+        SseEmitterRepository repository = new SseEmitterRepository(meterRegistry, producer, replayBuffer);
+        ReflectionTestUtils.setField(repository, "clusterEnabled", true);
+
+        SseEventConsumer consumer = new SseEventConsumer(objectMapper, repository, mock(ContentCacheInvalidator.class));
+
+        // 인스턴스마다 고유한 groupId (SseEventConsumer의 llm-sse-{instanceId})
+        Map<String, Object> props = KafkaTestUtils.consumerProps("llm-sse-" + UUID.randomUUID(), "true", broker);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        containerProperties.setMessageListener((MessageListener<String, String>) record -> consumer.consume(record.value()));
+
+        KafkaMessageListenerContainer<String, String> container =
+                new KafkaMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(props), containerProperties);
+        container.start();
+        ContainerTestUtils.waitForAssignment(container, 1);
+
+        Instance instance = new Instance(repository, replayBuffer, container);
+        instances.add(instance);
+        return instance;
+    }
+
+    private long sseEndOffset() {
+        TopicPartition partition = new TopicPartition(SSE_TOPIC, 0);
+        try (Consumer<String, String> consumer = retryConsumerFactory().createConsumer()) {
+            return consumer.endOffsets(List.of(partition)).get(partition);
+        }
+    }
+
+    private Consumer<String, String> retryConsumer() {
+        Consumer<String, String> consumer = retryConsumerFactory().createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, RETRY_TOPIC);
+        return consumer;
+    }
+
+    private DefaultKafkaConsumerFactory<String, String> retryConsumerFactory() {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("retry-" + UUID.randomUUID(), "false", broker);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    private List<Long> eventIds(Instance instance, String taskId) {
+        return instance.replayBuffer.eventsAfter(taskId, null).stream().map(SseEvent::getId).toList();
+    }
+
+    private void awaitLastEventId(Instance instance, String taskId, long expected) throws InterruptedException {
+        await(() -> instance.replayBuffer.lastEventId(taskId) >= expected);
+        assertThat(instance.replayBuffer.lastEventId(taskId)).isEqualTo(expected);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private record Instance(SseEmitterRepository repository, SseReplayBuffer replayBuffer,
+                            KafkaMessageListenerContainer<String, String> container) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.firzzle.llm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Bm25IndexTest {
+
+    private static final Bm25Index INDEX = buildLectureIndex();
+
+    @Test
+    void exactTermRanksItsDocumentFirst() {
+        List<Bm25Index.Hit> hits = INDEX.search("OAuth2는 어떻게 동작하나요?", 10);
+
+        assertThat(hits).isNotEmpty();
+        assertThat(hits.get(0).getId()).isEqualTo("2");
+        assertThat(hits.get(0).getContent()).contains("OAuth2");
+    }
+
+    @Test
+    void hitsAreSortedByScoreAndOnlyMatchingDocumentsAreReturned() {
+        List<Bm25Index.Hit> hits = INDEX.search("스트림 map", 10);
+
+        // 두 키워드가 모두 있는 문서가 먼저, 키워드가 없는 문서는 제외
+        assertThat(hits).extracting(Bm25Index.Hit::getId).containsExactly("1", "3");
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @Test
+    void limitKeepsTopHits() {
+        List<Bm25Index.Hit> hits = INDEX.search("스트림 map", 1);
+
+        assertThat(hits).extracting(Bm25Index.Hit::getId).containsExactly("1");
+    }
+
+    @Test
+    void rareTermsWeighMoreThanCommonTerms() {
+        // "설명"은 모든 문서에, "람다"는 한 문서에만 등장
+        Map<String, String> documents = new LinkedHashMap<>();
+        documents.put("a", "람다 설명");
+        documents.put("b", "설명 설명");
+        documents.put("c", "설명 예제");
+        Bm25Index index = Bm25Index.build(documents);
+
+        List<Bm25Index.Hit> hits = index.search("람다 설명", 3);
+
+        assertThat(hits.get(0).getId()).isEqualTo("a");
+    }
+
+    @Test
+    void noMatchOrEmptyIndexReturnsNothing() {
+        assertThat(INDEX.search("파이썬 장고", 10)).isEmpty();
+        assertThat(INDEX.search("스트림", 0)).isEmpty();
+        assertThat(Bm25Index.build(Map.of()).search("스트림", 10)).isEmpty();
+        assertThat(INDEX.size()).isEqualTo(4);
+    }
+
+    private static Bm25Index buildLectureIndex() {
+        Map<String, String> documents = new LinkedHashMap<>();
+        documents.put("1", "[0] 자바 스트림의 map과 filter를 살펴봅니다");
+        documents.put("2", "[30] OAuth2 인증 흐름과 JWT 토큰 검증을 설명합니다");
+        documents.put("3", "[60] 스트림 collect로 결과를 리스트에 모읍니다");
+        documents.put("4", "[90] 오늘 강의를 마무리합니다");
+        return Bm25Index.build(documents);
+    }
+}
@@ -0,0 +1,83 @@
+package com.firzzle.llm.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HNSW 근사 검색의 recall@10과 검색 시간을 전수 비교(brute force)와 비교 (./gradlew :llm:benchmark 로 실행)
+ * - 군집을 이루는 1만 개 벡터(128차원)에 대해 ef 값별 결과를 출력
+ */
+@Tag("benchmark")
+class HnswIndexBenchmarkTest {
+
+    private static final int VECTORS = 10_000;
+    private static final int DIMENSION = 128;
+    private static final int QUERIES = 200;
+    private static final int K = 10;
+
+    @Test
+    void recallAgainstBruteForce() {
+        Random random = new Random(42);
+        float[][] centers = new float[100][];
+        for (int c = 0; c < centers.length; c++) {
+            centers[c] = HnswIndexTest.randomVector(random, DIMENSION);
+        }
+        HnswIndex index = new HnswIndex(16, 100);
+        long start = System.nanoTime();
+        for (int i = 0; i < VECTORS; i++) {
+            index.add(i, HnswIndexTest.nearby(random, centers[random.nextInt(centers.length)], 0.5f));
+        }
+        double buildMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        List<float[]> queries = new ArrayList<>(QUERIES);
+        for (int q = 0; q < QUERIES; q++) {
+            queries.add(HnswIndexTest.nearby(random, centers[random.nextInt(centers.length)], 0.5f));
+        }
+        List<Set<Object>> truth = new ArrayList<>(QUERIES);
+        start = System.nanoTime();
+        for (float[] query : queries) {
+            truth.add(keys(index.bruteForceSearch(query, K, null)));
+        }
+        double bruteMicros = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+
+        System.out.printf("[benchmark] HNSW build: %d x %d, %.0f ms%n", VECTORS, DIMENSION, buildMillis);
+        System.out.printf("[benchmark] brute force: %.1f us/query%n", bruteMicros);
+
+        // 실행 / 검증
+        double recallAtDefault = 0;
+        for (int ef : new int[]{16, 32, 64, 128, 256}) {
+            for (float[] query : queries) {
+                index.search(query, K, ef, null);  // 워밍업
+            }
+            int found = 0;
+            start = System.nanoTime();
+            for (int q = 0; q < QUERIES; q++) {
+                Set<Object> approx = keys(index.search(queries.get(q), K, ef, null));
+                approx.retainAll(truth.get(q));
+                found += approx.size();
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+            double recall = (double) found / (QUERIES * K);
+            if (ef == 64) recallAtDefault = recall;
+            System.out.printf("[benchmark] HNSW ef=%d: recall@%d=%.3f, %.1f us/query (%.1fx faster)%n",
+                    ef, K, recall, micros, bruteMicros / micros);
+        }
+
+        // 기본 ef-search(64)
+        assertThat(recallAtDefault).isGreaterThanOrEqualTo(0.9);
+    }
+
+    private static Set<Object> keys(List<HnswIndex.Hit> hits) {
+        Set<Object> keys = new HashSet<>();
+        hits.forEach(hit -> keys.add(hit.getKey()));
+        return keys;
+    }
+}
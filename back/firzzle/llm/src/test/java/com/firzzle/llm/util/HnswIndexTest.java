@@ -0,0 +1,161 @@
+package com.firzzle.llm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HnswIndexTest {
+
+    // VectorDbConfig 기본값 (app.vector-db.hnsw.*)
+    private static final int M = 16;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int EF_SEARCH = 64;
+
+    private final HnswIndex index = new HnswIndex(M, EF_CONSTRUCTION);
+
+    @Test
+    void emptyIndexReturnsNothing() {
+        assertThat(index.search(new float[]{1f, 0f}, 5, EF_SEARCH, null)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void scoresAreCosineSimilarity() {
+        index.add("same", new float[]{2f, 0f});
+        index.add("diagonal", new float[]{1f, 1f});
+        index.add("opposite", new float[]{-3f, 0f});
+
+        List<HnswIndex.Hit> hits = index.search(new float[]{1f, 0f}, 3, EF_SEARCH, null);
+
+        // 크기와 무관하게 방향만 비교
+        assertThat(hits).extracting(HnswIndex.Hit::getKey).containsExactly("same", "diagonal", "opposite");
+        assertThat(hits.get(0).getScore()).isCloseTo(1.0, within(1e-6));
+        assertThat(hits.get(1).getScore()).isCloseTo(Math.sqrt(0.5), within(1e-6));
+        assertThat(hits.get(2).getScore()).isCloseTo(-1.0, within(1e-6));
+    }
+
+    @Test
+    void addingTheSameKeyReplacesTheVector() {
+        index.add("a", new float[]{1f, 0f});
+        index.add("b", new float[]{0f, 1f});
+
+        index.add("a", new float[]{0f, 2f});
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.vector("a")).containsExactly(0f, 1f);
+        assertThat(index.search(new float[]{1f, 0f}, 5, EF_SEARCH, null))
+                .extracting(HnswIndex.Hit::getKey).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void removedAndFilteredKeysAreExcluded() {
+        addRandom(300, 7);
+
+        boolean removed = index.remove(0);
+        List<HnswIndex.Hit> hits = index.search(index.vector(1), 20, EF_SEARCH, key -> (Integer) key % 2 == 1);
+
+        assertThat(removed).isTrue();
+        assertThat(index.remove(0)).isFalse();
+        assertThat(index.size()).isEqualTo(299);
+        assertThat(index.vector(0)).isNull();
+        assertThat(hits).hasSize(20).allMatch(hit -> (Integer) hit.getKey() % 2 == 1);
+        assertThat(hits.get(0).getKey()).isEqualTo(1);
+    }
+
+    @Test
+    void removingMostNodesRebuildsTheGraph() {
+        addRandom(200, 11);
+
+        // 삭제된 노드가 살아있는 노드보다 많아지도록 삭제
+        for (int i = 0; i < 150; i++) {
+            index.remove(i);
+        }
+
+        // 남은 노드는 모두 검색 가능
+        for (int i = 150; i < 200; i++) {
+            assertThat(index.search(index.vector(i), 1, EF_SEARCH, null).get(0).getKey()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void dimensionMismatchIsRejected() {
+        index.add("a", new float[]{1f, 0f});
+
+        assertThatThrownBy(() -> index.add("b", new float[]{1f, 0f, 0f}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search(new float[]{1f}, 1, EF_SEARCH, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void exactSearchComparesOnlyGivenKeys() {
+        index.add("a", new float[]{1f, 0f});
+        index.add("b", new float[]{0.9f, 0.1f});
+        index.add("c", new float[]{0f, 1f});
+
+        List<HnswIndex.Hit> hits = index.exactSearch(new float[]{1f, 0f}, 5, List.of("b", "c", "missing"));
+
+        assertThat(hits).extracting(HnswIndex.Hit::getKey).containsExactly("b", "c");
+    }
+
+    @Test
+    void approximateSearchRecallIsCloseToBruteForce() {
+        // 임베딩처럼 군집을 이루는 벡터 2,000개
+        Random random = new Random(42);
+        int dimension = 32;
+        float[][] centers = new float[20][];
+        for (int c = 0; c < centers.length; c++) {
+            centers[c] = randomVector(random, dimension);
+        }
+        for (int i = 0; i < 2_000; i++) {
+            index.add(i, nearby(random, centers[random.nextInt(centers.length)], 0.3f));
+        }
+
+        int found = 0;
+        int expected = 0;
+        for (int q = 0; q < 100; q++) {
+            float[] query = nearby(random, centers[random.nextInt(centers.length)], 0.3f);
+            Set<Object> truth = keys(index.bruteForceSearch(query, 10, null));
+            Set<Object> approx = keys(index.search(query, 10, EF_SEARCH, null));
+            approx.retainAll(truth);
+            found += approx.size();
+            expected += truth.size();
+        }
+
+        // recall@10
+        assertThat((double) found / expected).isGreaterThanOrEqualTo(0.9);
+    }
+
+    // 키 0 ~ count-1에 16차원 무작위 벡터 추가
+    private void addRandom(int count, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            index.add(i, randomVector(random, 16));
+        }
+    }
+
+    private static Set<Object> keys(List<HnswIndex.Hit> hits) {
+        Set<Object> keys = new HashSet<>();
+        hits.forEach(hit -> keys.add(hit.getKey()));
+        return keys;
+    }
+
+    static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) vector[i] = (float) random.nextGaussian();
+        return vector;
+    }
+
+    static float[] nearby(Random random, float[] center, float noise) {
+        float[] vector = new float[center.length];
+        for (int i = 0; i < center.length; i++) vector[i] = center[i] + (float) random.nextGaussian() * noise;
+        return vector;
+    }
+}
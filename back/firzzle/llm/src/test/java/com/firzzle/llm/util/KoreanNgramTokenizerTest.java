@@ -0,0 +1,38 @@
+package com.firzzle.llm.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanNgramTokenizerTest {
+
+    @Test
+    void hangulRunsAreSplitIntoBigrams() {
+        assertThat(KoreanNgramTokenizer.tokenize("스트림을")).containsExactly("스트", "트림", "림을");
+    }
+
+    @Test
+    void singleHangulSyllableIsKept() {
+        assertThat(KoreanNgramTokenizer.tokenize("왜 그럴까")).containsExactly("왜", "그럴", "럴까");
+    }
+
+    @Test
+    void alphanumericRunsAreLowercasedWords() {
+        // 영문/숫자는 한 단어로, 한글과 붙어 있어도 분리
+        assertThat(KoreanNgramTokenizer.tokenize("OAuth2는 JWT를"))
+                .containsExactly("oauth2", "는", "jwt", "를");
+    }
+
+    @Test
+    void symbolsAndWhitespaceAreDelimiters() {
+        assertThat(KoreanNgramTokenizer.tokenize("[12] map()·filter, 자바!"))
+                .containsExactly("12", "map", "filter", "자바");
+    }
+
+    @Test
+    void emptyTextHasNoTokens() {
+        assertThat(KoreanNgramTokenizer.tokenize(null)).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenize("")).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenize(" ,.! ")).isEmpty();
+    }
+}
@@ -0,0 +1,41 @@
+package com.firzzle.llm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenCounterTest {
+
+    @Test
+    void emptyTextHasNoTokens() {
+        assertThat(TokenCounter.count(null)).isZero();
+        assertThat(TokenCounter.count("")).isZero();
+    }
+
+    @Test
+    void countsWithO200kEncoding() {
+        // o200k_base 기준 "hello world"는 2토큰
+        assertThat(TokenCounter.count("hello world")).isEqualTo(2);
+    }
+
+    @Test
+    void countsKoreanText() {
+        String text = "[12] 오늘은 자바 스트림의 map과 filter를 살펴봅니다";
+
+        int tokens = TokenCounter.count(text);
+
+        // 글자 수보다 적고, 문장이 길어지면 토큰도 늘어남
+        assertThat(tokens).isPositive().isLessThan(text.length());
+        assertThat(TokenCounter.count(text + " " + text)).isGreaterThan(tokens);
+    }
+
+    @Test
+    void charSequenceViewCountsLikeString() {
+        String script = "[0] 안녕하세요\n[5] 스트림을 배웁니다";
+        CharBuffer secondLine = CharBuffer.wrap(script, script.indexOf('\n') + 1, script.length());
+
+        assertThat(TokenCounter.count(secondLine)).isEqualTo(TokenCounter.count("[5] 스트림을 배웁니다"));
+    }
+}
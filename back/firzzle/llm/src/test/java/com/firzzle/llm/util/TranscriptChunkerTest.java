@@ -0,0 +1,93 @@
+package com.firzzle.llm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptChunkerTest {
+
+    private static final List<String> LINES = lines(200);
+    private static final List<TranscriptChunker.Window> WINDOWS =
+            TranscriptChunker.split(TranscriptIndex.of(String.join("\n", LINES)), 300, 60);
+
+    @Test
+    void shortTranscriptIsASingleWindow() {
+        TranscriptIndex transcript = TranscriptIndex.of("[0] 안녕하세요\n[5] 자바 스트림을 배웁니다");
+
+        List<TranscriptChunker.Window> windows = TranscriptChunker.split(transcript, 1_000, 100);
+
+        assertThat(windows).hasSize(1);
+        TranscriptChunker.Window window = windows.get(0);
+        assertThat(window.getText()).isEqualTo("[0] 안녕하세요\n[5] 자바 스트림을 배웁니다");
+        assertThat(window.getOwnedFromSeconds()).isZero();
+        assertThat(window.getOwnedUntilSeconds()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void longTranscriptIsSplitIntoOverlappingWindows() {
+        // 토큰 한도를 지키고, 이웃 구간은 줄 단위로 겹침
+        assertThat(WINDOWS).hasSizeGreaterThan(1);
+        for (int k = 0; k < WINDOWS.size(); k++) {
+            TranscriptChunker.Window window = WINDOWS.get(k);
+            assertThat(window.getTokens()).isLessThanOrEqualTo(300);
+            if (k > 0) {
+                String[] previous = WINDOWS.get(k - 1).getText().split("\n");
+                String firstLine = window.getText().split("\n")[0];
+                assertThat(previous).contains(firstLine);
+                assertThat(firstLine).isNotEqualTo(previous[0]);
+            }
+        }
+
+        // 모든 줄이 잘리지 않고 어느 구간에든 포함
+        List<String> covered = new ArrayList<>();
+        WINDOWS.forEach(window -> covered.addAll(List.of(window.getText().split("\n"))));
+        assertThat(covered).containsAll(LINES);
+    }
+
+    @Test
+    void ownedRangesAreContiguousAndFallInsideTheOverlap() {
+        // 담당 범위가 빈틈없이 이어지고, 경계는 다음 구간 시작 ~ 이 구간 끝 사이
+        assertThat(WINDOWS.get(0).getOwnedFromSeconds()).isZero();
+        assertThat(WINDOWS.get(WINDOWS.size() - 1).getOwnedUntilSeconds()).isEqualTo(Integer.MAX_VALUE);
+        for (int k = 0; k < WINDOWS.size() - 1; k++) {
+            TranscriptChunker.Window window = WINDOWS.get(k);
+            TranscriptChunker.Window next = WINDOWS.get(k + 1);
+            assertThat(next.getOwnedFromSeconds()).isEqualTo(window.getOwnedUntilSeconds());
+            assertThat(window.getOwnedUntilSeconds())
+                    .isGreaterThan(window.getOwnedFromSeconds())
+                    .isBetween(firstSeconds(next), lastSeconds(window) + 1);
+        }
+    }
+
+    @Test
+    void lineLongerThanTheLimitGetsItsOwnWindow() {
+        String longLine = "[10] " + "스트림 ".repeat(200);
+        TranscriptIndex transcript = TranscriptIndex.of("[0] 시작\n" + longLine + "\n[20] 끝");
+
+        List<TranscriptChunker.Window> windows = TranscriptChunker.split(transcript, 50, 10);
+
+        // 한 줄은 자르지 않으므로 한도를 넘는 줄도 그대로 한 구간이 됨
+        assertThat(windows).extracting(TranscriptChunker.Window::getText).anyMatch(longLine::equals);
+        assertThat(windows.get(windows.size() - 1).getText()).endsWith("[20] 끝");
+    }
+
+    private static List<String> lines(int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add("[" + (i * 4) + "] 문장 " + i + " 에서는 스트림과 컬렉션 처리 방법을 설명합니다");
+        }
+        return lines;
+    }
+
+    private int firstSeconds(TranscriptChunker.Window window) {
+        return TranscriptIndex.of(window.getText()).secondsAt(0);
+    }
+
+    private int lastSeconds(TranscriptChunker.Window window) {
+        TranscriptIndex index = TranscriptIndex.of(window.getText());
+        return index.secondsAt(index.size() - 1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.firzzle.llm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptIndexTest {
+
+    private static final String SCRIPT = String.join("\n",
+            "[0] 안녕하세요",
+            "[5] 오늘은 자바 스트림을 배웁니다",
+            "[12] map과 filter를 살펴봅니다",
+            "[20] collect로 결과를 모읍니다",
+            "[31] 마무리합니다");
+
+    private final TranscriptIndex lecture = TranscriptIndex.of(SCRIPT);
+
+    @Test
+    void sliceReturnsLinesFromStartUntilEnd() {
+        String slice = lecture.sliceText("5", "20");
+
+        // start 이상, end 미만
+        assertThat(slice).isEqualTo("[5] 오늘은 자바 스트림을 배웁니다\n[12] map과 filter를 살펴봅니다");
+    }
+
+    @Test
+    void sliceMatchesExtractChunk() {
+        List<String> lines = Arrays.asList(SCRIPT.split("\n"));
+        String[][] ranges = {{"0", "5"}, {"3", "25"}, {"12", "12"}, {"20", "100"}, {"40", "50"}, {"0", "00:00:31"}};
+
+        for (String[] range : ranges) {
+            String slice = lecture.sliceText(range[0], range[1]);
+
+            // 기존 줄 단위 추출과 같은 결과
+            String expected = String.join("\n", ScriptUtils.extractChunk(lines, range[0], range[1])).trim();
+            assertThat(slice).as("%s ~ %s", range[0], range[1]).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void acceptsClockTimestamps() {
+        TranscriptIndex index = TranscriptIndex.of("[00:00:10] 첫 줄\n[00:01:05] 둘째 줄\n[01:00:00] 셋째 줄");
+
+        String slice = index.sliceText("00:01:00", "3600");
+
+        assertThat(index.secondsAt(1)).isEqualTo(65);
+        assertThat(slice).isEqualTo("[00:01:05] 둘째 줄");
+    }
+
+    @Test
+    void bracketsAreSearchedOnlyWithinTheLine() {
+        // 대괄호 없는 줄 다음 줄의 대괄호가 섞이지 않아야 함
+        TranscriptIndex index = TranscriptIndex.of("타임스탬프 없는 줄\n[7] 다음 줄\n괄호 없는 마지막 줄");
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.secondsAt(0)).isZero();
+        assertThat(index.secondsAt(1)).isEqualTo(7);
+        assertThat(index.secondsAt(2)).isZero();
+        assertThat(index.lineAt(1).toString()).isEqualTo("[7] 다음 줄");
+    }
+
+    @Test
+    void unsortedScriptFallsBackToLinearSearch() {
+        TranscriptIndex index = TranscriptIndex.of("[10] 가\n[3] 나\n[15] 다\n[20] 라");
+
+        String slice = index.sliceText("10", "20");
+
+        // 정렬되지 않은 경우에도 extractChunk와 같은 결과
+        String expected = String.join("\n", ScriptUtils.extractChunk(
+                List.of("[10] 가", "[3] 나", "[15] 다", "[20] 라"), "10", "20"));
+        assertThat(slice).isEqualTo(expected).isEqualTo("[10] 가\n[3] 나\n[15] 다");
+    }
+
+    @Test
+    void trailingEmptyLinesAreIgnored() {
+        TranscriptIndex index = TranscriptIndex.of("[1] 가\n[2] 나\n\n\n");
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.text(0, 2)).isEqualTo("[1] 가\n[2] 나");
+        assertThat(index.text(1, 1)).isEmpty();
+    }
+}
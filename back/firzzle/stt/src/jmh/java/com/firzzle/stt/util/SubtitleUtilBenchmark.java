@@ -0,0 +1,99 @@
+package com.firzzle.stt.util;
+
+import com.firzzle.stt.dto.ScriptLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SRT → 스크립트 변환 JMH 벤치마크 (./gradlew :stt:jmh)
+ * - 자동 생성 자막처럼 이전 자막의 뒷부분이 다음 자막 앞에 반복되는 여러 시간 분량의 SRT를 사용
+ * - legacy: 스트리밍 파서 도입 전 구현 (readAllLines + 줄마다 정규식)
+ * - streaming: 현재 구현 (ScriptProcessorService가 사용하는 appendScript)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class SubtitleUtilBenchmark {
+
+    // 영상 길이 (시간), 3초마다 자막 1개
+    @Param({"1", "3"})
+    private int hours;
+
+    private Path srt;
+    private int capacity;
+
+    @Setup(Level.Trial)
+    public void writeSubtitle() throws IOException {
+        srt = Files.createTempFile("benchmark-", ".ko.srt");
+        int cues = hours * 1_200;
+        try (BufferedWriter writer = Files.newBufferedWriter(srt, StandardCharsets.UTF_8)) {
+            String previous = "";
+            for (int i = 0; i < cues; i++) {
+                long startMillis = i * 3_000L;
+                String fresh = "문장 " + i + " 에서는 스트림과 컬렉션 처리 방법을 설명합니다";
+                writer.write((i + 1) + "\n");
+                writer.write(timestamp(startMillis) + " --> " + timestamp(startMillis + 3_000L) + "\n");
+                writer.write((previous.isEmpty() ? fresh : previous + "\n" + fresh) + "\n\n");
+                previous = fresh;
+            }
+        }
+        capacity = (int) (Files.size(srt) / 2);
+
+        // 두 구현의 결과가 같은지 먼저 확인
+        String expected = LegacySubtitleUtil.cleanSrtToText(srt);
+        StringBuilder actual = new StringBuilder(capacity);
+        SubtitleUtil.appendScript(srt, actual);
+        if (!expected.contentEquals(actual)) {
+            throw new IllegalStateException("legacy와 streaming 결과가 다릅니다.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSubtitle() throws IOException {
+        Files.deleteIfExists(srt);
+    }
+
+    @Benchmark
+    public String legacy() throws IOException {
+        return LegacySubtitleUtil.cleanSrtToText(srt);
+    }
+
+    @Benchmark
+    public StringBuilder streaming() throws IOException {
+        StringBuilder script = new StringBuilder(capacity);
+        SubtitleUtil.appendScript(srt, script);
+        return script;
+    }
+
+    @Benchmark
+    public List<ScriptLine> streamingStructured() throws IOException {
+        return SubtitleUtil.parseSrt(srt);
+    }
+
+    private static String timestamp(long millis) {
+        return String.format("%02d:%02d:%02d,%03d",
+                millis / 3_600_000, millis / 60_000 % 60, millis / 1_000 % 60, millis % 1_000);
+    }
+}
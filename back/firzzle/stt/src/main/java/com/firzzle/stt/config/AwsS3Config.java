@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Configuration
@@ -23,4 +24,20 @@ public class AwsS3Config {
                 .credentialsProvider(StaticCredentialsProvider.create(creds))
                 .build();
     }
+
+    /**
+     * 여러 프레임 이미지를 동시에 업로드하기 위한 비동기 클라이언트 (netty-nio)
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient(
+        @Value("${cloud.aws.credentials.access-key}") String accessKey,
+        @Value("${cloud.aws.credentials.secret-key}") String secretKey,
+        @Value("${cloud.aws.region.static}") String region
+    ) {
+        AwsBasicCredentials creds = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(creds))
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.firzzle.stt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 스냅리뷰 프레임 추출(ffmpeg 프로세스) 전용 풀 - 동시에 실행되는 ffmpeg 수를 제한
+     * (주입 시 @Qualifier("frameExtractorExecutor") 사용)
+     */
+    @Bean(name = "frameExtractorExecutor")
+    public ThreadPoolTaskExecutor frameExtractorExecutor(@Value("${app.snap-review.ffmpeg-concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("FFMPEG-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 기본 실행기 (applicationTaskExecutor / taskExecutor)
+     * - Executor 빈이 하나라도 있으면 Boot 자동 구성이 기본 실행기를 만들지 않으므로,
+     *   자동 구성과 같은 방식(spring.task.execution.* 설정)으로 직접 등록 (MVC 비동기, @Async("taskExecutor") 등에서 사용)
+     */
+    @Lazy
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
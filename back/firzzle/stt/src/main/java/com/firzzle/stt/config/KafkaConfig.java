@@ -1,9 +1,26 @@
 package com.firzzle.stt.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 
 @Configuration
 @EnableKafka
 public class KafkaConfig {
+
+    /**
+     * snap-review 전용 리스너 컨테이너
+     * - 처리 완료 또는 DLQ 전송 완료 후 수동 ack (DLQ 전송 실패 시 nack으로 재전달)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> snapReviewListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
 }
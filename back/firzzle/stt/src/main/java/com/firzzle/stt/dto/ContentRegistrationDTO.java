@@ -0,0 +1,30 @@
+package com.firzzle.stt.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : ContentRegistrationDTO.java
+ * @Description : 영상별 진행 중인 등록 작업 정보 (같은 영상 동시 등록 합류용)
+ * @author Firzzle
+ * @since 2025. 5. 20.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "진행 중인 콘텐츠 등록 정보")
+public class ContentRegistrationDTO {
+
+    @Schema(description = "YouTube 영상 ID", example = "dQw4w9WgXcQ")
+    private String videoId;
+
+    @Schema(description = "대표 작업 ID", example = "a1b2c3d4-5678-90ab-cdef-123456789012")
+    private String taskId;
+
+    @Schema(description = "콘텐츠 일련 번호 (콘텐츠 저장 후 채워짐)", example = "1001")
+    private Long contentSeq;
+
+    @Schema(description = "등록일시 (YYYYMMDDHHMMSS)", example = "20250520101010")
+    private String indate;
+}
@@ -0,0 +1,30 @@
+package com.firzzle.stt.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * @Class Name : ContentScriptDTO.java
+ * @Description : Kafka 메시지 대신 DB에 보관하는 긴 스크립트 (claim-check)
+ * @author Firzzle
+ * @since 2025. 5. 20.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "claim-check 스크립트 정보")
+public class ContentScriptDTO {
+
+    @Schema(description = "스크립트 일련 번호", example = "1")
+    private Long scriptSeq;
+
+    @Schema(description = "콘텐츠 일련 번호", example = "1001")
+    private Long contentSeq;
+
+    @Schema(description = "영상 전체 스크립트")
+    private String script;
+
+    @Schema(description = "등록일시 (YYYYMMDDHHMMSS)", example = "20250520101010")
+    private String indate;
+}
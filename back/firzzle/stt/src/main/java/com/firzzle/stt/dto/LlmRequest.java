@@ -14,4 +14,9 @@ public class LlmRequest {
     private String taskId;
     private boolean isError;
     private String errorMessage;
+    private Long scriptSeq; // 긴 스크립트를 DB에 보관한 경우의 참조 (claim-check)
+
+    public LlmRequest(Long userContentSeq, Long contentSeq, String script, String taskId, boolean isError, String errorMessage) {
+        this(userContentSeq, contentSeq, script, taskId, isError, errorMessage, null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.firzzle.stt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @Class Name : ScriptLine.java
+ * @Description : 자막에서 추출한 스크립트 한 줄 (시작 시각(초) + 텍스트)
+ * @author Firzzle
+ * @since 2025. 5. 20.
+ */
+@Getter
+@AllArgsConstructor
+public class ScriptLine {
+
+    private final int seconds;
+
+    private final String text;
+}
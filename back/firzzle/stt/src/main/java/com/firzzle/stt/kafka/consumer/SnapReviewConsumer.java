@@ -2,6 +2,7 @@ package com.firzzle.stt.kafka.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.firzzle.stt.dto.SnapReviewRequestDTO;
+import com.firzzle.stt.kafka.producer.SnapReviewDlqProducer;
 import com.firzzle.stt.service.SnapReviewService;
 import com.firzzle.stt.service.ScriptProcessorService;
 
@@ -11,8 +12,11 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,21 +25,26 @@ public class SnapReviewConsumer {
     private final ObjectMapper objectMapper;
     private static final Logger logger = LoggerFactory.getLogger(ScriptProcessorService.class);
     private final SnapReviewService snapReviewService;
+    private final SnapReviewDlqProducer snapReviewDlqProducer;
+
+    // DLQ 전송 실패 시 재전달까지 대기 시간
+    private static final Duration DLQ_RETRY_BACKOFF = Duration.ofSeconds(10);
 
-    @KafkaListener(topics = "snap-review", groupId = "snap-review-group")
-    public void consumeSnapReview(ConsumerRecord<String, String> record) {
+    @KafkaListener(topics = "snap-review", groupId = "snap-review-group",
+            containerFactory = "snapReviewListenerContainerFactory")
+    public void consumeSnapReview(ConsumerRecord<String, String> record, Acknowledgment ack) {
         String message = record.value();
         log.info("📥 SnapReview 메시지 수신: {}", message);
 
+        SnapReviewRequestDTO dto;
         try {
-            SnapReviewRequestDTO dto = objectMapper.readValue(message, SnapReviewRequestDTO.class);
-            handleSnapReview(dto);
+            dto = objectMapper.readValue(message, SnapReviewRequestDTO.class);
         } catch (Exception e) {
             logger.error("❌ SnapReview 메시지 처리 중 오류", e);
+            sendToDlqOrNack(record, "메시지 파싱 실패: " + e.getMessage(), ack);
+            return;
         }
-    }
 
-    private void handleSnapReview(SnapReviewRequestDTO dto) {
         Long contentSeq = dto.getContentSeq();
         try {
             logger.info("🛠️ SnapReview 처리 시작 - contentSeq: {}, timeline: {}", contentSeq, dto.getTimeline());
@@ -43,7 +52,23 @@ public class SnapReviewConsumer {
             logger.info("✅ SnapReview 처리 완료 - contentSeq: {}", contentSeq);
         } catch (Exception e) {
             logger.error("❌ SnapReview 처리 실패 - contentSeq: {}", contentSeq, e);
+            sendToDlqOrNack(record, e.getMessage(), ack);
+            return;
+        }
+        ack.acknowledge();
+    }
+
+    /**
+     * 실패 메시지를 DLQ로 보낸 뒤 ack합니다. 전송에 실패하면 nack으로 잠시 뒤 같은 메시지를 다시 처리합니다.
+     */
+    private void sendToDlqOrNack(ConsumerRecord<String, String> record, String errorMessage, Acknowledgment ack) {
+        try {
+            snapReviewDlqProducer.sendToDlq(record.key(), record.value(), errorMessage);
+        } catch (Exception e) {
+            logger.error("❌ SnapReview DLQ 전송 실패 - 재전달 대기: offset={}", record.offset(), e);
+            ack.nack(DLQ_RETRY_BACKOFF);
+            return;
         }
-        
+        ack.acknowledge();
     }
 }
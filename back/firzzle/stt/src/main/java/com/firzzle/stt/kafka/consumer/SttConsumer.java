@@ -7,6 +7,7 @@ import com.firzzle.common.library.RequestBox;
 import com.firzzle.common.library.StringManager;
 import com.firzzle.stt.dto.LlmRequest;
 import com.firzzle.stt.kafka.producer.SttConvertedProducer;
+import com.firzzle.stt.service.ContentRegistrationService;
 import com.firzzle.stt.service.ContentService;
 import com.firzzle.stt.service.ScriptProcessorService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class SttConsumer {
     private final ScriptProcessorService sttService;
     private final ContentService contentService;
     private final SttConvertedProducer sttConvertedProducer;
+    private final ContentRegistrationService contentRegistrationService;
 
     @KafkaListener(topics = "to-stt", groupId = "stt-group")
     public void consumeFromLearning(String message) {
@@ -63,9 +65,20 @@ public class SttConsumer {
                 return;
             }
 
+            // 3. 같은 영상이 처리 중이면 새 파이프라인을 만들지 않고 진행 중인 작업에 합류
+            //    (llm 서버가 대표 작업의 SSE 진행 이벤트를 이 taskId로도 보내고 사용자 콘텐츠를 연결)
+            if (!contentRegistrationService.claim(videoId, uuid, taskId)) {
+                return;
+            }
+
             log.info("🔍 Parsed uuid: {}, url: {}", uuid, url);
 
-            sttService.transcribeFromYoutube(uuid, url, taskId); // 비동기 처리 (sendSttResult 포함)
+            try {
+                sttService.transcribeFromYoutube(uuid, url, taskId); // 비동기 처리 (sendSttResult 포함)
+            } catch (Exception e) {
+                contentRegistrationService.releaseWithError(taskId, "STT 처리 중 오류가 발생했습니다.");
+                throw e;
+            }
         } catch (Exception e) {
             log.error("❌ STT 처리 중 오류 또는 메시지 포맷 문제", e);
         }
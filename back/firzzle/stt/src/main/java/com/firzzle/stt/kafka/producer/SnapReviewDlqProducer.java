@@ -0,0 +1,60 @@
+package com.firzzle.stt.kafka.producer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 처리에 실패한 snap-review 메시지를 DLQ로 보냅니다.
+ * DLQ 메시지는 llm 서버에서 보관되며 관리자 API로 재처리할 수 있습니다.
+ * 브로커 응답까지 기다리며, 전송에 실패하면 예외를 던집니다. (호출 측은 성공한 경우에만 원본 메시지를 ack)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapReviewDlqProducer {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    private static final String SOURCE_TOPIC = "snap-review";
+    private static final String DLQ_TOPIC = "snap-review-dlq";
+
+    // llm 서버 RegistrationRetryProducer와 동일한 헤더 이름
+    private static final String HEADER_ATTEMPT = "x-retry-attempt";
+    private static final String HEADER_SOURCE_TOPIC = "x-source-topic";
+    private static final String HEADER_ERROR = "x-error-message";
+
+    @Value("${app.snap-review.dlq-send-timeout:30000}")
+    private long sendTimeoutMillis;
+
+    /**
+     * @throws IllegalStateException 전송 실패 또는 시간 초과
+     */
+    public void sendToDlq(String key, String message, String errorMessage) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(DLQ_TOPIC, key, message);
+        record.headers().add(HEADER_SOURCE_TOPIC, SOURCE_TOPIC.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_ATTEMPT, "0".getBytes(StandardCharsets.UTF_8));
+        if (errorMessage != null) {
+            record.headers().add(HEADER_ERROR, errorMessage.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try {
+            kafkaTemplate.send(record).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("SnapReview DLQ 전송 대기 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("SnapReview DLQ 전송 실패: " + cause.getMessage(), cause);
+        }
+        log.warn("☠️ SnapReview 메시지 DLQ 전송: {}", errorMessage);
+    }
+}
@@ -2,12 +2,21 @@ package com.firzzle.stt.kafka.producer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firzzle.stt.dto.ContentScriptDTO;
 import com.firzzle.stt.dto.LlmRequest;
+import com.firzzle.stt.mapper.ContentMapper;
+import com.firzzle.stt.util.TimeUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * STT 결과를 stt-converted 토픽으로 전송합니다.
+ * - 메시지 압축은 프로듀서 설정(compression-type: zstd)으로 배치 단위로 처리됩니다.
+ * - 스크립트가 claim-check 기준 길이를 넘으면 DB에 보관하고 scriptSeq 참조만 전송합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -15,17 +24,47 @@ public class SttConvertedProducer {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper; // ✅ 추가
+    private final ContentMapper contentMapper;
 
     private static final String TOPIC_NAME = "stt-converted";
 
+    // 이 길이(문자 수)를 넘는 스크립트는 DB에 보관 후 참조만 전송 (0 이하면 비활성화)
+    @Value("${app.kafka.stt-converted.claim-check-threshold:262144}")
+    private int claimCheckThreshold;
+
     public void sendSttResult(LlmRequest request) {
         try {
+            applyClaimCheck(request);
             String json = objectMapper.writeValueAsString(request);
-            log.info(json);
-            kafkaTemplate.send(TOPIC_NAME, json);
-            log.info("✅ STT 결과 Kafka 전송 완료");
+            // 같은 콘텐츠의 메시지는 같은 파티션으로 전송
+            String key = request.getContentSeq() != null ? String.valueOf(request.getContentSeq()) : request.getTaskId();
+            kafkaTemplate.send(TOPIC_NAME, key, json);
+            log.info("✅ STT 결과 Kafka 전송 완료: contentSeq={}, bytes={}, scriptSeq={}",
+                    request.getContentSeq(), json.length(), request.getScriptSeq());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Kafka 전송용 JSON 직렬화 실패", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 긴 스크립트를 DB에 저장하고 메시지에는 scriptSeq만 남깁니다.
+     */
+    private void applyClaimCheck(LlmRequest request) {
+        String script = request.getScript();
+        if (claimCheckThreshold <= 0 || script == null || script.length() <= claimCheckThreshold) {
+            return;
+        }
+
+        ContentScriptDTO contentScript = ContentScriptDTO.builder()
+                .contentSeq(request.getContentSeq())
+                .script(script)
+                .indate(TimeUtil.getCurrentTimestamp14())
+                .build();
+        contentMapper.insertContentScript(contentScript);
+
+        request.setScriptSeq(contentScript.getScriptSeq());
+        request.setScript(null);
+        log.info("📦 스크립트 claim-check 저장: contentSeq={}, scriptSeq={}, length={}",
+                request.getContentSeq(), contentScript.getScriptSeq(), script.length());
+    }
+}
@@ -4,6 +4,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import com.firzzle.stt.dto.ContentDTO;
+import com.firzzle.stt.dto.ContentScriptDTO;
 
 @Mapper
 public interface ContentMapper {
@@ -18,6 +19,11 @@ public interface ContentMapper {
      */
     Long existsByVideoId(@Param("videoId") String videoId);
 
+    /**
+     * 긴 스크립트를 claim-check 용도로 저장 (생성된 scriptSeq가 DTO에 채워짐)
+     */
+    int insertContentScript(ContentScriptDTO contentScriptDTO);
+
     /**
      * contentSeq 기준으로 URL 조회
      */
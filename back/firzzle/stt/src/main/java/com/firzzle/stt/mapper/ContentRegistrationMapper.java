@@ -0,0 +1,64 @@
+package com.firzzle.stt.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.firzzle.stt.dto.ContentRegistrationDTO;
+
+@Mapper
+public interface ContentRegistrationMapper {
+
+    /**
+     * 진행 중 등록 선점 (이미 같은 영상이 진행 중이면 0 반환)
+     */
+    int insertRegistration(@Param("videoId") String videoId, @Param("taskId") String taskId, @Param("indate") String indate);
+
+    /**
+     * videoId 기준 진행 중 등록 조회
+     */
+    ContentRegistrationDTO selectRegistration(@Param("videoId") String videoId);
+
+    /**
+     * 오래된(중단된) 진행 중 등록을 새 작업이 넘겨받음
+     */
+    int updateStaleRegistration(@Param("videoId") String videoId,
+                                @Param("oldTaskId") String oldTaskId,
+                                @Param("taskId") String taskId,
+                                @Param("indate") String indate,
+                                @Param("staleBefore") String staleBefore);
+
+    /**
+     * 진행 중 등록에 구독 요청으로 합류 (진행 중 등록이 없으면 0 반환)
+     */
+    int insertSubscriber(@Param("videoId") String videoId,
+                         @Param("uuid") String uuid,
+                         @Param("taskId") String taskId,
+                         @Param("indate") String indate);
+
+    /**
+     * 구독 요청을 다른 대표 작업으로 이동
+     */
+    int updateSubscribersLeader(@Param("oldTaskId") String oldTaskId, @Param("taskId") String taskId);
+
+    /**
+     * 대표 작업이 저장한 콘텐츠 일련 번호 기록
+     */
+    int updateRegistrationContentSeq(@Param("taskId") String taskId, @Param("contentSeq") Long contentSeq);
+
+    /**
+     * 대표 작업의 구독 작업 ID 목록 조회
+     */
+    List<String> selectSubscriberTaskIds(@Param("leaderTaskId") String leaderTaskId);
+
+    /**
+     * 진행 중 등록 해제
+     */
+    int deleteRegistration(@Param("taskId") String taskId);
+
+    /**
+     * 대표 작업의 구독 요청 삭제
+     */
+    int deleteSubscribers(@Param("leaderTaskId") String leaderTaskId);
+}
@@ -0,0 +1,100 @@
+package com.firzzle.stt.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.firzzle.stt.dto.ContentRegistrationDTO;
+import com.firzzle.stt.dto.LlmRequest;
+import com.firzzle.stt.kafka.producer.SttConvertedProducer;
+import com.firzzle.stt.mapper.ContentRegistrationMapper;
+import com.firzzle.stt.util.TimeUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @Class Name : ContentRegistrationService.java
+ * @Description : 같은 영상의 동시 등록을 하나의 파이프라인으로 합치는 진행 중 등록 관리 서비스
+ *                (videoId 단위 선점, 나머지 요청은 구독 요청으로 합류해 llm 서버에서 SSE 진행 이벤트를 함께 받음)
+ * @author Firzzle
+ * @since 2025. 5. 20.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentRegistrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentRegistrationService.class);
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private final ContentRegistrationMapper registrationMapper;
+    private final SttConvertedProducer sttConvertedProducer;
+
+    // 이 시간이 지난 진행 중 등록은 중단된 것으로 보고 새 요청이 넘겨받음 (밀리초)
+    @Value("${app.registration.claim-ttl:1800000}")
+    private long claimTtl;
+
+    /**
+     * 영상 등록을 선점합니다.
+     *
+     * @return true: 이 요청이 대표 작업으로 파이프라인을 실행 / false: 진행 중인 작업에 구독 요청으로 합류
+     */
+    public boolean claim(String videoId, String uuid, String taskId) {
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            String now = TimeUtil.getCurrentTimestamp14();
+            if (registrationMapper.insertRegistration(videoId, taskId, now) > 0) {
+                logger.info("🎬 등록 선점: videoId={}, taskId={}", videoId, taskId);
+                return true;
+            }
+
+            ContentRegistrationDTO current = registrationMapper.selectRegistration(videoId);
+            if (current == null) {
+                continue; // 그 사이 해제됨 - 다시 선점 시도
+            }
+
+            String staleBefore = TimeUtil.getTimestamp14Before(claimTtl);
+            if (registrationMapper.updateStaleRegistration(videoId, current.getTaskId(), taskId, now, staleBefore) > 0) {
+                registrationMapper.updateSubscribersLeader(current.getTaskId(), taskId);
+                logger.warn("⚠️ 중단된 등록 넘겨받음: videoId={}, oldTaskId={}, taskId={}", videoId, current.getTaskId(), taskId);
+                return true;
+            }
+
+            if (registrationMapper.insertSubscriber(videoId, uuid, taskId, now) > 0) {
+                logger.info("🔗 진행 중 등록에 합류: videoId={}, leader={}, taskId={}", videoId, current.getTaskId(), taskId);
+                return false;
+            }
+        }
+
+        // 선점/합류가 계속 경합하면 단독으로 처리
+        logger.warn("⚠️ 등록 선점 경합 - 단독 처리: videoId={}, taskId={}", videoId, taskId);
+        return true;
+    }
+
+    /**
+     * 대표 작업이 저장한 콘텐츠를 진행 중 등록에 기록합니다. (llm 서버가 구독 요청의 사용자 콘텐츠 생성에 사용)
+     */
+    public void bindContent(String taskId, Long contentSeq) {
+        registrationMapper.updateRegistrationContentSeq(taskId, contentSeq);
+    }
+
+    /**
+     * 대표 작업이 STT 단계에서 실패하면 등록을 해제하고 구독 요청에도 오류를 전달합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void releaseWithError(String taskId, String errorMessage) {
+        try {
+            registrationMapper.deleteRegistration(taskId);
+            List<String> subscriberTaskIds = registrationMapper.selectSubscriberTaskIds(taskId);
+            for (String subscriberTaskId : subscriberTaskIds) {
+                sttConvertedProducer.sendSttResult(new LlmRequest(null, null, null, subscriberTaskId, true, errorMessage));
+            }
+            registrationMapper.deleteSubscribers(taskId);
+        } catch (Exception e) {
+            logger.error("❌ 진행 중 등록 해제 실패: taskId={}", taskId, e);
+        }
+    }
+}
@@ -51,6 +51,7 @@ public class ScriptProcessorService {
 
     private final WebClient.Builder webClientBuilder;
     private final ContentService contentService;
+    private final ContentRegistrationService contentRegistrationService;
     private final SttConvertedProducer sttConvertedProducer;
     private final UserContentMapper userContentMapper;
     private final UserMapper userMapper;
@@ -167,11 +168,13 @@ public class ScriptProcessorService {
         if(isError) {
             LlmRequest req = new LlmRequest(null, null, null, taskId, true, errorMessage);
             sttConvertedProducer.sendSttResult(req);
+            contentRegistrationService.releaseWithError(taskId, errorMessage);
             return req;
         }
 
         try {
             contentService.insertContent(contentDTO);
+            contentRegistrationService.bindContent(taskId, contentDTO.getContentSeq());
 
             LlmRequest req;
             // ✅ 여기서 userContentSeq가 자동으로 채워짐
@@ -187,12 +190,14 @@ public class ScriptProcessorService {
             logger.error("[STT] Content 저장 중 오류 발생", ex);
             LlmRequest req = new LlmRequest(null, null, null, taskId, true, "[STT] Content 저장 중 오류 발생");
             sttConvertedProducer.sendSttResult(req);
+            contentRegistrationService.releaseWithError(taskId, "[STT] Content 저장 중 오류 발생");
             throw ex;
         } catch (Exception ex) {
             logger.error("[STT] Content 저장 중 오류 발생", ex);
             BusinessException be = new BusinessException(ErrorCode.SUBTITLE_EXTRACTION_FAILED, "자막 추출에 실패했습니다.");
             LlmRequest req = new LlmRequest(null, null, null, taskId, true, "자막 추출에 실패했습니다.");
             sttConvertedProducer.sendSttResult(req);
+            contentRegistrationService.releaseWithError(taskId, "자막 추출에 실패했습니다.");
             throw be;
         }
     }
@@ -213,13 +218,17 @@ public class ScriptProcessorService {
     
     /**
      * srt 파일을 텍스트로 변환하고 삭제
+     * - 줄 목록 없이 읽는 대로 최종 스크립트에 이어 붙임 (LlmRequest로 보내야 하므로 결과는 문자열 하나)
      */
     public String printDownloadedFiles(String videoId) throws IOException {
         Path srtPath = Paths.get(uploadDir).resolve(videoId + ".ko.srt");
         if (Files.exists(srtPath)) {
-            String result = SubtitleUtil.cleanSrtToText(srtPath);
+            // 타임스탬프/번호 줄과 중복 자막이 빠지므로 원본 크기의 절반 정도로 시작
+            StringBuilder script = new StringBuilder((int) Math.min(Files.size(srtPath) / 2, Integer.MAX_VALUE - 8));
+            int lines = SubtitleUtil.appendScript(srtPath, script);
             Files.deleteIfExists(srtPath);
-            return result;
+            logger.info("📝 [STT] 자막 변환 완료: videoId={}, lines={}", videoId, lines);
+            return script.toString();
         }
         return null;
     }
@@ -10,6 +10,8 @@ import com.firzzle.stt.util.TimeUtil;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
@@ -27,6 +29,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SnapReviewService는 콘텐츠 영상에서 특정 시점의 스냅 이미지를 생성하여 저장하는 서비스입니다.
@@ -50,6 +54,14 @@ public class SnapReviewService {
     private final FrameMapper frameMapper;
     private final S3Uploader s3Uploader;
 
+    @Autowired
+    @Qualifier("frameExtractorExecutor")
+    private Executor frameExtractorExecutor;
+
+    // ffmpeg 프로세스 하나의 최대 실행 시간 (밀리초)
+    @Value("${app.snap-review.ffmpeg-timeout:60000}")
+    private long ffmpegTimeout;
+
     /**
      * SnapReview 생성 진입점 - 내부 또는 외부 방식 선택
      */
@@ -199,37 +211,21 @@ public class SnapReviewService {
                 throw new RuntimeException("스트림 URL 추출 실패 (exit=" + exitCode + ")");
             }
 
-            List<String> imageUrls = new ArrayList<>();
+            // 시점별 프레임 추출은 제한된 풀에서 병렬로 실행하고, 추출이 끝난 프레임은 바로 비동기 업로드
+            // (-ss를 -i 앞에 두어 각 ffmpeg가 스트림 전체를 디코딩하지 않고 해당 시점 근처로 바로 탐색)
+            List<CompletableFuture<String>> uploads = new ArrayList<>();
             for (int i = 0; i < request.getTimelines().size(); i++) {
                 String time = request.getTimelines().get(i);
                 String imagePath = tempDir + "/image_" + i + ".jpg";
-
-                // ffmpeg로 특정 시간의 프레임 추출
-                ProcessBuilder ffmpegPb = new ProcessBuilder(
-                    "ffmpeg", "-ss", time, "-i", streamUrl,
-                    "-vframes", "1", "-vf", "scale=854:480", "-q:v", "3", imagePath
-                );
-                ffmpegPb.redirectErrorStream(true);
-                Process ffmpegProc = ffmpegPb.start();
-
-                try (BufferedReader err = new BufferedReader(new InputStreamReader(ffmpegProc.getInputStream()))) {
-                    while (err.readLine() != null) {}
-                }
-
-                if (ffmpegProc.waitFor() != 0) {
-                    throw new RuntimeException("ffmpeg 실행 실패 (time=" + time + ")");
-                }
-
-                File imgFile = new File(imagePath);
-                if (!imgFile.exists()) {
-                    throw new RuntimeException("이미지 파일이 생성되지 않음: " + imagePath);
-                }
-
-                // S3 업로드
-                String url = s3Uploader.upload(imgFile, "images/");
-                imageUrls.add(url);
+                uploads.add(CompletableFuture
+                        .supplyAsync(() -> extractFrame(streamUrl, time, imagePath), frameExtractorExecutor)
+                        .thenCompose(imgFile -> s3Uploader.uploadAsync(imgFile, "images/")));
             }
 
+            // 임시 디렉토리 정리 전에 모든 추출/업로드가 끝날 때까지 대기 후, 실패가 있으면 예외 전파
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).handle((v, e) -> null).join();
+            List<String> imageUrls = uploads.stream().map(CompletableFuture::join).toList();
+
             return CompletableFuture.completedFuture(imageUrls);
 
         } catch (Exception e) {
@@ -240,4 +236,38 @@ public class SnapReviewService {
             FileSystemUtils.deleteRecursively(tempFolder);
         }
     }
+
+    /**
+     * ffmpeg로 특정 시간의 프레임 하나를 추출
+     */
+    private File extractFrame(String streamUrl, String time, String imagePath) {
+        try {
+            ProcessBuilder ffmpegPb = new ProcessBuilder(
+                "ffmpeg", "-nostdin", "-loglevel", "error", "-ss", time, "-i", streamUrl,
+                "-vframes", "1", "-vf", "scale=854:480", "-q:v", "3", imagePath
+            );
+            ffmpegPb.redirectErrorStream(true);
+            ffmpegPb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            Process ffmpegProc = ffmpegPb.start();
+
+            if (!ffmpegProc.waitFor(ffmpegTimeout, TimeUnit.MILLISECONDS)) {
+                ffmpegProc.destroyForcibly();
+                throw new RuntimeException("ffmpeg 실행 시간 초과 (time=" + time + ")");
+            }
+            if (ffmpegProc.exitValue() != 0) {
+                throw new RuntimeException("ffmpeg 실행 실패 (time=" + time + ")");
+            }
+
+            File imgFile = new File(imagePath);
+            if (!imgFile.exists()) {
+                throw new RuntimeException("이미지 파일이 생성되지 않음: " + imagePath);
+            }
+            return imgFile;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("ffmpeg 대기 중 인터럽트 (time=" + time + ")", e);
+        } catch (IOException e) {
+            throw new RuntimeException("ffmpeg 실행 실패 (time=" + time + ")", e);
+        }
+    }
 }
@@ -3,18 +3,22 @@ package com.firzzle.stt.util;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @RequiredArgsConstructor
 public class S3Uploader {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
 
     @Value("${cloud.aws.s3.bucket}")  // ✅ 설정에 맞게 수정
     private String bucket;
@@ -34,4 +38,19 @@ public class S3Uploader {
 
         return baseUrl + "/" + key;
     }
+
+    /**
+     * 비동기 업로드 - 업로드가 끝나면 이미지 URL로 완료
+     */
+    public CompletableFuture<String> uploadAsync(File file, String dir) {
+        String key = dir + UUID.randomUUID() + ".jpg";
+
+        return s3AsyncClient.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType("image/jpeg")
+                        .build(),
+                AsyncRequestBody.fromFile(file))
+                .thenApply(response -> baseUrl + "/" + key);
+    }
 }
\ No newline at end of file
@@ -1,15 +1,16 @@
 package com.firzzle.stt.util;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.regex.*;
+import java.util.function.Consumer;
 
-public class SubtitleUtil {
+import com.firzzle.stt.dto.ScriptLine;
 
-    private static final Pattern TIME_PATTERN =
-        Pattern.compile("^(\\d{2}:\\d{2}:\\d{2},\\d{3})\\s+-->.*$");
+public class SubtitleUtil {
 
     private static final int MIN_CHAR_THRESHOLD = 15;       // 최소 문장 길이
     private static final long MIN_TIME_DIFF_MILLIS = 2500;  // 병합 기준 시간(ms)
@@ -19,88 +20,185 @@ public class SubtitleUtil {
      * "[초] 텍스트" 형식의 문자열 반환
      */
     public static String cleanSrtToText(Path srtPath) throws IOException {
-        List<String> lines = Files.readAllLines(srtPath);
-        List<String> output = new ArrayList<>();
-        String lastRaw = "";
-        String lastTimestamp = null;
-
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            if (line.matches("^\\d+$") || line.isEmpty()) continue;
-
-            Matcher matcher = TIME_PATTERN.matcher(line);
-            if (matcher.find()) {
-                String timestamp = matcher.group(1);
-                StringBuilder sb = new StringBuilder();
-
-                for (int j = i + 1; j < lines.size(); j++) {
-                    String t = lines.get(j).trim();
-                    if (t.isEmpty() || t.matches("^\\d+$") || TIME_PATTERN.matcher(t).find()) break;
-                    if (sb.length() > 0) sb.append(" ");
-                    sb.append(t);
-                }
+        return toScript(parseSrt(srtPath));
+    }
 
-                String currentRaw = sb.toString().replaceAll("\\s+", " ").trim();
-                if (currentRaw.isEmpty() || currentRaw.equals(lastRaw)) continue;
+    /**
+     * 스크립트 줄 목록을 "[초] 텍스트" 줄바꿈 구분 문자열로 변환
+     */
+    public static String toScript(List<ScriptLine> lines) {
+        StringBuilder sb = new StringBuilder();
+        for (ScriptLine line : lines) {
+            appendScriptLine(sb, line);
+        }
+        return sb.toString();
+    }
 
-                String unique = removeOverlap(lastRaw, currentRaw);
-                if (unique.isEmpty()) continue;
+    /**
+     * SRT 파일을 읽으며 확정된 줄을 바로 "[초] 텍스트" 형식으로 out에 이어 붙임 (줄 목록을 만들지 않음)
+     * - 스크립트는 Kafka 메시지/claim-check 행에 문자열 하나로 담기므로 최종 문자열 하나만 만듦
+     *
+     * @return 출력한 줄 수
+     */
+    public static int appendScript(Path srtPath, StringBuilder out) throws IOException {
+        int[] count = {0};
+        parseSrt(srtPath, line -> {
+            appendScriptLine(out, line);
+            count[0]++;
+        });
+        return count[0];
+    }
 
-                boolean shouldMerge = unique.length() < MIN_CHAR_THRESHOLD;
-                if (!shouldMerge && lastTimestamp != null) {
-                    long diff = parseTimestampToMillis(timestamp) - parseTimestampToMillis(lastTimestamp);
-                    shouldMerge = diff < MIN_TIME_DIFF_MILLIS;
-                }
+    /**
+     * SRT 파일을 한 줄씩 읽으며(전체 적재 없이) 중복 제거 및 병합한 스크립트 줄 목록 반환
+     */
+    public static List<ScriptLine> parseSrt(Path srtPath) throws IOException {
+        List<ScriptLine> output = new ArrayList<>();
+        parseSrt(srtPath, output::add);
+        return output;
+    }
+
+    /**
+     * SRT 파일을 한 줄씩 읽으며(전체 적재 없이) 중복 제거 및 병합한 스크립트 줄을 확정되는 대로 output에 전달
+     * - 자동 생성 자막에서 반복되는 앞부분(이전 자막과 겹치는 단어)을 제거
+     * - 너무 짧거나 이전 줄과 시간 차이가 작은 자막은 이전 줄에 병합
+     */
+    public static void parseSrt(Path srtPath, Consumer<ScriptLine> output) throws IOException {
 
-                if (shouldMerge && !output.isEmpty()) {
-                    int lastIndex = output.size() - 1;
-                    output.set(lastIndex, output.get(lastIndex) + " " + unique);
-                } else {
-                    int seconds = parseTimestampToSeconds(timestamp);
-                    output.add("[" + seconds + "] " + unique);
-                    lastTimestamp = timestamp;
+        String lastRaw = "";
+        long lastStartMillis = -1;      // 마지막으로 새 줄을 시작한 자막의 시각
+        int pendingSeconds = -1;        // 아직 출력하지 않은 줄의 시각
+        StringBuilder pending = new StringBuilder();
+
+        long cueMillis = -1;            // 현재 읽고 있는 자막 블록의 시작 시각 (-1: 블록 밖)
+        StringBuilder cueText = new StringBuilder();
+
+        try (BufferedReader reader = Files.newBufferedReader(srtPath, StandardCharsets.UTF_8)) {
+            String rawLine;
+            while (true) {
+                rawLine = reader.readLine();
+                String line = rawLine == null ? null : rawLine.trim();
+                long timestamp = line == null ? -1 : parseCueStartMillis(line);
+
+                // 빈 줄/번호 줄/다음 타임스탬프/파일 끝에서 현재 자막 블록 종료
+                boolean endOfCue = line == null || line.isEmpty() || isDigits(line) || timestamp >= 0;
+                if (cueMillis >= 0 && endOfCue) {
+                    String currentRaw = cueText.toString();
+                    if (!currentRaw.isEmpty() && !currentRaw.equals(lastRaw)) {
+                        String unique = removeOverlap(lastRaw, currentRaw);
+                        if (!unique.isEmpty()) {
+                            boolean shouldMerge = unique.length() < MIN_CHAR_THRESHOLD;
+                            if (!shouldMerge && lastStartMillis >= 0) {
+                                shouldMerge = cueMillis - lastStartMillis < MIN_TIME_DIFF_MILLIS;
+                            }
+
+                            if (shouldMerge && pendingSeconds >= 0) {
+                                pending.append(' ').append(unique);
+                            } else {
+                                if (pendingSeconds >= 0) {
+                                    output.accept(new ScriptLine(pendingSeconds, pending.toString()));
+                                }
+                                pendingSeconds = (int) (cueMillis / 1000);
+                                pending.setLength(0);
+                                pending.append(unique);
+                                lastStartMillis = cueMillis;
+                            }
+                            lastRaw = currentRaw;
+                        }
+                    }
+                    cueMillis = -1;
+                    cueText.setLength(0);
                 }
 
-                lastRaw = currentRaw;
+                if (line == null) break;
+
+                if (timestamp >= 0) {
+                    cueMillis = timestamp;
+                } else if (cueMillis >= 0 && !line.isEmpty()) {
+                    appendNormalized(cueText, line);
+                }
             }
         }
 
-        return String.join("\n", output);
+        if (pendingSeconds >= 0) {
+            output.accept(new ScriptLine(pendingSeconds, pending.toString()));
+        }
+    }
+
+    private static void appendScriptLine(StringBuilder sb, ScriptLine line) {
+        if (sb.length() > 0) sb.append('\n');
+        sb.append('[').append(line.getSeconds()).append("] ").append(line.getText());
     }
 
-    /** "hh:mm:ss,SSS" 문자열을 {시, 분, 초, 밀리초}로 파싱 */
-    private static int[] parseTimeParts(String ts) {
-        String[] parts = ts.split("[:,]");
-        if (parts.length != 4) {
-            throw new IllegalArgumentException("Invalid timestamp format: " + ts);
+    /**
+     * "hh:mm:ss,SSS --> ..." 형식이면 시작 시각(ms), 아니면 -1
+     */
+    private static long parseCueStartMillis(String line) {
+        if (line.length() < 16
+                || line.charAt(2) != ':' || line.charAt(5) != ':' || line.charAt(8) != ',') {
+            return -1;
         }
-        return new int[]{
-            Integer.parseInt(parts[0]),
-            Integer.parseInt(parts[1]),
-            Integer.parseInt(parts[2]),
-            Integer.parseInt(parts[3])
-        };
+        int hours = twoDigits(line, 0);
+        int minutes = twoDigits(line, 3);
+        int seconds = twoDigits(line, 6);
+        int millis = threeDigits(line, 9);
+        if (hours < 0 || minutes < 0 || seconds < 0 || millis < 0) return -1;
+
+        // 타임스탬프 뒤에 공백 1개 이상과 "-->"가 와야 함
+        int i = 12;
+        if (!Character.isWhitespace(line.charAt(i))) return -1;
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) i++;
+        if (!line.startsWith("-->", i)) return -1;
+
+        return hours * 3600000L + minutes * 60000L + seconds * 1000L + millis;
+    }
+
+    private static int twoDigits(String s, int from) {
+        int a = s.charAt(from) - '0';
+        int b = s.charAt(from + 1) - '0';
+        if (a < 0 || a > 9 || b < 0 || b > 9) return -1;
+        return a * 10 + b;
+    }
+
+    private static int threeDigits(String s, int from) {
+        int a = twoDigits(s, from);
+        int c = s.charAt(from + 2) - '0';
+        if (a < 0 || c < 0 || c > 9) return -1;
+        return a * 10 + c;
     }
 
-    /** 초 단위 변환 (밀리초 버림) */
-    private static int parseTimestampToSeconds(String ts) {
-        int[] parts = parseTimeParts(ts);
-        return parts[0] * 3600 + parts[1] * 60 + parts[2];
+    /** 숫자로만 이루어진 줄(자막 번호) 여부 */
+    private static boolean isDigits(String line) {
+        if (line.isEmpty()) return false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
     }
 
-    /** 밀리초 단위 변환 */
-    private static long parseTimestampToMillis(String ts) {
-        int[] parts = parseTimeParts(ts);
-        return parts[0] * 3600000L + parts[1] * 60000L + parts[2] * 1000L + parts[3];
+    /** 연속 공백을 하나로 줄이며 이어 붙임 (줄 사이도 공백 하나) */
+    private static void appendNormalized(StringBuilder sb, String line) {
+        boolean space = sb.length() > 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+            } else {
+                if (space && sb.length() > 0) sb.append(' ');
+                space = false;
+                sb.append(c);
+            }
+        }
     }
 
-    /** 이전 텍스트와 현재 텍스트의 겹치는 접두사를 제거하고 새로운 부분만 반환 */
+    /** 이전 텍스트와 현재 텍스트의 겹치는 접두사를 제거하고 새로운 부분만 반환 (공백 정규화된 문자열 기준) */
     private static String removeOverlap(String prev, String curr) {
         if (prev.isEmpty()) return curr;
         if (curr.startsWith(prev)) return curr.substring(prev.length()).trim();
 
-        String[] prevWords = prev.split("\\s+");
-        String[] currWords = curr.split("\\s+");
+        String[] prevWords = prev.split(" ");
+        String[] currWords = curr.split(" ");
         int maxOverlap = Math.min(prevWords.length, currWords.length);
 
         for (int len = maxOverlap; len > 0; len--) {
@@ -112,7 +210,7 @@ public class SubtitleUtil {
                 }
             }
             if (match) {
-                return String.join(" ", Arrays.copyOfRange(currWords, len, currWords.length)).trim();
+                return String.join(" ", Arrays.copyOfRange(currWords, len, currWords.length));
             }
         }
         return curr;
@@ -8,4 +8,12 @@ public class TimeUtil {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
         return LocalDateTime.now().format(formatter);
     }
-}
\ No newline at end of file
+
+    /**
+     * 현재 시각에서 주어진 밀리초만큼 이전 시각을 yyyyMMddHHmmss 형식으로 반환
+     */
+    public static String getTimestamp14Before(long millis) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+        return LocalDateTime.now().minusNanos(millis * 1_000_000L).format(formatter);
+    }
+}
@@ -0,0 +1,31 @@
+package com.firzzle.stt.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExecutorConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(ExecutorConfig.class);
+
+    @Test
+    void frameExtractorExecutorDoesNotReplaceTheDefaultExecutor() {
+        contextRunner
+                .withPropertyValues("app.snap-review.ffmpeg-concurrency=2", "spring.task.execution.thread-name-prefix=app-")
+                .run(context -> {
+                    ThreadPoolTaskExecutor frameExtractor = context.getBean("frameExtractorExecutor", ThreadPoolTaskExecutor.class);
+                    ThreadPoolTaskExecutor application = context.getBean("applicationTaskExecutor", ThreadPoolTaskExecutor.class);
+
+                    assertThat(frameExtractor.getMaxPoolSize()).isEqualTo(2);
+                    assertThat(application).isNotSameAs(frameExtractor);
+                    assertThat(application.getThreadNamePrefix()).isEqualTo("app-");
+                    assertThat(context.getBean("taskExecutor")).isSameAs(application);
+                });
+    }
+}
@@ -0,0 +1,89 @@
+package com.firzzle.stt.kafka.producer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firzzle.stt.dto.ContentScriptDTO;
+import com.firzzle.stt.dto.LlmRequest;
+import com.firzzle.stt.mapper.ContentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SttConvertedProducerTest {
+
+    private static final int THRESHOLD = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private ContentMapper contentMapper;
+
+    private SttConvertedProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        producer = new SttConvertedProducer(kafkaTemplate, objectMapper, contentMapper);
+        ReflectionTestUtils.setField(producer, "claimCheckThreshold", THRESHOLD);
+    }
+
+    @Test
+    void longScriptIsStoredAndOnlyItsSeqIsSent() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<ContentScriptDTO>getArgument(0).setScriptSeq(77L);
+            return 1;
+        }).when(contentMapper).insertContentScript(any());
+
+        producer.sendSttResult(request("[0] 아주 긴 자막 스크립트입니다"));
+
+        ArgumentCaptor<ContentScriptDTO> stored = ArgumentCaptor.forClass(ContentScriptDTO.class);
+        verify(contentMapper).insertContentScript(stored.capture());
+        assertThat(stored.getValue().getContentSeq()).isEqualTo(5L);
+        assertThat(stored.getValue().getScript()).isEqualTo("[0] 아주 긴 자막 스크립트입니다");
+
+        JsonNode sent = sentMessage();
+        assertThat(sent.get("scriptSeq").asLong()).isEqualTo(77L);
+        assertThat(sent.get("script").isNull()).isTrue();
+    }
+
+    @Test
+    void shortScriptIsSentInline() throws Exception {
+        producer.sendSttResult(request("[0] 짧음"));
+
+        verify(contentMapper, never()).insertContentScript(any());
+        JsonNode sent = sentMessage();
+        assertThat(sent.get("script").asText()).isEqualTo("[0] 짧음");
+        assertThat(sent.get("scriptSeq").isNull()).isTrue();
+    }
+
+    private JsonNode sentMessage() throws Exception {
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        // 같은 콘텐츠의 메시지가 같은 파티션으로 가도록 contentSeq를 키로 사용
+        verify(kafkaTemplate).send(eq("stt-converted"), eq("5"), json.capture());
+        return objectMapper.readTree(json.getValue());
+    }
+
+    private static LlmRequest request(String script) {
+        LlmRequest request = new LlmRequest();
+        request.setContentSeq(5L);
+        request.setUserContentSeq(6L);
+        request.setTaskId("task-1");
+        request.setScript(script);
+        return request;
+    }
+}
@@ -0,0 +1,118 @@
+package com.firzzle.stt.service;
+
+import com.firzzle.stt.dto.ContentRegistrationDTO;
+import com.firzzle.stt.dto.LlmRequest;
+import com.firzzle.stt.kafka.producer.SttConvertedProducer;
+import com.firzzle.stt.mapper.ContentRegistrationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentRegistrationServiceTest {
+
+    private static final String VIDEO_ID = "abc123";
+    private static final String UUID = "user-1";
+    private static final String TASK_ID = "task-new";
+    private static final String LEADER_TASK_ID = "task-leader";
+
+    @Mock
+    private ContentRegistrationMapper registrationMapper;
+
+    @Mock
+    private SttConvertedProducer sttConvertedProducer;
+
+    @InjectMocks
+    private ContentRegistrationService registrationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registrationService, "claimTtl", 1_800_000L);
+    }
+
+    @Test
+    void firstRequestClaimsTheVideo() {
+        when(registrationMapper.insertRegistration(eq(VIDEO_ID), eq(TASK_ID), anyString())).thenReturn(1);
+
+        assertThat(registrationService.claim(VIDEO_ID, UUID, TASK_ID)).isTrue();
+        verify(registrationMapper, never()).insertSubscriber(any(), any(), any(), any());
+    }
+
+    @Test
+    void concurrentRequestJoinsTheRunningLeader() {
+        givenRunningLeader();
+        when(registrationMapper.insertSubscriber(eq(VIDEO_ID), eq(UUID), eq(TASK_ID), anyString())).thenReturn(1);
+
+        assertThat(registrationService.claim(VIDEO_ID, UUID, TASK_ID)).isFalse();
+    }
+
+    @Test
+    void staleLeaderIsTakenOverWithItsSubscribers() {
+        givenRunningLeader();
+        when(registrationMapper.updateStaleRegistration(eq(VIDEO_ID), eq(LEADER_TASK_ID), eq(TASK_ID), anyString(), anyString()))
+                .thenReturn(1);
+
+        assertThat(registrationService.claim(VIDEO_ID, UUID, TASK_ID)).isTrue();
+        verify(registrationMapper).updateSubscribersLeader(LEADER_TASK_ID, TASK_ID);
+        verify(registrationMapper, never()).insertSubscriber(any(), any(), any(), any());
+    }
+
+    @Test
+    void claimIsRetriedWhenTheLeaderReleasesInBetween() {
+        when(registrationMapper.insertRegistration(eq(VIDEO_ID), eq(TASK_ID), anyString())).thenReturn(0, 1);
+        when(registrationMapper.selectRegistration(VIDEO_ID)).thenReturn(null);
+
+        assertThat(registrationService.claim(VIDEO_ID, UUID, TASK_ID)).isTrue();
+        verify(registrationMapper, times(2)).insertRegistration(eq(VIDEO_ID), eq(TASK_ID), anyString());
+    }
+
+    @Test
+    void persistentContentionFallsBackToStandaloneProcessing() {
+        givenRunningLeader();
+
+        assertThat(registrationService.claim(VIDEO_ID, UUID, TASK_ID)).isTrue();
+        verify(registrationMapper, times(3)).insertSubscriber(eq(VIDEO_ID), eq(UUID), eq(TASK_ID), anyString());
+    }
+
+    @Test
+    void leaderFailureIsForwardedToEverySubscriber() {
+        when(registrationMapper.selectSubscriberTaskIds(LEADER_TASK_ID)).thenReturn(List.of("task-a", "task-b"));
+
+        registrationService.releaseWithError(LEADER_TASK_ID, "STT 실패");
+
+        ArgumentCaptor<LlmRequest> sent = ArgumentCaptor.forClass(LlmRequest.class);
+        verify(sttConvertedProducer, times(2)).sendSttResult(sent.capture());
+        assertThat(sent.getAllValues()).extracting(LlmRequest::getTaskId).containsExactly("task-a", "task-b");
+        assertThat(sent.getAllValues()).allSatisfy(request -> {
+            assertThat(request.isError()).isTrue();
+            assertThat(request.getErrorMessage()).isEqualTo("STT 실패");
+        });
+        verify(registrationMapper).deleteRegistration(LEADER_TASK_ID);
+        verify(registrationMapper).deleteSubscribers(LEADER_TASK_ID);
+    }
+
+    private void givenRunningLeader() {
+        ContentRegistrationDTO leader = ContentRegistrationDTO.builder()
+                .videoId(VIDEO_ID)
+                .taskId(LEADER_TASK_ID)
+                .build();
+        when(registrationMapper.insertRegistration(eq(VIDEO_ID), eq(TASK_ID), anyString())).thenReturn(0);
+        when(registrationMapper.selectRegistration(VIDEO_ID)).thenReturn(leader);
+    }
+}
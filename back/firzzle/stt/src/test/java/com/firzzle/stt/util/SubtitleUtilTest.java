@@ -0,0 +1,151 @@
+package com.firzzle.stt.util;
+
+import com.firzzle.stt.dto.ScriptLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubtitleUtilTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void removesRepeatedPrefixAndMergesShortCues() throws IOException {
+        // 준비: 자동 생성 자막처럼 이전 자막 문장이 다음 자막 앞에 반복됨
+        Path srt = write("""
+                1
+                00:00:01,000 --> 00:00:04,000
+                안녕하세요 여러분 오늘은
+
+                2
+                00:00:04,000 --> 00:00:07,000
+                안녕하세요 여러분 오늘은
+                자바 스트림에 대해 알아보겠습니다
+
+                3
+                00:00:10,000 --> 00:00:12,000
+                네
+
+                4
+                00:00:20,000 --> 00:00:23,000
+                다음으로 컬렉션 프레임워크를 살펴봅시다
+                """);
+
+        // 실행
+        String script = SubtitleUtil.cleanSrtToText(srt);
+
+        // 검증: 반복된 앞부분 제거, 짧은 자막("네")은 이전 줄에 병합
+        assertThat(script).isEqualTo("""
+                [1] 안녕하세요 여러분 오늘은
+                [4] 자바 스트림에 대해 알아보겠습니다 네
+                [20] 다음으로 컬렉션 프레임워크를 살펴봅시다""");
+    }
+
+    @Test
+    void removesWordOverlapAndSkipsDuplicateCues() throws IOException {
+        // 준비
+        Path srt = write("""
+                1
+                00:00:00,000 --> 00:00:05,000
+                the quick brown fox jumps
+
+                2
+                00:00:05,000 --> 00:00:10,000
+                fox jumps over the lazy dog today
+
+                3
+                00:00:10,000 --> 00:00:15,000
+                fox jumps over the lazy dog today
+                """);
+
+        // 실행
+        List<ScriptLine> lines = SubtitleUtil.parseSrt(srt);
+
+        // 검증
+        assertThat(lines).extracting(ScriptLine::getSeconds).containsExactly(0, 5);
+        assertThat(lines).extracting(ScriptLine::getText)
+                .containsExactly("the quick brown fox jumps", "over the lazy dog today");
+    }
+
+    @Test
+    void normalizesWhitespaceAndHandlesCrlf() throws IOException {
+        // 준비
+        Path srt = write("1\r\n00:01:02,500 --> 00:01:05,000\r\n  hello    world \r\n again   and again  \r\n\r\n");
+
+        // 실행
+        List<ScriptLine> lines = SubtitleUtil.parseSrt(srt);
+
+        // 검증: 시각은 초 단위로 내림, 줄 사이와 연속 공백은 공백 하나
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).getSeconds()).isEqualTo(62);
+        assertThat(lines.get(0).getText()).isEqualTo("hello world again and again");
+    }
+
+    @Test
+    void ignoresTextOutsideCuesAndMalformedTimestamps() throws IOException {
+        // 준비
+        Path srt = write("""
+                WEBVTT header text
+                1
+                00:00:xx,000 --> 00:00:05,000
+                not a cue because timestamp is malformed
+
+                2
+                00:00:07,000 --> 00:00:09,000
+                valid subtitle line appears here
+                """);
+
+        // 실행
+        String script = SubtitleUtil.cleanSrtToText(srt);
+
+        // 검증
+        assertThat(script).isEqualTo("[7] valid subtitle line appears here");
+    }
+
+    @Test
+    void appendScriptMatchesListBasedConversion() throws IOException {
+        // 준비
+        Path srt = write("""
+                1
+                00:00:00,000 --> 00:00:03,000
+                first subtitle line is long enough
+
+                2
+                00:00:03,000 --> 00:00:06,000
+                second subtitle line is long enough
+                """);
+        StringBuilder out = new StringBuilder();
+
+        // 실행
+        int count = SubtitleUtil.appendScript(srt, out);
+
+        // 검증
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString()).isEqualTo(SubtitleUtil.toScript(SubtitleUtil.parseSrt(srt)));
+    }
+
+    @Test
+    void emptyFileProducesEmptyScript() throws IOException {
+        // 준비
+        Path srt = write("");
+        StringBuilder out = new StringBuilder();
+
+        // 실행 / 검증
+        assertThat(SubtitleUtil.appendScript(srt, out)).isZero();
+        assertThat(out).isEmpty();
+    }
+
+    private Path write(String content) throws IOException {
+        Path srt = Files.createTempFile(tempDir, "subtitle", ".srt");
+        Files.writeString(srt, content, StandardCharsets.UTF_8);
+        return srt;
+    }
+}